@@ -0,0 +1,144 @@
+package com.api.framework.benchmarks;
+
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.utils.Constants;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BenchmarkPayloads class builds deterministic clients, resources and API-shaped JSON lists of any size.
+ * <p>
+ * The JSON follows the API's wire format (resource {@code stock} and {@code price} are numbers), so it
+ * passes the list schemas under {@code schemas/}. Responses are built locally with {@link ResponseBuilder},
+ * so benchmarks measure decoding and validation without any network time.
+ * </p>
+ * Example usage:
+ * {@code
+ * String json = BenchmarkPayloads.json(Constants.CLIENTS_PATH, 10_000);
+ * Response response = BenchmarkPayloads.response(json);
+ * }
+ */
+final class BenchmarkPayloads {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Builds model objects of an entity type.
+     *
+     * @param entity The entity path, {@link Constants#CLIENTS_PATH} or {@link Constants#RESOURCES_PATH}.
+     * @param count  The number of objects.
+     * @return A list of Client or Resource objects.
+     */
+    static List<Object> entities(String entity, int count) {
+        List<Object> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(Constants.CLIENTS_PATH.equals(entity) ? client(i) : resource(i));
+        }
+        return entities;
+    }
+
+    /**
+     * Builds the JSON array the API returns for a list of an entity type.
+     *
+     * @param entity The entity path.
+     * @param count  The number of elements.
+     * @return The JSON text.
+     */
+    static String json(String entity, int count) {
+        StringBuilder json = new StringBuilder(count * 200 + 2).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            if (Constants.CLIENTS_PATH.equals(entity)) {
+                Client client = client(i);
+                json.append("{\"name\":\"").append(client.getName())
+                        .append("\",\"lastName\":\"").append(client.getLastName())
+                        .append("\",\"country\":\"").append(client.getCountry())
+                        .append("\",\"city\":\"").append(client.getCity())
+                        .append("\",\"phone\":\"").append(client.getPhone())
+                        .append("\",\"email\":\"").append(client.getEmail())
+                        .append("\",\"id\":\"").append(client.getId()).append("\"}");
+            } else {
+                Resource resource = resource(i);
+                json.append("{\"name\":\"").append(resource.getName())
+                        .append("\",\"trademark\":\"").append(resource.getTrademark())
+                        .append("\",\"stock\":").append(resource.getStock())
+                        .append(",\"price\":").append(resource.getPrice())
+                        .append(",\"description\":\"").append(resource.getDescription())
+                        .append("\",\"id\":\"").append(resource.getId())
+                        .append("\",\"tags\":\"").append(resource.getTags())
+                        .append("\",\"active\":").append(resource.getActive()).append('}');
+            }
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Wraps a JSON body in a 200 response, as if it had been received from the API.
+     *
+     * @param json The JSON body.
+     * @return The response.
+     */
+    static Response response(String json) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType(ContentType.JSON)
+                .setBody(json)
+                .build();
+    }
+
+    /**
+     * Returns the model class of an entity type.
+     *
+     * @param entity The entity path.
+     * @return Client.class or Resource.class.
+     */
+    static Class<?> modelType(String entity) {
+        return Constants.CLIENTS_PATH.equals(entity) ? Client.class : Resource.class;
+    }
+
+    /**
+     * Returns the model array class of an entity type.
+     *
+     * @param entity The entity path.
+     * @return Client[].class or Resource[].class.
+     */
+    static Class<?> arrayType(String entity) {
+        return Constants.CLIENTS_PATH.equals(entity) ? Client[].class : Resource[].class;
+    }
+
+    private static Client client(int index) {
+        return Client.builder()
+                .name("Name" + index)
+                .lastName("LastName" + index)
+                .country("Colombia")
+                .city("Bogota")
+                .phone(String.valueOf(3_000_000_000L + index))
+                .email("client" + index + "@example.com")
+                .id(String.valueOf(index + 1))
+                .build();
+    }
+
+    private static Resource resource(int index) {
+        return Resource.builder()
+                .name("Resource " + index)
+                .trademark("Brand " + index % 50)
+                .stock(String.valueOf(index % 1000 + 0.5))
+                .price(String.valueOf(index % 100 + 0.99))
+                .description("Synthetic resource number " + index)
+                .id(String.valueOf(index + 1))
+                .tags("tag" + index % 10 + ",benchmark")
+                .active(index % 2 == 0)
+                .build();
+    }
+}
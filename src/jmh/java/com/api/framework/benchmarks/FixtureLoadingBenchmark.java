@@ -0,0 +1,67 @@
+package com.api.framework.benchmarks;
+
+import com.api.framework.data.FixtureStore;
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.utils.JsonFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FixtureLoadingBenchmark class compares reading the default fixtures from disk with {@link JsonFileReader}
+ * against copying the cached templates of {@link FixtureStore}.
+ * <p>
+ * Run it from the project root, since the {@link JsonFileReader} variants read the fixtures by their
+ * path in the source tree.
+ * </p>
+ * Example usage:
+ * {@code
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="FixtureLoading"
+ * }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixtureLoadingBenchmark {
+    private static final String CLIENT_FILE = "src/main/resources/data/defaultClient.json";
+    private static final String RESOURCE_FILE = "src/main/resources/data/defaultResource.json";
+
+    private final JsonFileReader jsonFileReader = new JsonFileReader();
+
+    @Benchmark
+    public Client jsonFileReaderClient() {
+        return jsonFileReader.getClientByJson(CLIENT_FILE);
+    }
+
+    @Benchmark
+    public Resource jsonFileReaderResource() {
+        return jsonFileReader.getResourceByJson(RESOURCE_FILE);
+    }
+
+    @Benchmark
+    public Client fixtureStoreClient() {
+        return FixtureStore.defaultClient();
+    }
+
+    @Benchmark
+    public Resource fixtureStoreResource() {
+        return FixtureStore.defaultResource();
+    }
+
+    @Benchmark
+    public Client fixtureStoreUniqueClient() {
+        return FixtureStore.uniqueClient();
+    }
+}
@@ -0,0 +1,73 @@
+package com.api.framework.benchmarks;
+
+import com.api.framework.utils.Constants;
+import com.api.framework.utils.JsonStreamDecoder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * ListDecodingBenchmark class compares RestAssured's {@code JsonPath.getList} with {@link JsonStreamDecoder}
+ * for decoding list responses into model objects.
+ * <p>
+ * {@code jsonPathGetList} is how list responses were decoded before the streaming decoder; the streaming
+ * variants are what {@code getClientsEntity} and {@code streamClientsEntity} do now.
+ * </p>
+ * Example usage:
+ * {@code
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="ListDecoding -p entity=clients"
+ * }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListDecodingBenchmark {
+    @Param({"1", "100", "10000", "100000"})
+    private int size;
+
+    @Param({Constants.CLIENTS_PATH, Constants.RESOURCES_PATH})
+    private String entity;
+
+    private Response response;
+    private Class<?> modelType;
+
+    @Setup
+    public void setUp() {
+        modelType = BenchmarkPayloads.modelType(entity);
+        response = BenchmarkPayloads.response(BenchmarkPayloads.json(entity, size));
+    }
+
+    @Benchmark
+    public List<?> jsonPathGetList() {
+        return response.jsonPath().getList("", modelType);
+    }
+
+    @Benchmark
+    public List<?> streamingReadList() {
+        return JsonStreamDecoder.readList(response.asInputStream(), modelType);
+    }
+
+    @Benchmark
+    public void streamingIterate(Blackhole blackhole) {
+        try (Stream<?> elements = JsonStreamDecoder.stream(response.asInputStream(), modelType)) {
+            elements.forEach(blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.api.framework.benchmarks;
+
+import com.api.framework.utils.Constants;
+import com.api.framework.utils.SchemaRegistry;
+import com.api.framework.utils.StreamingSchemaValidator;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchemaValidationBenchmark class measures list schema validation with and without schema caching, and streamed.
+ * <p>
+ * {@code uncached} goes through RestAssured's {@code matchesJsonSchemaInClasspath}, which loads and
+ * compiles the schema on every call, as {@code validateSchema} did before {@link SchemaRegistry}.
+ * {@code cached} is the current {@code validateSchema}, which reuses the compiled schema.
+ * {@code streamed} validates one element at a time with {@link StreamingSchemaValidator}, as
+ * {@code validateSchema} does for large lists.
+ * </p>
+ * Example usage:
+ * {@code
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="SchemaValidation -p size=1"
+ * }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaValidationBenchmark {
+    @Param({"1", "100", "10000", "100000"})
+    private int size;
+
+    @Param({Constants.CLIENTS_PATH, Constants.RESOURCES_PATH})
+    private String entity;
+
+    private String json;
+    private byte[] body;
+    private String schemaPath;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkPayloads.json(entity, size);
+        body = json.getBytes(StandardCharsets.UTF_8);
+        String schema = Constants.CLIENTS_PATH.equals(entity) ? "clientListSchema.json" : "resourceListSchema.json";
+        schemaPath = Constants.SCHEMAS_DIRECTORY + "/" + schema;
+        if (!SchemaRegistry.matches(json, schemaPath)) {
+            throw new IllegalStateException("The benchmark payload does not match " + schemaPath);
+        }
+    }
+
+    @Benchmark
+    public boolean uncached() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath(schemaPath).matches(json);
+    }
+
+    @Benchmark
+    public boolean cached() {
+        return SchemaRegistry.matches(json, schemaPath);
+    }
+
+    @Benchmark
+    public boolean streamed() {
+        return StreamingSchemaValidator.validate(new ByteArrayInputStream(body), schemaPath).isValid();
+    }
+}
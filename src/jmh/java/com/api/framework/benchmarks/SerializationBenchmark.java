@@ -0,0 +1,99 @@
+package com.api.framework.benchmarks;
+
+import com.api.framework.serialization.JsonMapper;
+import com.api.framework.utils.Constants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SerializationBenchmark class compares reflective Gson, RestAssured's default object mapper and the shared
+ * {@link JsonMapper} with its hand-written type adapters for Client and Resource lists.
+ * <p>
+ * RestAssured maps bodies with Jackson whenever Jackson is on the classpath, which it is here through the
+ * schema validator. The RestAssured side uses the Jackson {@link ObjectMapper} produced by RestAssured's
+ * configured factory for serialization, and {@link Response#as(Class)} for deserialization, exactly as
+ * {@code getClientEntity(Response)} did before {@link JsonMapper} was configured as RestAssured's mapper.
+ * </p>
+ * Example usage:
+ * {@code
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="Serialization -p size=1000"
+ * }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"1", "100", "10000", "100000"})
+    private int size;
+
+    @Param({Constants.CLIENTS_PATH, Constants.RESOURCES_PATH})
+    private String entity;
+
+    private final Gson gson = new Gson();
+    private ObjectMapper restAssuredMapper;
+    private List<Object> entities;
+    private String json;
+    private Response response;
+    private Class<?> arrayType;
+
+    @Setup
+    public void setUp() {
+        arrayType = BenchmarkPayloads.arrayType(entity);
+        restAssuredMapper = RestAssured.config().getObjectMapperConfig().jackson2ObjectMapperFactory()
+                .create(arrayType, StandardCharsets.UTF_8.name());
+        entities = BenchmarkPayloads.entities(entity, size);
+        json = BenchmarkPayloads.json(entity, size);
+        response = BenchmarkPayloads.response(json);
+    }
+
+    @Benchmark
+    public String gsonSerialize() {
+        return gson.toJson(entities);
+    }
+
+    @Benchmark
+    public String restAssuredSerialize() throws JsonProcessingException {
+        return restAssuredMapper.writeValueAsString(entities);
+    }
+
+    @Benchmark
+    public Object gsonDeserialize() {
+        return gson.fromJson(json, arrayType);
+    }
+
+    @Benchmark
+    public Object restAssuredDeserialize() {
+        return response.as(arrayType);
+    }
+
+    @Benchmark
+    public String jsonMapperSerialize() {
+        return JsonMapper.toJson(entities);
+    }
+
+    @Benchmark
+    public Object jsonMapperDeserialize() {
+        return JsonMapper.fromJson(json, arrayType);
+    }
+}
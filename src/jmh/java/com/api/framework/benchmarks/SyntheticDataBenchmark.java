@@ -0,0 +1,76 @@
+package com.api.framework.benchmarks;
+
+import com.api.framework.data.FixtureStore;
+import com.api.framework.data.SyntheticDataGenerator;
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.serialization.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SyntheticDataBenchmark class compares producing request bodies for new entities with
+ * {@link SyntheticDataGenerator} against deriving them from the fixtures of {@link FixtureStore}.
+ * <p>
+ * The {@code ...Json} variants measure the whole path to the bytes sent on the wire: building a model
+ * and serializing it with {@link JsonMapper}, or writing the JSON bytes directly.
+ * </p>
+ * Example usage:
+ * {@code
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="SyntheticData -prof gc"
+ * }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyntheticDataBenchmark {
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+
+    @Benchmark
+    public Client fixtureStoreUniqueClient() {
+        return FixtureStore.uniqueClient();
+    }
+
+    @Benchmark
+    public Client generatorClient() {
+        return generator.nextClient();
+    }
+
+    @Benchmark
+    public byte[] fixtureStoreUniqueClientJson() {
+        return JsonMapper.toJson(FixtureStore.uniqueClient()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] generatorClientModelJson() {
+        return JsonMapper.toJson(generator.nextClient()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] generatorClientJson() {
+        return generator.nextClientJson();
+    }
+
+    @Benchmark
+    public Resource generatorResource() {
+        return generator.nextResource();
+    }
+
+    @Benchmark
+    public byte[] generatorResourceJson() {
+        return generator.nextResourceJson();
+    }
+}
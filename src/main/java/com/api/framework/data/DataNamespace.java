@@ -0,0 +1,194 @@
+package com.api.framework.data;
+
+import com.api.framework.requests.TrafficLog;
+import com.api.framework.utils.ConfigReader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataNamespace class scopes the entities a test works with, so tests running in parallel do not see or
+ * change each other's data.
+ * <p>
+ * An isolated namespace records the ID of every entity created through it, per entity type and in
+ * creation order. Tests then count, list, update and delete only the entities they own, and refer to
+ * them by local IDs: {@code "1"} is the first entity the namespace created, {@code "2"} the second, and
+ * so on, whatever IDs the API assigned. This keeps scenarios written against a fresh API, such as
+ * "update the client with ID 1", meaningful when many of them share one API at the same time.
+ * </p>
+ * <p>
+ * The {@link #shared()} namespace does not isolate anything: it owns every entity and passes IDs through
+ * unchanged, which is the behavior of sequential runs. {@link #fromConfig()} picks one or the other from
+ * {@code api.data.isolation}.
+ * </p>
+ * <p>
+ * Namespace names and the variants of {@link FixtureStore} carry a run token, which ends up in request
+ * bodies. {@link TrafficLog} keys recorded requests by their bodies, so while traffic is recorded or replayed
+ * the token is fixed instead of taken from the clock, and a replay sends the same bodies as its recording.
+ * The sequence numbers must then also match, so isolated namespaces only replay when scenarios run in the
+ * same order as when they were recorded, that is sequentially.
+ * </p>
+ * Example usage:
+ * {@code
+ * DataNamespace namespace = DataNamespace.isolated();
+ * DataSeeder.ensureClients(clientRequest, 10, namespace);
+ * Response response = clientRequest.getClient(namespace.resolve(Constants.CLIENTS_PATH, "1"));
+ * }
+ */
+public class DataNamespace {
+    private static final DataNamespace SHARED = new DataNamespace(null);
+    private static final String RECORDING_RUN_TOKEN = "rec";
+    static final String RUN_TOKEN = runToken();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final String name;
+    private final Map<String, List<String>> created = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a namespace.
+     *
+     * @param name The name of an isolated namespace, or null for the shared one.
+     */
+    private DataNamespace(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the namespace that does not isolate anything.
+     *
+     * @return The shared namespace.
+     */
+    public static DataNamespace shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a new isolated namespace with a name unique within the run.
+     *
+     * @return A new isolated namespace.
+     */
+    public static DataNamespace isolated() {
+        return new DataNamespace("ns-" + RUN_TOKEN + "-" + SEQUENCE.incrementAndGet());
+    }
+
+    /**
+     * Returns the token distinguishing the data of this run from data left by earlier runs.
+     *
+     * @return The start time of the run, or a fixed token while traffic is recorded or replayed.
+     */
+    private static String runToken() {
+        if (TrafficLog.isRecording() || TrafficLog.isReplaying()) {
+            return RECORDING_RUN_TOKEN;
+        }
+        return Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    /**
+     * Returns a new isolated namespace if {@code api.data.isolation} is true, the shared namespace otherwise.
+     *
+     * @return The namespace selected by the configuration.
+     */
+    public static DataNamespace fromConfig() {
+        return ConfigReader.getBoolean("api.data.isolation", false) ? isolated() : shared();
+    }
+
+    /**
+     * Indicates whether this namespace isolates its entities.
+     *
+     * @return True for an isolated namespace, false for the shared one.
+     */
+    public boolean isIsolated() {
+        return name != null;
+    }
+
+    /**
+     * Returns the name of the namespace, for example to label logs.
+     *
+     * @return The name, or {@code "shared"} for the shared namespace.
+     */
+    public String getName() {
+        return isIsolated() ? name : "shared";
+    }
+
+    /**
+     * Records an entity created through this namespace. The shared namespace ignores it.
+     *
+     * @param entityPath The entity path, for example {@link com.api.framework.utils.Constants#CLIENTS_PATH}.
+     * @param id         The ID the API assigned to the entity.
+     */
+    public void register(String entityPath, String id) {
+        if (isIsolated() && id != null) {
+            created.computeIfAbsent(entityPath, key -> new CopyOnWriteArrayList<>()).add(id);
+        }
+    }
+
+    /**
+     * Indicates whether an entity belongs to this namespace.
+     *
+     * @param entityPath The entity path.
+     * @param id         The ID of the entity.
+     * @return True if the entity was created through this namespace, always true for the shared namespace.
+     */
+    public boolean owns(String entityPath, String id) {
+        if (!isIsolated()) {
+            return true;
+        }
+        List<String> ids = created.get(entityPath);
+        return ids != null && ids.contains(id);
+    }
+
+    /**
+     * Translates an ID written in a test, such as {@code "1"} in a feature file, into the ID the API assigned.
+     * Apply it only to IDs written in tests, never to IDs read from responses.
+     *
+     * @param entityPath The entity path.
+     * @param id         A local ID, or a non-numeric ID that is passed through.
+     * @return The ID of the n-th entity created through this namespace for a local ID n. The shared namespace
+     * returns the given ID.
+     * @throws IllegalArgumentException if an isolated namespace has not created the n-th entity, since the
+     *                                  literal ID could belong to another namespace.
+     */
+    public String resolve(String entityPath, String id) {
+        if (!isIsolated() || id == null) {
+            return id;
+        }
+        int position;
+        try {
+            position = Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return id;
+        }
+        List<String> ids = ids(entityPath);
+        if (position < 1 || position > ids.size()) {
+            throw new IllegalArgumentException("Namespace " + name + " has no " + entityPath + " with local ID " + id
+                    + "; it created " + ids.size());
+        }
+        return ids.get(position - 1);
+    }
+
+    /**
+     * Returns the IDs of the entities created through this namespace.
+     *
+     * @param entityPath The entity path.
+     * @return An unmodifiable list of IDs in creation order, always empty for the shared namespace.
+     */
+    public List<String> ids(String entityPath) {
+        List<String> ids = created.get(entityPath);
+        return ids == null ? List.of() : List.copyOf(ids);
+    }
+
+    /**
+     * Forgets every recorded entity, for example after they were deleted.
+     */
+    public void clear() {
+        created.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
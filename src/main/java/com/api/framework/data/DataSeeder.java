@@ -0,0 +1,289 @@
+package com.api.framework.data;
+
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.requests.BulkExecutor;
+import com.api.framework.requests.BulkItemResult;
+import com.api.framework.requests.BulkResult;
+import com.api.framework.requests.ClientRequest;
+import com.api.framework.requests.ResourceQuery;
+import com.api.framework.requests.ResourceRequest;
+import com.api.framework.requests.TrafficLog;
+import com.api.framework.utils.Constants;
+import io.restassured.response.Response;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * DataSeeder class makes sure the API holds at least a given number of entities.
+ * <p>
+ * The collection is read once to compute the deficit, every missing entity is created concurrently
+ * through {@link BulkExecutor}, and one final read verifies the result. That is two reads per call,
+ * however many entities are missing, instead of one read after every creation.
+ * </p>
+ * <p>
+ * By default every created entity is a copy of the default fixture. The overloads taking a
+ * {@link SyntheticDataGenerator} create distinct entities instead, posted as pre-serialized JSON. The
+ * overloads taking a {@link DataNamespace} only count the entities the namespace owns and record the
+ * ones they create in it, so tests running in parallel seed and see their own data. A client template
+ * can be passed to seed copies of the client a test describes instead of the default fixture.
+ * </p>
+ * Example usage:
+ * {@code
+ * SeedResult result = DataSeeder.ensureClients(clientRequest, 10);
+ * DataSeeder.ensureActiveResources(resourceRequest, 5);
+ * DataSeeder.ensureClients(clientRequest, 10_000, new SyntheticDataGenerator(42));
+ * }
+ */
+public final class DataSeeder {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DataSeeder() {
+    }
+
+    /**
+     * Ensures at least the given number of clients exist, creating copies of the default client as needed.
+     *
+     * @param clientRequest The request helper used to read and create clients.
+     * @param minimum       The minimum number of clients.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureClients(ClientRequest clientRequest, int minimum) {
+        return ensureClients(clientRequest, minimum, DataNamespace.shared());
+    }
+
+    /**
+     * Ensures a namespace owns at least the given number of clients, creating copies of the default client in it as needed.
+     *
+     * @param clientRequest The request helper used to read and create clients.
+     * @param minimum       The minimum number of clients.
+     * @param namespace     The namespace whose clients are counted and which records the created ones.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureClients(ClientRequest clientRequest, int minimum, DataNamespace namespace) {
+        return ensureClients(clientRequest, minimum, namespace, FixtureStore.defaultClient());
+    }
+
+    /**
+     * Ensures a namespace owns at least the given number of clients, creating copies of a template in it as needed.
+     * <p>
+     * An isolated namespace that owned no clients before resolves local ID {@code "1"} to a copy of the template,
+     * so a scenario can seed from the client its own steps describe and then refer to it by that ID.
+     * </p>
+     *
+     * @param clientRequest The request helper used to read and create clients.
+     * @param minimum       The minimum number of clients.
+     * @param namespace     The namespace whose clients are counted and which records the created ones.
+     * @param template      The client every created client copies, without an ID.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureClients(ClientRequest clientRequest, int minimum, DataNamespace namespace,
+                                           Client template) {
+        return seed("clients", minimum,
+                () -> clientRequest.getClientsEntity(read(clientRequest.getClients())),
+                client -> namespace.owns(Constants.CLIENTS_PATH, client.getId()),
+                () -> clientRequest.createClientAsync(template),
+                registrar(namespace, Constants.CLIENTS_PATH, response -> clientRequest.getClientEntity(response).getId()));
+    }
+
+    /**
+     * Ensures at least the given number of resources exist, creating copies of the default resource as needed.
+     *
+     * @param resourceRequest The request helper used to read and create resources.
+     * @param minimum         The minimum number of resources.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureResources(ResourceRequest resourceRequest, int minimum) {
+        return ensureResources(resourceRequest, minimum, DataNamespace.shared());
+    }
+
+    /**
+     * Ensures a namespace owns at least the given number of resources, creating copies of the default resource in it as needed.
+     *
+     * @param resourceRequest The request helper used to read and create resources.
+     * @param minimum         The minimum number of resources.
+     * @param namespace       The namespace whose resources are counted and which records the created ones.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureResources(ResourceRequest resourceRequest, int minimum, DataNamespace namespace) {
+        Resource template = FixtureStore.defaultResource();
+        return seed("resources", minimum,
+                () -> resourceRequest.getResourcesEntity(read(resourceRequest.getResources())),
+                resource -> namespace.owns(Constants.RESOURCES_PATH, resource.getId()),
+                () -> resourceRequest.createResourceAsync(template),
+                registrar(namespace, Constants.RESOURCES_PATH, response -> resourceRequest.getResourceEntity(response).getId()));
+    }
+
+    /**
+     * Ensures at least the given number of clients exist, creating distinct synthetic clients as needed.
+     *
+     * @param clientRequest The request helper used to read and create clients.
+     * @param minimum       The minimum number of clients.
+     * @param generator     The generator whose next clients are posted as pre-serialized JSON.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureClients(ClientRequest clientRequest, int minimum, SyntheticDataGenerator generator) {
+        return seed("clients", minimum,
+                () -> clientRequest.getClientsEntity(read(clientRequest.getClients())),
+                client -> true,
+                () -> clientRequest.createClientAsync(generator.nextClientJson()));
+    }
+
+    /**
+     * Ensures at least the given number of resources exist, creating distinct synthetic resources as needed.
+     *
+     * @param resourceRequest The request helper used to read and create resources.
+     * @param minimum         The minimum number of resources.
+     * @param generator       The generator whose next resources are posted as pre-serialized JSON.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureResources(ResourceRequest resourceRequest, int minimum, SyntheticDataGenerator generator) {
+        return seed("resources", minimum,
+                () -> resourceRequest.getResourcesEntity(read(resourceRequest.getResources())),
+                resource -> true,
+                () -> resourceRequest.createResourceAsync(generator.nextResourceJson()));
+    }
+
+    /**
+     * Ensures at least the given number of active resources exist, creating active copies of the default resource as needed.
+     *
+     * @param resourceRequest The request helper used to read and create resources.
+     * @param minimum         The minimum number of active resources.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureActiveResources(ResourceRequest resourceRequest, int minimum) {
+        return ensureActiveResources(resourceRequest, minimum, DataNamespace.shared());
+    }
+
+    /**
+     * Ensures a namespace owns at least the given number of active resources, creating active copies of the default
+     * resource in it as needed.
+     *
+     * @param resourceRequest The request helper used to read and create resources.
+     * @param minimum         The minimum number of active resources.
+     * @param namespace       The namespace whose resources are counted and which records the created ones.
+     * @return The seeding report.
+     */
+    public static SeedResult ensureActiveResources(ResourceRequest resourceRequest, int minimum, DataNamespace namespace) {
+        Resource template = FixtureStore.defaultResource();
+        template.setActive(true);
+        return seed("active resources", minimum,
+                () -> {
+                    try (Stream<Resource> active = resourceRequest.findResources(new ResourceQuery().active(true))) {
+                        return active.collect(Collectors.toList());
+                    }
+                },
+                resource -> Boolean.TRUE.equals(resource.getActive()) && namespace.owns(Constants.RESOURCES_PATH, resource.getId()),
+                () -> resourceRequest.createResourceAsync(template),
+                registrar(namespace, Constants.RESOURCES_PATH, response -> resourceRequest.getResourceEntity(response).getId()));
+    }
+
+    /**
+     * Ensures at least the given number of matching entities exist.
+     *
+     * @param description A description of what is counted, used in reports and errors.
+     * @param minimum     The minimum number of matching entities.
+     * @param reader      Reads the candidate entities, for example the whole collection.
+     * @param matcher     Selects the entities that count towards the minimum.
+     * @param creator     Sends the request creating one matching entity.
+     * @param <T>         The entity type.
+     * @return The seeding report.
+     * @throws com.api.framework.requests.BulkOperationException if any creation failed.
+     * @throws IllegalStateException if the verification read still finds fewer entities than required.
+     */
+    public static <T> SeedResult seed(String description, int minimum, Supplier<List<T>> reader,
+                                      Predicate<T> matcher, Supplier<CompletableFuture<Response>> creator) {
+        return seed(description, minimum, reader, matcher, creator, response -> {
+        });
+    }
+
+    /**
+     * Ensures at least the given number of matching entities exist, reporting every created entity.
+     *
+     * @param description A description of what is counted, used in reports and errors.
+     * @param minimum     The minimum number of matching entities.
+     * @param reader      Reads the candidate entities, for example the whole collection.
+     * @param matcher     Selects the entities that count towards the minimum.
+     * @param creator     Sends the request creating one matching entity.
+     * @param onCreated   Receives the response of every successful creation, in submission order.
+     * @param <T>         The entity type.
+     * @return The seeding report.
+     * @throws com.api.framework.requests.BulkOperationException if any creation failed.
+     * @throws IllegalStateException if the verification read still finds fewer entities than required.
+     */
+    public static <T> SeedResult seed(String description, int minimum, Supplier<List<T>> reader,
+                                      Predicate<T> matcher, Supplier<CompletableFuture<Response>> creator,
+                                      Consumer<Response> onCreated) {
+        long initialCount = reader.get().stream().filter(matcher).count();
+        int deficit = (int) Math.max(0, minimum - initialCount);
+        if (deficit == 0) {
+            return new SeedResult(description, initialCount, 0, initialCount);
+        }
+
+        List<Integer> slots = IntStream.range(0, deficit).boxed().collect(Collectors.toList());
+        BulkResult<Integer> created = BulkExecutor.run(slots, parallelism(), slot -> creator.get());
+        for (BulkItemResult<Integer> result : created.getResults()) {
+            if (result.isSuccessful()) {
+                onCreated.accept(result.getResponse());
+            }
+        }
+        created.assertAllSucceeded();
+
+        long finalCount = reader.get().stream().filter(matcher).count();
+        if (finalCount < minimum) {
+            throw new IllegalStateException("Expected at least " + minimum + " " + description
+                    + " after seeding but found " + finalCount);
+        }
+        return new SeedResult(description, initialCount, deficit, finalCount);
+    }
+
+    /**
+     * Returns the callback recording created entities in a namespace. The shared namespace records nothing,
+     * so its callback does not parse the responses.
+     *
+     * @param namespace  The namespace.
+     * @param entityPath The entity path.
+     * @param idOf       Extracts the ID of the created entity from the response.
+     * @return The callback.
+     */
+    private static Consumer<Response> registrar(DataNamespace namespace, String entityPath, Function<Response, String> idOf) {
+        if (!namespace.isIsolated()) {
+            return response -> {
+            };
+        }
+        return response -> namespace.register(entityPath, idOf.apply(response));
+    }
+
+    /**
+     * Checks that a collection read succeeded.
+     *
+     * @param response The response to the GET request.
+     * @return The same response.
+     * @throws RuntimeException if the status code is not 200.
+     */
+    private static Response read(Response response) {
+        if (response.getStatusCode() != 200) {
+            throw new RuntimeException("Failed to fetch the collection with status code: " + response.getStatusCode());
+        }
+        return response;
+    }
+
+    /**
+     * Returns how many creations run at once. Copies of one template are identical requests, which a recording
+     * answers in the order they arrive, so they are created one at a time while recording or replaying: the
+     * n-th submitted copy then gets the same ID in both runs.
+     */
+    private static int parallelism() {
+        return TrafficLog.isRecording() || TrafficLog.isReplaying() ? 1 : BulkExecutor.DEFAULT_PARALLELISM;
+    }
+}
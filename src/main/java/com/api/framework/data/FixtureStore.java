@@ -0,0 +1,207 @@
+package com.api.framework.data;
+
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.serialization.JsonMapper;
+import com.api.framework.utils.Constants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FixtureStore class loads JSON fixtures from the classpath once and hands out fresh copies of them.
+ * <p>
+ * Each fixture is parsed on first use and kept as an immutable template in a concurrent map, so later
+ * calls only copy a handful of fields and never touch the disk. Because fixtures are classpath
+ * resources, they also load when the framework runs from a packaged jar.
+ * </p>
+ * <p>
+ * The {@code unique...} methods derive variants from the default fixtures by overriding the fields the
+ * API or the scenarios treat as identifying. Each variant carries a run token and a sequence number, so
+ * variants never collide within a JVM or with data left by earlier runs. While traffic is recorded or
+ * replayed the run token is fixed (see {@link DataNamespace}), so variants only differ by sequence number.
+ * The first name of clients is kept, so scenarios looking clients up by name still find them.
+ * </p>
+ * Example usage:
+ * {@code
+ * Client client = FixtureStore.defaultClient();
+ * List<Client> clients = FixtureStore.uniqueClients(1_000);
+ * }
+ */
+public final class FixtureStore {
+    private static final Map<String, Object> TEMPLATES = new ConcurrentHashMap<>();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FixtureStore() {
+    }
+
+    /**
+     * Returns a copy of the default client fixture ({@link Constants#DEFAULT_CLIENT_FIXTURE}).
+     *
+     * @return A new Client object the caller may modify.
+     */
+    public static Client defaultClient() {
+        return client(Constants.DEFAULT_CLIENT_FIXTURE);
+    }
+
+    /**
+     * Returns a copy of the default resource fixture ({@link Constants#DEFAULT_RESOURCE_FIXTURE}).
+     *
+     * @return A new Resource object the caller may modify.
+     */
+    public static Resource defaultResource() {
+        return resource(Constants.DEFAULT_RESOURCE_FIXTURE);
+    }
+
+    /**
+     * Returns a copy of a client fixture.
+     *
+     * @param location The classpath location of the fixture, for example {@code data/defaultClient.json}.
+     * @return A new Client object the caller may modify.
+     * @throws IllegalArgumentException if the fixture does not exist or does not hold a client.
+     */
+    public static Client client(String location) {
+        return copy(template(location, Client.class));
+    }
+
+    /**
+     * Returns a copy of a resource fixture.
+     *
+     * @param location The classpath location of the fixture, for example {@code data/defaultResource.json}.
+     * @return A new Resource object the caller may modify.
+     * @throws IllegalArgumentException if the fixture does not exist or does not hold a resource.
+     */
+    public static Resource resource(String location) {
+        return copy(template(location, Resource.class));
+    }
+
+    /**
+     * Returns a variant of the default client with a unique last name, email and phone, and no ID.
+     *
+     * @return A new unique Client object.
+     */
+    public static Client uniqueClient() {
+        Client template = template(Constants.DEFAULT_CLIENT_FIXTURE, Client.class);
+        long sequence = SEQUENCE.incrementAndGet();
+        String suffix = DataNamespace.RUN_TOKEN + sequence;
+        Client client = copy(template);
+        client.setId(null);
+        client.setLastName(template.getLastName() + "-" + suffix);
+        client.setEmail("client-" + suffix + "@example.com");
+        client.setPhone(String.format("3%09d", sequence % 1_000_000_000L));
+        return client;
+    }
+
+    /**
+     * Returns variants of the default client, each with a unique last name, email and phone, and no ID.
+     *
+     * @param count The number of clients.
+     * @return A mutable list of new unique Client objects.
+     */
+    public static List<Client> uniqueClients(int count) {
+        List<Client> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clients.add(uniqueClient());
+        }
+        return clients;
+    }
+
+    /**
+     * Returns a variant of the default resource with a unique name and description, and no ID.
+     *
+     * @return A new unique Resource object.
+     */
+    public static Resource uniqueResource() {
+        Resource template = template(Constants.DEFAULT_RESOURCE_FIXTURE, Resource.class);
+        String suffix = DataNamespace.RUN_TOKEN + SEQUENCE.incrementAndGet();
+        Resource resource = copy(template);
+        resource.setId(null);
+        resource.setName(template.getName() + " " + suffix);
+        resource.setDescription(template.getDescription() + " (" + suffix + ")");
+        return resource;
+    }
+
+    /**
+     * Returns variants of the default resource, each with a unique name and description, and no ID.
+     *
+     * @param count The number of resources.
+     * @return A mutable list of new unique Resource objects.
+     */
+    public static List<Resource> uniqueResources(int count) {
+        List<Resource> resources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            resources.add(uniqueResource());
+        }
+        return resources;
+    }
+
+    /**
+     * Discards every cached template, forcing fixtures to be read again on next use.
+     */
+    public static void clear() {
+        TEMPLATES.clear();
+    }
+
+    /**
+     * Returns the cached template of a fixture, parsing it on first use. Templates are never handed out.
+     *
+     * @param location The classpath location of the fixture.
+     * @param type     The model type.
+     * @param <T>      The model type.
+     * @return The template.
+     */
+    private static <T> T template(String location, Class<T> type) {
+        Object template = TEMPLATES.computeIfAbsent(location, key -> load(key, type));
+        if (!type.isInstance(template)) {
+            throw new IllegalArgumentException("Fixture " + location + " was loaded as " + template.getClass().getSimpleName());
+        }
+        return type.cast(template);
+    }
+
+    /**
+     * Reads and parses a fixture from the classpath.
+     *
+     * @param location The classpath location of the fixture.
+     * @param type     The model type.
+     * @param <T>      The model type.
+     * @return The parsed fixture.
+     */
+    private static <T> T load(String location, Class<T> type) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        InputStream input = (loader != null ? loader : FixtureStore.class.getClassLoader()).getResourceAsStream(location);
+        if (input == null) {
+            throw new IllegalArgumentException("Fixture not found on the classpath: " + location);
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            T fixture = JsonMapper.fromJson(reader, type);
+            if (fixture == null) {
+                throw new IllegalArgumentException("Fixture is empty: " + location);
+            }
+            return fixture;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read fixture " + location, e);
+        }
+    }
+
+    private static Client copy(Client template) {
+        return new Client(template.getName(), template.getLastName(), template.getCountry(), template.getCity(),
+                template.getId(), template.getPhone(), template.getEmail());
+    }
+
+    private static Resource copy(Resource template) {
+        return new Resource(template.getName(), template.getTrademark(), template.getStock(), template.getPrice(),
+                template.getDescription(), template.getId(), template.getTags(), template.getActive());
+    }
+}
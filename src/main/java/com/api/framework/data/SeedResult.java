@@ -0,0 +1,58 @@
+package com.api.framework.data;
+
+/**
+ * SeedResult class reports what a seeding run found and did.
+ */
+public final class SeedResult {
+    private final String description;
+    private final long initialCount;
+    private final int created;
+    private final long finalCount;
+
+    /**
+     * Creates a seeding report.
+     *
+     * @param description  What was counted, for example "clients".
+     * @param initialCount The number of matching entities before seeding.
+     * @param created      The number of entities created.
+     * @param finalCount   The number of matching entities after seeding.
+     */
+    SeedResult(String description, long initialCount, int created, long finalCount) {
+        this.description = description;
+        this.initialCount = initialCount;
+        this.created = created;
+        this.finalCount = finalCount;
+    }
+
+    /**
+     * Returns the number of matching entities found before seeding.
+     *
+     * @return The initial count.
+     */
+    public long getInitialCount() {
+        return initialCount;
+    }
+
+    /**
+     * Returns the number of entities created to cover the deficit.
+     *
+     * @return The number of created entities.
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Returns the number of matching entities found by the verification read.
+     *
+     * @return The final count.
+     */
+    public long getFinalCount() {
+        return finalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Seeded " + description + ": found " + initialCount + ", created " + created + ", now " + finalCount;
+    }
+}
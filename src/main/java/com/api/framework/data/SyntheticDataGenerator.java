@@ -0,0 +1,563 @@
+package com.api.framework.data;
+
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * SyntheticDataGenerator class produces large, deterministic sequences of realistic clients and resources.
+ * <p>
+ * Every entity is a pure function of the generator seed and its index in the sequence: the index is
+ * mixed with the seed into a 64-bit hash whose bit fields pick names, places, brands and amounts from
+ * fixed pools. The same seed always yields the same sequence, any index can be generated directly,
+ * and several threads can generate disjoint ranges without coordination.
+ * </p>
+ * <p>
+ * Emails and phones are unique within a sequence: the email carries the index and the phone is a
+ * permutation of the index over nine digits, so the first billion entities never share a phone. Resource
+ * names carry the index as well. Generators with different seeds may produce overlapping values; give
+ * concurrent runs distinct start indexes when the API must not see duplicates.
+ * </p>
+ * <p>
+ * Generation avoids builders and string concatenation. Pool values are shared strings, unique fields are
+ * written into a per-thread character buffer, and {@link #clientJson(long)} and {@link #resourceJson(long)}
+ * write the JSON directly into a per-thread byte buffer from pre-encoded pool values, so a serialized
+ * entity costs a single array allocation and can be posted as is through
+ * {@link com.api.framework.requests.ClientRequest#createClientAsync(byte[])}.
+ * </p>
+ * Example usage:
+ * {@code
+ * SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+ * Client client = generator.client(1_000_000);
+ * clientRequest.createClientAsync(generator.nextClientJson());
+ * DataSeeder.ensureClients(clientRequest, 500, generator);
+ * }
+ */
+public class SyntheticDataGenerator {
+    private static final String[] FIRST_NAMES = {
+            "Laura", "Carlos", "Ana", "Miguel", "Sofia", "Daniel", "Valentina", "Andres", "Camila", "Juan",
+            "Isabella", "Mateo", "Lucia", "Santiago", "Maria", "David", "Emma", "Lucas", "Olivia", "Liam",
+            "Mia", "Noah", "Chloe", "Ethan", "Hannah", "Leon", "Clara", "Felix", "Alice", "Hugo",
+            "Julia", "Marco", "Elena", "Paolo", "Ines", "Tomas", "Sara", "Diego", "Paula", "Pablo",
+            "Yuki", "Hiro", "Mei", "Wei", "Priya", "Arjun", "Amara", "Kofi", "Zara", "Omar",
+            "Nina", "Ivan", "Olga", "Mikael", "Freya", "Lars", "Aisha", "Samir", "Grace", "Owen",
+            "Ruby", "Jack", "Ava", "Henry"
+    };
+    private static final String[] LAST_NAMES = {
+            "Lopez", "Garcia", "Martinez", "Rodriguez", "Hernandez", "Gomez", "Diaz", "Torres", "Ramirez", "Vargas",
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Wilson", "Taylor", "Clark",
+            "Muller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker", "Rossi", "Russo",
+            "Ferrari", "Esposito", "Bianchi", "Romano", "Silva", "Santos", "Oliveira", "Costa", "Pereira", "Souza",
+            "Dubois", "Moreau", "Laurent", "Simon", "Michel", "Leroy", "Tanaka", "Suzuki", "Sato", "Watanabe",
+            "Kim", "Lee", "Park", "Chen", "Wang", "Singh", "Patel", "Okafor", "Mensah", "Nielsen",
+            "Johansson", "Novak", "Kowalski", "Ivanov"
+    };
+    private static final String[][] PLACES = {
+            {"Colombia", "Bogota"}, {"Colombia", "Medellin"}, {"Colombia", "Cali"}, {"Mexico", "Guadalajara"},
+            {"Mexico", "Monterrey"}, {"Argentina", "Cordoba"}, {"Chile", "Santiago"}, {"Peru", "Lima"},
+            {"Brazil", "Curitiba"}, {"Spain", "Madrid"}, {"Spain", "Valencia"}, {"Portugal", "Porto"},
+            {"France", "Lyon"}, {"Germany", "Hamburg"}, {"Germany", "Munich"}, {"Italy", "Turin"},
+            {"Netherlands", "Utrecht"}, {"Sweden", "Gothenburg"}, {"Poland", "Krakow"}, {"United Kingdom", "Leeds"},
+            {"Ireland", "Cork"}, {"USA", "Austin"}, {"USA", "Denver"}, {"Canada", "Calgary"},
+            {"Japan", "Osaka"}, {"South Korea", "Busan"}, {"India", "Pune"}, {"Kenya", "Nairobi"},
+            {"Ghana", "Accra"}, {"Australia", "Perth"}, {"New Zealand", "Wellington"}, {"Egypt", "Alexandria"}
+    };
+    private static final String[] EMAIL_DOMAINS = {
+            "example.com", "example.org", "example.net", "mail.example.com"
+    };
+    private static final String[] ADJECTIVES = {
+            "Premium", "Organic", "Classic", "Deluxe", "Compact", "Portable", "Smart", "Eco",
+            "Ultra", "Essential", "Vintage", "Wireless", "Handmade", "Professional", "Artisan", "Everyday"
+    };
+    private static final String[][] PRODUCTS = {
+            {"Coffee", "coffee,beverage"}, {"Tea", "tea,beverage"}, {"Chocolate", "chocolate,snack"},
+            {"Honey", "honey,pantry"}, {"Olive Oil", "oil,pantry"}, {"Pasta", "pasta,pantry"},
+            {"Laptop", "electronics,computer"}, {"Headphones", "electronics,audio"}, {"Speaker", "electronics,audio"},
+            {"Monitor", "electronics,computer"}, {"Keyboard", "electronics,accessory"}, {"Camera", "electronics,photo"},
+            {"Backpack", "bag,travel"}, {"Suitcase", "bag,travel"}, {"Jacket", "clothing,outdoor"},
+            {"Sneakers", "clothing,footwear"}, {"Watch", "accessory,jewelry"}, {"Sunglasses", "accessory,outdoor"},
+            {"Desk Lamp", "home,lighting"}, {"Chair", "home,furniture"}, {"Blender", "home,kitchen"},
+            {"Cookware Set", "home,kitchen"}, {"Water Bottle", "outdoor,kitchen"}, {"Tent", "outdoor,camping"},
+            {"Bicycle", "sport,outdoor"}, {"Yoga Mat", "sport,fitness"}, {"Dumbbells", "sport,fitness"},
+            {"Notebook", "office,paper"}, {"Pen Set", "office,writing"}, {"Board Game", "toy,game"},
+            {"Puzzle", "toy,game"}, {"Plant Pot", "home,garden"}
+    };
+    private static final String[] BRANDS = {
+            "Superior Brand", "Northwind", "Acme", "Globex", "Initech", "Umbrella", "Stark", "Wayne",
+            "Hooli", "Vandelay", "Soylent", "Tyrell", "Cyberdyne", "Aperture", "Wonka", "Oceanic"
+    };
+
+    private static final byte[][] FIRST_NAME_BYTES = encode(FIRST_NAMES);
+    private static final byte[][] LAST_NAME_BYTES = encode(LAST_NAMES);
+    private static final byte[][] LOWER_FIRST_NAME_BYTES = encodeLowerCase(FIRST_NAMES);
+    private static final byte[][] LOWER_LAST_NAME_BYTES = encodeLowerCase(LAST_NAMES);
+    private static final byte[][] COUNTRY_BYTES = encode(column(PLACES, 0));
+    private static final byte[][] CITY_BYTES = encode(column(PLACES, 1));
+    private static final byte[][] EMAIL_DOMAIN_BYTES = encode(EMAIL_DOMAINS);
+    private static final byte[][] BRAND_BYTES = encode(BRANDS);
+    private static final byte[][] TAG_BYTES = encode(column(PRODUCTS, 1));
+    private static final String[] TITLES = new String[ADJECTIVES.length * PRODUCTS.length];
+    private static final String[] DESCRIPTIONS = new String[ADJECTIVES.length * PRODUCTS.length * BRANDS.length];
+    private static final byte[][] TITLE_BYTES;
+    private static final byte[][] DESCRIPTION_BYTES;
+
+    static {
+        for (int adjective = 0; adjective < ADJECTIVES.length; adjective++) {
+            for (int product = 0; product < PRODUCTS.length; product++) {
+                int title = adjective * PRODUCTS.length + product;
+                TITLES[title] = ADJECTIVES[adjective] + " " + PRODUCTS[product][0];
+                for (int brand = 0; brand < BRANDS.length; brand++) {
+                    DESCRIPTIONS[title * BRANDS.length + brand] = ADJECTIVES[adjective] + " "
+                            + PRODUCTS[product][0].toLowerCase(Locale.ROOT) + " made by " + BRANDS[brand] + ".";
+                }
+            }
+        }
+        TITLE_BYTES = encode(TITLES);
+        DESCRIPTION_BYTES = encode(DESCRIPTIONS);
+    }
+
+    private static final byte[] CLIENT_NAME = key('{', "name");
+    private static final byte[] CLIENT_LAST_NAME = key(',', "lastName");
+    private static final byte[] CLIENT_COUNTRY = key(',', "country");
+    private static final byte[] CLIENT_CITY = key(',', "city");
+    private static final byte[] CLIENT_PHONE = key(',', "phone");
+    private static final byte[] CLIENT_EMAIL = key(',', "email");
+    private static final byte[] RESOURCE_NAME = key('{', "name");
+    private static final byte[] RESOURCE_TRADEMARK = key(',', "trademark");
+    private static final byte[] RESOURCE_STOCK = key(',', "stock");
+    private static final byte[] RESOURCE_PRICE = key(',', "price");
+    private static final byte[] RESOURCE_DESCRIPTION = key(',', "description");
+    private static final byte[] RESOURCE_TAGS = key(',', "tags");
+    private static final byte[] RESOURCE_ACTIVE = key(',', "active");
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private static final long PHONE_SPACE = 1_000_000_000L;
+    // Coprime with 10^9, so multiplying by it permutes the nine-digit phone space
+    private static final long PHONE_MULTIPLIER = 387_420_489L;
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private static final ThreadLocal<char[]> CHARS = ThreadLocal.withInitial(() -> new char[64]);
+    private static final ThreadLocal<JsonBuffer> BYTES = ThreadLocal.withInitial(JsonBuffer::new);
+
+    private final long seed;
+    private final long phoneOffset;
+    private final AtomicLong sequence;
+
+    /**
+     * Creates a generator whose {@code next...} methods start at index 0.
+     *
+     * @param seed The seed of the sequence.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this(seed, 0);
+    }
+
+    /**
+     * Creates a generator whose {@code next...} methods start at the given index.
+     *
+     * @param seed       The seed of the sequence.
+     * @param startIndex The index of the first entity returned by the {@code next...} methods.
+     * @throws IllegalArgumentException if the start index is negative.
+     */
+    public SyntheticDataGenerator(long seed, long startIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException("The start index must not be negative: " + startIndex);
+        }
+        this.seed = seed;
+        this.phoneOffset = Math.floorMod(mix(seed), PHONE_SPACE);
+        this.sequence = new AtomicLong(startIndex);
+    }
+
+    /**
+     * Returns the seed of the sequence.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reserves the next index of the sequence. Safe to call from several threads.
+     *
+     * @return An index no other call of this generator returns.
+     */
+    public long nextIndex() {
+        return sequence.getAndIncrement();
+    }
+
+    /**
+     * Generates the client at an index of the sequence.
+     *
+     * @param index The index, 0 or greater.
+     * @return A new Client object without an ID.
+     */
+    public Client client(long index) {
+        long hash = hash(index);
+        int first = bits(hash, 0, FIRST_NAMES.length);
+        int last = bits(hash, 16, LAST_NAMES.length);
+        int place = bits(hash, 32, PLACES.length);
+        int domain = bits(hash, 48, EMAIL_DOMAINS.length);
+        char[] chars = CHARS.get();
+        String phone = new String(chars, 0, writePhone(chars, index));
+        String email = new String(chars, 0, writeEmail(chars, first, last, index, domain));
+        return new Client(FIRST_NAMES[first], LAST_NAMES[last], PLACES[place][0], PLACES[place][1], null, phone, email);
+    }
+
+    /**
+     * Generates the resource at an index of the sequence.
+     *
+     * @param index The index, 0 or greater.
+     * @return A new Resource object without an ID.
+     */
+    public Resource resource(long index) {
+        long hash = hash(index);
+        int title = bits(hash, 0, TITLES.length);
+        int brand = bits(hash, 16, BRANDS.length);
+        char[] chars = CHARS.get();
+        String name = new String(chars, 0, writeResourceName(chars, title, index));
+        String stock = new String(chars, 0, writeDecimal(chars, stockTenths(hash), 1));
+        String price = new String(chars, 0, writeDecimal(chars, priceCents(hash), 2));
+        return new Resource(name, BRANDS[brand], stock, price, DESCRIPTIONS[title * BRANDS.length + brand], null,
+                PRODUCTS[title % PRODUCTS.length][1], active(hash));
+    }
+
+    /**
+     * Generates the JSON of the client at an index of the sequence, equal to serializing {@link #client(long)}.
+     *
+     * @param index The index, 0 or greater.
+     * @return The UTF-8 encoded JSON object.
+     */
+    public byte[] clientJson(long index) {
+        long hash = hash(index);
+        int first = bits(hash, 0, FIRST_NAMES.length);
+        int last = bits(hash, 16, LAST_NAMES.length);
+        int place = bits(hash, 32, PLACES.length);
+        int domain = bits(hash, 48, EMAIL_DOMAINS.length);
+        char[] chars = CHARS.get();
+        JsonBuffer json = BYTES.get().reset();
+        json.write(CLIENT_NAME).quoted(FIRST_NAME_BYTES[first])
+                .write(CLIENT_LAST_NAME).quoted(LAST_NAME_BYTES[last])
+                .write(CLIENT_COUNTRY).quoted(COUNTRY_BYTES[place])
+                .write(CLIENT_CITY).quoted(CITY_BYTES[place])
+                .write(CLIENT_PHONE).quoted(chars, writePhone(chars, index))
+                .write(CLIENT_EMAIL).quoted(chars, writeEmail(chars, first, last, index, domain))
+                .write('}');
+        return json.toByteArray();
+    }
+
+    /**
+     * Generates the JSON of the resource at an index of the sequence. It holds the same values as
+     * {@link #resource(long)}, with stock and price written as JSON numbers like the API returns them.
+     *
+     * @param index The index, 0 or greater.
+     * @return The UTF-8 encoded JSON object.
+     */
+    public byte[] resourceJson(long index) {
+        long hash = hash(index);
+        int title = bits(hash, 0, TITLES.length);
+        int brand = bits(hash, 16, BRANDS.length);
+        char[] chars = CHARS.get();
+        JsonBuffer json = BYTES.get().reset();
+        json.write(RESOURCE_NAME).quoted(chars, writeResourceName(chars, title, index))
+                .write(RESOURCE_TRADEMARK).quoted(BRAND_BYTES[brand])
+                .write(RESOURCE_STOCK).write(chars, writeDecimal(chars, stockTenths(hash), 1))
+                .write(RESOURCE_PRICE).write(chars, writeDecimal(chars, priceCents(hash), 2))
+                .write(RESOURCE_DESCRIPTION).quoted(DESCRIPTION_BYTES[title * BRANDS.length + brand])
+                .write(RESOURCE_TAGS).quoted(TAG_BYTES[title % PRODUCTS.length])
+                .write(RESOURCE_ACTIVE).write(active(hash) ? TRUE : FALSE)
+                .write('}');
+        return json.toByteArray();
+    }
+
+    /**
+     * Generates the client at the next index of the sequence.
+     *
+     * @return A new Client object without an ID.
+     */
+    public Client nextClient() {
+        return client(nextIndex());
+    }
+
+    /**
+     * Generates the resource at the next index of the sequence.
+     *
+     * @return A new Resource object without an ID.
+     */
+    public Resource nextResource() {
+        return resource(nextIndex());
+    }
+
+    /**
+     * Generates the JSON of the client at the next index of the sequence.
+     *
+     * @return The UTF-8 encoded JSON object.
+     */
+    public byte[] nextClientJson() {
+        return clientJson(nextIndex());
+    }
+
+    /**
+     * Generates the JSON of the resource at the next index of the sequence.
+     *
+     * @return The UTF-8 encoded JSON object.
+     */
+    public byte[] nextResourceJson() {
+        return resourceJson(nextIndex());
+    }
+
+    /**
+     * Lazily generates a range of clients. The stream does not advance the {@code next...} sequence.
+     *
+     * @param fromIndex The index of the first client.
+     * @param count     The number of clients.
+     * @return A sequential stream of Client objects; call {@code parallel()} to generate on several threads.
+     */
+    public Stream<Client> clients(long fromIndex, long count) {
+        return LongStream.range(fromIndex, fromIndex + count).mapToObj(this::client);
+    }
+
+    /**
+     * Lazily generates a range of resources. The stream does not advance the {@code next...} sequence.
+     *
+     * @param fromIndex The index of the first resource.
+     * @param count     The number of resources.
+     * @return A sequential stream of Resource objects; call {@code parallel()} to generate on several threads.
+     */
+    public Stream<Resource> resources(long fromIndex, long count) {
+        return LongStream.range(fromIndex, fromIndex + count).mapToObj(this::resource);
+    }
+
+    /**
+     * Mixes the seed and an index into the hash that selects the values of an entity (SplitMix64 finalizer).
+     *
+     * @param index The index of the entity.
+     * @return The hash.
+     */
+    private long hash(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("The index must not be negative: " + index);
+        }
+        return mix(seed + index * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Picks a pool element from a bit field of the hash.
+     *
+     * @param hash  The entity hash.
+     * @param shift The first bit of the field.
+     * @param size  The pool size.
+     * @return An index into the pool.
+     */
+    private static int bits(long hash, int shift, int size) {
+        return (int) (((hash >>> shift) & 0xFFFF) % size);
+    }
+
+    private static long stockTenths(long hash) {
+        return (hash >>> 32 & 0xFFFF) % 10_000;
+    }
+
+    private static long priceCents(long hash) {
+        // The price needs more bits than are left, so it is drawn from a second round of mixing
+        return 99 + (mix(hash) >>> 1) % 99_900;
+    }
+
+    private static boolean active(long hash) {
+        // About four out of five resources are active
+        return (hash >>> 48 & 0xF) < 13;
+    }
+
+    /**
+     * Writes the phone of an index: {@code 3} followed by a permutation of the index over nine digits.
+     *
+     * @param chars The buffer to write to.
+     * @param index The index of the entity.
+     * @return The number of characters written.
+     */
+    private int writePhone(char[] chars, long index) {
+        long number = Math.floorMod(Math.floorMod(index, PHONE_SPACE) * PHONE_MULTIPLIER + phoneOffset, PHONE_SPACE);
+        chars[0] = '3';
+        for (int i = 9; i >= 1; i--) {
+            chars[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return 10;
+    }
+
+    /**
+     * Writes the email of a client, for example {@code laura.lopez.1z@example.com}.
+     *
+     * @return The number of characters written.
+     */
+    private static int writeEmail(char[] chars, int first, int last, long index, int domain) {
+        int length = copy(LOWER_FIRST_NAME_BYTES[first], chars, 0);
+        chars[length++] = '.';
+        length = copy(LOWER_LAST_NAME_BYTES[last], chars, length);
+        chars[length++] = '.';
+        length = writeBase36(chars, length, index);
+        chars[length++] = '@';
+        return copy(EMAIL_DOMAIN_BYTES[domain], chars, length);
+    }
+
+    /**
+     * Writes the name of a resource, for example {@code Premium Coffee #1Z}.
+     *
+     * @return The number of characters written.
+     */
+    private static int writeResourceName(char[] chars, int title, long index) {
+        int length = copy(TITLE_BYTES[title], chars, 0);
+        chars[length++] = ' ';
+        chars[length++] = '#';
+        int start = length;
+        length = writeBase36(chars, length, index);
+        for (int i = start; i < length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return length;
+    }
+
+    /**
+     * Writes a fixed-point decimal, for example 2099 with two decimals as {@code 20.99}.
+     *
+     * @return The number of characters written.
+     */
+    private static int writeDecimal(char[] chars, long unscaled, int decimals) {
+        int length = 0;
+        long value = unscaled;
+        // Digits are written in reverse and flipped at the end
+        for (int i = 0; i < decimals; i++) {
+            chars[length++] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        chars[length++] = '.';
+        do {
+            chars[length++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        reverse(chars, 0, length);
+        return length;
+    }
+
+    private static int writeBase36(char[] chars, int offset, long value) {
+        int length = offset;
+        long remaining = value;
+        do {
+            chars[length++] = DIGITS[(int) (remaining % 36)];
+            remaining /= 36;
+        } while (remaining > 0);
+        reverse(chars, offset, length);
+        return length;
+    }
+
+    private static void reverse(char[] chars, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            char swap = chars[i];
+            chars[i] = chars[j];
+            chars[j] = swap;
+        }
+    }
+
+    private static int copy(byte[] ascii, char[] chars, int offset) {
+        for (int i = 0; i < ascii.length; i++) {
+            chars[offset + i] = (char) ascii[i];
+        }
+        return offset + ascii.length;
+    }
+
+    private static byte[] key(char prefix, String name) {
+        return (prefix + "\"" + name + "\":").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String[] column(String[][] rows, int column) {
+        String[] values = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            values[i] = rows[i][column];
+        }
+        return values;
+    }
+
+    /**
+     * Encodes pool values once. They are plain ASCII without characters that need escaping in JSON.
+     */
+    private static byte[][] encode(String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return encoded;
+    }
+
+    private static byte[][] encodeLowerCase(String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i].toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        }
+        return encoded;
+    }
+
+    /**
+     * A reusable, growable byte buffer holding the JSON being written on one thread.
+     */
+    private static final class JsonBuffer {
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        private JsonBuffer reset() {
+            length = 0;
+            return this;
+        }
+
+        private JsonBuffer write(char ascii) {
+            ensure(1);
+            bytes[length++] = (byte) ascii;
+            return this;
+        }
+
+        private JsonBuffer write(byte[] ascii) {
+            ensure(ascii.length);
+            System.arraycopy(ascii, 0, bytes, length, ascii.length);
+            length += ascii.length;
+            return this;
+        }
+
+        private JsonBuffer write(char[] ascii, int count) {
+            ensure(count);
+            for (int i = 0; i < count; i++) {
+                bytes[length++] = (byte) ascii[i];
+            }
+            return this;
+        }
+
+        private JsonBuffer quoted(byte[] ascii) {
+            return write('"').write(ascii).write('"');
+        }
+
+        private JsonBuffer quoted(char[] ascii, int count) {
+            return write('"').write(ascii, count).write('"');
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.api.framework.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyReport class collects per-endpoint latency histograms during a load test and prints them.
+ * <p>
+ * Two values are recorded per request, in microseconds:
+ * </p>
+ * <ul>
+ *   <li>Response time - From the moment the request was due by the schedule to the moment its response
+ *   arrived. It includes any delay in sending, so it is free of coordinated omission.</li>
+ *   <li>Service time - From the moment the request was actually sent to the moment its response arrived.</li>
+ * </ul>
+ * <p>
+ * Requests failing or returning a non-2xx status are counted as errors; their latency is still recorded.
+ * Histograms are HdrHistogram {@link ConcurrentHistogram}s, so recording is safe from any thread.
+ * </p>
+ * Example usage:
+ * {@code
+ * LatencyReport report = new LatencyReport();
+ * report.record("GET /api/v1/clients/{id}", intendedNanos, sentNanos, System.nanoTime(), true);
+ * report.print(System.out);
+ * report.writeHistograms(Path.of("target", "load-report"));
+ * }
+ */
+public class LatencyReport {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+    private volatile long elapsedNanos;
+
+    /**
+     * Records a completed request.
+     *
+     * @param endpoint       The endpoint label.
+     * @param intendedNanos  The {@link System#nanoTime()} at which the request was due.
+     * @param sentNanos      The {@link System#nanoTime()} at which the request was sent.
+     * @param completedNanos The {@link System#nanoTime()} at which the response arrived.
+     * @param successful     False if the request failed or returned a non-2xx status.
+     */
+    public void record(String endpoint, long intendedNanos, long sentNanos, long completedNanos, boolean successful) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.responseTime.recordValue(toMicros(completedNanos - intendedNanos));
+        stats.serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+        if (!successful) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Counts an arrival that was not sent because the workload had nothing to operate on.
+     */
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    /**
+     * Sets the wall-clock duration of the run, used to compute the achieved throughput.
+     *
+     * @param elapsedNanos The duration of the run in nanoseconds.
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns a copy of the response time histogram of an endpoint.
+     *
+     * @param endpoint The endpoint label.
+     * @return The histogram in microseconds, or null if nothing was recorded for the endpoint.
+     */
+    public Histogram getResponseTimes(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats == null ? null : stats.responseTime.copy();
+    }
+
+    /**
+     * Returns the response time histogram of all endpoints combined.
+     *
+     * @return A new histogram in microseconds.
+     */
+    public Histogram getTotalResponseTimes() {
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        endpoints.values().forEach(stats -> total.add(stats.responseTime));
+        return total;
+    }
+
+    /**
+     * Returns the total number of errors across all endpoints.
+     *
+     * @return The number of failed requests.
+     */
+    public long getErrorCount() {
+        return endpoints.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    /**
+     * Prints one summary line per endpoint plus a total line. Latencies are in milliseconds.
+     *
+     * @param out The stream to print to.
+     */
+    public void print(PrintStream out) {
+        double seconds = Math.max(elapsedNanos, 1L) / 1e9;
+        out.printf("%-34s %9s %7s %9s %9s %9s %9s %9s %9s %10s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50", "p90", "p99", "p99.9", "Max", "Svc p99");
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            printLine(out, entry.getKey(), stats.responseTime, stats.errors.sum(), seconds,
+                    stats.serviceTime.getValueAtPercentile(99.0));
+        }
+        Histogram services = new Histogram(SIGNIFICANT_DIGITS);
+        endpoints.values().forEach(stats -> services.add(stats.serviceTime));
+        printLine(out, "Total", getTotalResponseTimes(), getErrorCount(), seconds, services.getValueAtPercentile(99.0));
+        if (skipped.sum() > 0) {
+            out.printf("Skipped arrivals (nothing to delete): %d%n", skipped.sum());
+        }
+    }
+
+    /**
+     * Writes the full percentile distribution of every endpoint's response times as {@code .hgrm} files,
+     * which can be plotted with the HdrHistogram plotter.
+     *
+     * @param directory The directory to write to, created if missing.
+     * @throws UncheckedIOException if a file cannot be written.
+     */
+    public void writeHistograms(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+                writeHistogram(directory.resolve(fileName(entry.getKey())), entry.getValue().responseTime);
+            }
+            writeHistogram(directory.resolve("total.hgrm"), getTotalResponseTimes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the latency histograms to " + directory, e);
+        }
+    }
+
+    /**
+     * Prints one summary line.
+     *
+     * @param out        The stream to print to.
+     * @param label      The line label.
+     * @param histogram  The response time histogram.
+     * @param errors     The number of errors.
+     * @param seconds    The duration of the run in seconds.
+     * @param serviceP99 The 99th percentile service time in microseconds.
+     */
+    private static void printLine(PrintStream out, String label, Histogram histogram, long errors, double seconds,
+                                  long serviceP99) {
+        out.printf("%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %10.2f%n", label,
+                histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50.0)), millis(histogram.getValueAtPercentile(90.0)),
+                millis(histogram.getValueAtPercentile(99.0)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()), millis(serviceP99));
+    }
+
+    /**
+     * Writes one histogram's percentile distribution, scaled to milliseconds.
+     *
+     * @param file      The file to write.
+     * @param histogram The histogram in microseconds.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Turns an endpoint label such as {@code GET /api/v1/clients/{id}} into a file name such as {@code GET_clients_id.hgrm}.
+     *
+     * @param endpoint The endpoint label.
+     * @return The file name.
+     */
+    private static String fileName(String endpoint) {
+        String name = endpoint.replace("/api/v1/", "").replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_+$", "");
+        return name + ".hgrm";
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    /**
+     * The histograms and error count of one endpoint.
+     */
+    private static final class EndpointStats {
+        private final ConcurrentHistogram responseTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final ConcurrentHistogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+    }
+}
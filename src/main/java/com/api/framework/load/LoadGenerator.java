@@ -0,0 +1,156 @@
+package com.api.framework.load;
+
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadGenerator class drives a {@link LoadWorkload} at the arrival rate of a {@link LoadProfile}.
+ * <p>
+ * The generator follows an open model: arrival {@code n} is due at a time fixed in advance by
+ * {@link LoadProfile#arrivalOffsetNanos(long)}, and the scheduling thread only hands each request to
+ * the asynchronous request methods before moving on to the next arrival. A slow response therefore
+ * never delays later requests. If the scheduler itself falls behind, late requests are sent at once and
+ * their response time is still measured from the time they were due, so the report shows the delay
+ * instead of hiding it (coordinated omission).
+ * </p>
+ * Example usage:
+ * {@code
+ * LoadWorkload workload = new LoadWorkload(new ClientRequest(), new ResourceRequest());
+ * LatencyReport report = new LoadGenerator(LoadProfile.fromConfig(), workload).run();
+ * report.print(System.out);
+ * }
+ */
+public class LoadGenerator {
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LoadProfile profile;
+    private final LoadWorkload workload;
+    private final Duration drainTimeout;
+
+    /**
+     * Creates a generator that waits up to 30 seconds for requests in flight when the run ends.
+     *
+     * @param profile  The load profile.
+     * @param workload The workload, already seeded.
+     */
+    public LoadGenerator(LoadProfile profile, LoadWorkload workload) {
+        this(profile, workload, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param profile      The load profile.
+     * @param workload     The workload, already seeded.
+     * @param drainTimeout The maximum time to wait for requests in flight when the run ends.
+     */
+    public LoadGenerator(LoadProfile profile, LoadWorkload workload, Duration drainTimeout) {
+        this.profile = profile;
+        this.workload = workload;
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * Runs the load test on the calling thread and waits for the requests in flight.
+     *
+     * @return The latency report of the run.
+     */
+    public LatencyReport run() {
+        LatencyReport report = new LatencyReport();
+        AtomicInteger inFlight = new AtomicInteger();
+        Random random = new Random(profile.getRandomSeed());
+        Operation[] operations = weightedOperations(profile.getMix());
+        List<String> entities = profile.getEntities();
+        long durationNanos = profile.getDuration().toNanos();
+
+        long start = System.nanoTime();
+        for (long arrival = 0; ; arrival++) {
+            long offset = profile.arrivalOffsetNanos(arrival);
+            if (offset >= durationNanos) {
+                break;
+            }
+            long intended = start + offset;
+            awaitUntil(intended);
+            Operation operation = operations[random.nextInt(operations.length)];
+            String entity = entities.get(random.nextInt(entities.size()));
+            long sent = System.nanoTime();
+            LoadWorkload.Call call;
+            try {
+                call = workload.send(entity, operation, random);
+            } catch (RuntimeException e) {
+                report.record(operation + " " + entity, intended, sent, System.nanoTime(), false);
+                continue;
+            }
+            if (call == null) {
+                report.recordSkipped();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            call.getResponse().whenComplete((response, error) -> {
+                report.record(call.getEndpoint(), intended, sent, System.nanoTime(), error == null && isSuccessful(response));
+                inFlight.decrementAndGet();
+            });
+        }
+        awaitDrained(inFlight);
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Waits until the requests in flight complete or the drain timeout expires.
+     *
+     * @param inFlight The number of requests in flight.
+     */
+    private void awaitDrained(AtomicInteger inFlight) {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Parks the calling thread until a {@link System#nanoTime()} value, spinning for the last few microseconds.
+     *
+     * @param deadline The time to wait for.
+     */
+    private static void awaitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Expands the operation weights into a lookup table, so picking an operation is a single random index.
+     *
+     * @param mix The weight of each operation.
+     * @return One entry per unit of weight.
+     */
+    private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Operation[] table = new Operation[total];
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[index++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+
+    private static boolean isSuccessful(Response response) {
+        int status = response.getStatusCode();
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,214 @@
+package com.api.framework.load;
+
+import com.api.framework.utils.ConfigReader;
+import com.api.framework.utils.Constants;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * LoadProfile class describes the shape of an open-model load test.
+ * <p>
+ * Requests arrive at a target rate that grows linearly from zero during the ramp-up and then stays
+ * constant until the end of the run. Each arrival picks an operation at random according to the
+ * operation mix and an entity type uniformly among the configured ones.
+ * </p>
+ * <p>
+ * {@link #fromConfig()} reads the profile through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.load.rate} - Target arrival rate in requests per second (default 50).</li>
+ *   <li>{@code api.load.rampUpSeconds} - Time to reach the target rate (default 10).</li>
+ *   <li>{@code api.load.durationSeconds} - Total duration including the ramp-up (default 60).</li>
+ *   <li>{@code api.load.mix} - Operation weights, for example {@code GET:70,POST:10,PUT:10,DELETE:10}.</li>
+ *   <li>{@code api.load.entities} - Entity types to drive, for example {@code clients,resources}.</li>
+ *   <li>{@code api.load.seed} - Records created per entity type before the run for GET and PUT (default 20).</li>
+ *   <li>{@code api.load.seedRandom} - Seed of the operation picker, for reproducible runs (default 42).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * LoadProfile profile = new LoadProfile(200, Duration.ofSeconds(10), Duration.ofMinutes(1),
+ *         Map.of(Operation.GET, 80, Operation.POST, 20), List.of(Constants.CLIENTS_PATH), 20, 42L);
+ * }
+ */
+public class LoadProfile {
+    private final double ratePerSecond;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final List<String> entities;
+    private final int seedRecords;
+    private final long randomSeed;
+
+    /**
+     * Creates a load profile.
+     *
+     * @param ratePerSecond The target arrival rate in requests per second.
+     * @param rampUp        The time to reach the target rate, at most the duration.
+     * @param duration      The total duration of the run.
+     * @param mix           The relative weight of each operation; missing operations are never picked.
+     * @param entities      The entity paths to drive, for example {@link Constants#CLIENTS_PATH}.
+     * @param seedRecords   The number of records created per entity type before the run.
+     * @param randomSeed    The seed of the operation and entity picker.
+     * @throws IllegalArgumentException if a value is out of range.
+     */
+    public LoadProfile(double ratePerSecond, Duration rampUp, Duration duration, Map<Operation, Integer> mix,
+                       List<String> entities, int seedRecords, long randomSeed) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("The rate must be positive: " + ratePerSecond);
+        }
+        if (duration.isNegative() || duration.isZero() || rampUp.isNegative() || rampUp.compareTo(duration) > 0) {
+            throw new IllegalArgumentException("The ramp-up " + rampUp + " must fit in the duration " + duration);
+        }
+        if (mix.values().stream().anyMatch(weight -> weight < 0) || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The operation mix needs non-negative weights and at least one positive: " + mix);
+        }
+        for (String entity : entities) {
+            if (!Constants.CLIENTS_PATH.equals(entity) && !Constants.RESOURCES_PATH.equals(entity)) {
+                throw new IllegalArgumentException("Unknown entity type: " + entity);
+            }
+        }
+        if (entities.isEmpty() || seedRecords <= 0) {
+            throw new IllegalArgumentException("At least one entity type and one seed record are required");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+        this.entities = List.copyOf(entities);
+        this.seedRecords = seedRecords;
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * Reads the profile from the framework configuration.
+     *
+     * @return The configured load profile.
+     * @throws IllegalArgumentException if a value is malformed or out of range.
+     */
+    public static LoadProfile fromConfig() {
+        double rate = Double.parseDouble(ConfigReader.getString("api.load.rate", "50"));
+        Duration rampUp = Duration.ofSeconds(ConfigReader.getLong("api.load.rampUpSeconds", 10L));
+        Duration duration = Duration.ofSeconds(ConfigReader.getLong("api.load.durationSeconds", 60L));
+        Map<Operation, Integer> mix = parseMix(ConfigReader.getString("api.load.mix", "GET:70,POST:10,PUT:10,DELETE:10"));
+        List<String> entities = Arrays.stream(ConfigReader.getString("api.load.entities",
+                        Constants.CLIENTS_PATH + "," + Constants.RESOURCES_PATH).split(","))
+                .map(String::trim)
+                .filter(entity -> !entity.isEmpty())
+                .collect(Collectors.toList());
+        return new LoadProfile(rate, rampUp, duration, mix, entities,
+                ConfigReader.getInt("api.load.seed", 20), ConfigReader.getLong("api.load.seedRandom", 42L));
+    }
+
+    /**
+     * Parses an operation mix such as {@code GET:70,POST:10,PUT:10,DELETE:10}.
+     *
+     * @param value The mix definition.
+     * @return The weight of each listed operation.
+     * @throws IllegalArgumentException if an entry is malformed or names an unknown operation.
+     */
+    public static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid operation mix entry, expected OPERATION:weight: " + entry);
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * Returns the time offset at which an arrival is due, following the linear ramp-up and then the constant rate.
+     * <p>
+     * During a ramp-up of length R the cumulative number of arrivals at time t is {@code rate * t^2 / (2R)},
+     * so arrival {@code n} is due at {@code sqrt(2Rn / rate)}; afterwards arrivals are spaced {@code 1 / rate} apart.
+     * </p>
+     *
+     * @param arrival The zero-based arrival number.
+     * @return The offset from the start of the run in nanoseconds.
+     */
+    public long arrivalOffsetNanos(long arrival) {
+        double rampSeconds = rampUp.toNanos() / 1e9;
+        double rampArrivals = ratePerSecond * rampSeconds / 2;
+        double seconds = arrival < rampArrivals
+                ? Math.sqrt(2 * rampSeconds * arrival / ratePerSecond)
+                : rampSeconds + (arrival - rampArrivals) / ratePerSecond;
+        return (long) (seconds * 1e9);
+    }
+
+    /**
+     * Returns the target arrival rate.
+     *
+     * @return The rate in requests per second.
+     */
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * Returns the ramp-up time.
+     *
+     * @return The time to reach the target rate.
+     */
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    /**
+     * Returns the total duration of the run.
+     *
+     * @return The duration including the ramp-up.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the operation mix.
+     *
+     * @return The unmodifiable weight of each operation.
+     */
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    /**
+     * Returns the entity types driven by the run.
+     *
+     * @return The unmodifiable entity paths.
+     */
+    public List<String> getEntities() {
+        return entities;
+    }
+
+    /**
+     * Returns the number of records created per entity type before the run.
+     *
+     * @return The number of seed records.
+     */
+    public int getSeedRecords() {
+        return seedRecords;
+    }
+
+    /**
+     * Returns the seed of the operation and entity picker.
+     *
+     * @return The random seed.
+     */
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f req/s, ramp-up %ss, duration %ss, mix %s, entities %s",
+                ratePerSecond, rampUp.toSeconds(), duration.toSeconds(), mix, entities);
+    }
+}
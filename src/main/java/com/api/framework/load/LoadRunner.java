@@ -0,0 +1,82 @@
+package com.api.framework.load;
+
+import com.api.framework.data.SyntheticDataGenerator;
+import com.api.framework.requests.ClientRequest;
+import com.api.framework.requests.ResourceRequest;
+import com.api.framework.server.ApiTarget;
+import com.api.framework.server.EmbeddedApiServer;
+import com.api.framework.utils.ConfigReader;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * LoadRunner class is the command-line entry point of the load test mode.
+ * <p>
+ * It targets the API selected by {@link ApiTarget}, seeds the records used by GET and PUT, runs the
+ * {@link LoadProfile} read from the configuration, prints the per-endpoint latency summary and writes
+ * the full histograms to {@code api.load.reportDirectory} (default {@code target/load-report}). Records
+ * created by the run are deleted at the end unless {@code api.load.cleanup=false}.
+ * </p>
+ * <p>
+ * Retries, circuit breakers and hedging of the {@link com.api.framework.requests.RequestResilience} layer
+ * are switched off, unless set as system properties: retries and hedges would send requests the profile did
+ * not schedule, and an open circuit would replace slow responses with instant rejections. The deadline still
+ * applies, and calls that miss it are counted as errors.
+ * </p>
+ * Example usage:
+ * {@code
+ * mvn -Pload compile exec:java -Dapi.load.rate=200 -Dapi.load.durationSeconds=60 -Dapi.server.embedded=true
+ * }
+ */
+public final class LoadRunner {
+    private static final Map<String, String> RESILIENCE_OVERRIDES = Map.of(
+            "api.resilience.maxRetries", "0",
+            "api.resilience.breaker.failureThreshold", "0",
+            "api.resilience.hedge.enabled", "false");
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LoadRunner() {
+    }
+
+    /**
+     * Runs the configured load test.
+     *
+     * @param args Not used; the test is configured through {@code api.load.*} properties.
+     */
+    public static void main(String[] args) {
+        RESILIENCE_OVERRIDES.forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        });
+        LoadProfile profile = LoadProfile.fromConfig();
+        System.out.printf("Load test against %s: %s%n", ApiTarget.baseUrl(), profile);
+
+        LoadWorkload workload = new LoadWorkload(new ClientRequest(), new ResourceRequest(),
+                new SyntheticDataGenerator(profile.getRandomSeed()));
+        workload.seed(profile.getEntities(), profile.getSeedRecords());
+        LatencyReport report;
+        try {
+            report = new LoadGenerator(profile, workload).run();
+        } finally {
+            if (ConfigReader.getBoolean("api.load.cleanup", true)) {
+                int failures = workload.cleanup();
+                if (failures > 0) {
+                    System.out.printf("Failed to delete %d records created by the load test%n", failures);
+                }
+            }
+        }
+
+        report.print(System.out);
+        Path directory = Path.of(ConfigReader.getString("api.load.reportDirectory", "target/load-report"));
+        report.writeHistograms(directory);
+        System.out.printf("Histograms written to %s%n", directory.toAbsolutePath());
+        if (ApiTarget.isEmbedded()) {
+            // The JDK server's dispatcher is not a daemon thread and would keep the JVM alive
+            EmbeddedApiServer.shared().stop();
+        }
+    }
+}
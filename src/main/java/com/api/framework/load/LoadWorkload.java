@@ -0,0 +1,239 @@
+package com.api.framework.load;
+
+import com.api.framework.data.FixtureStore;
+import com.api.framework.data.SyntheticDataGenerator;
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.requests.BulkExecutor;
+import com.api.framework.requests.ClientRequest;
+import com.api.framework.requests.ResourceRequest;
+import com.api.framework.utils.Constants;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * LoadWorkload class turns load test operations into calls on {@link ClientRequest} and {@link ResourceRequest}.
+ * <p>
+ * GET and PUT target a fixed set of records created by {@link #seed(Collection, int)} before the run, so
+ * they never race with deletes. Records created by POST are queued and consumed by DELETE; a DELETE
+ * finding the queue empty is skipped rather than sent. Every POST, including seeding, creates a distinct
+ * entity from a {@link SyntheticDataGenerator}, serialized straight to JSON bytes, so long runs neither
+ * pile up identical records nor spend client time on serialization. Requests use the asynchronous variants and
+ * return immediately, so sending never waits for earlier responses.
+ * </p>
+ * Example usage:
+ * {@code
+ * LoadWorkload workload = new LoadWorkload(new ClientRequest(), new ResourceRequest());
+ * workload.seed(List.of(Constants.CLIENTS_PATH), 20);
+ * LoadWorkload.Call call = workload.send(Constants.CLIENTS_PATH, Operation.GET, new Random());
+ * }
+ */
+public class LoadWorkload {
+    private final Map<String, EntityTarget> targets;
+
+    /**
+     * Creates a workload whose POST bodies come from a generator with seed 0.
+     *
+     * @param clientRequest   The request helper for clients.
+     * @param resourceRequest The request helper for resources.
+     */
+    public LoadWorkload(ClientRequest clientRequest, ResourceRequest resourceRequest) {
+        this(clientRequest, resourceRequest, new SyntheticDataGenerator(0));
+    }
+
+    /**
+     * Creates a workload whose POST bodies are the next entities of a generator and whose PUT bodies are
+     * the default client and resource fixtures.
+     *
+     * @param clientRequest   The request helper for clients.
+     * @param resourceRequest The request helper for resources.
+     * @param generator       The generator of created clients and resources.
+     */
+    public LoadWorkload(ClientRequest clientRequest, ResourceRequest resourceRequest, SyntheticDataGenerator generator) {
+        Client client = FixtureStore.defaultClient();
+        Resource resource = FixtureStore.defaultResource();
+        targets = Map.of(
+                Constants.CLIENTS_PATH, new EntityTarget(Constants.CLIENTS_PATH,
+                        () -> clientRequest.createClientAsync(generator.nextClientJson()),
+                        clientRequest::getClientAsync,
+                        id -> clientRequest.updateClientAsync(client, id),
+                        clientRequest::deleteClientAsync,
+                        response -> clientRequest.getClientEntity(response).getId()),
+                Constants.RESOURCES_PATH, new EntityTarget(Constants.RESOURCES_PATH,
+                        () -> resourceRequest.createResourceAsync(generator.nextResourceJson()),
+                        resourceRequest::getResourceAsync,
+                        id -> resourceRequest.updateResourceAsync(resource, id),
+                        resourceRequest::deleteResourceAsync,
+                        response -> resourceRequest.getResourceEntity(response).getId()));
+    }
+
+    /**
+     * Creates the records targeted by GET and PUT.
+     *
+     * @param entities The entity paths to seed.
+     * @param count    The number of records per entity type.
+     * @throws IllegalStateException if a record cannot be created.
+     */
+    public void seed(Collection<String> entities, int count) {
+        for (String entity : entities) {
+            EntityTarget target = target(entity);
+            List<CompletableFuture<Response>> pending = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                pending.add(target.create.get());
+            }
+            List<String> ids = new ArrayList<>(count);
+            for (CompletableFuture<Response> request : pending) {
+                Response response = request.join();
+                if (response.getStatusCode() != 201) {
+                    throw new IllegalStateException("Failed to seed " + entity + " with status code: " + response.getStatusCode());
+                }
+                ids.add(target.idOf.apply(response));
+            }
+            target.stable = ids.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Sends one operation against an entity type without waiting for the response.
+     *
+     * @param entity    The entity path.
+     * @param operation The operation to send.
+     * @param random    The source of randomness used to pick the target record.
+     * @return The call in flight, or null if the operation was skipped because no record could be deleted.
+     * @throws IllegalStateException if the entity type was not seeded.
+     */
+    public Call send(String entity, Operation operation, Random random) {
+        EntityTarget target = target(entity);
+        String[] stable = target.stable;
+        if (stable.length == 0) {
+            throw new IllegalStateException("The entity type was not seeded: " + entity);
+        }
+        switch (operation) {
+            case GET:
+                return new Call(target.endpoint(operation), target.get.apply(stable[random.nextInt(stable.length)]));
+            case PUT:
+                return new Call(target.endpoint(operation), target.update.apply(stable[random.nextInt(stable.length)]));
+            case POST:
+                CompletableFuture<Response> created = target.create.get();
+                created.thenAccept(response -> {
+                    if (response.getStatusCode() == 201) {
+                        target.created.add(target.idOf.apply(response));
+                    }
+                });
+                return new Call(target.endpoint(operation), created);
+            case DELETE:
+                String id = target.created.poll();
+                return id == null ? null : new Call(target.endpoint(operation), target.delete.apply(id));
+            default:
+                throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    /**
+     * Deletes every seeded record and every record created during the run that was not deleted.
+     *
+     * @return The number of records that could not be deleted.
+     */
+    public int cleanup() {
+        int failures = 0;
+        for (EntityTarget target : targets.values()) {
+            List<String> ids = new ArrayList<>(List.of(target.stable));
+            ids.addAll(target.created);
+            target.created.clear();
+            target.stable = new String[0];
+            failures += BulkExecutor.run(ids, BulkExecutor.DEFAULT_PARALLELISM, target.delete).getFailures().size();
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the operations of an entity type.
+     *
+     * @param entity The entity path.
+     * @return The entity target.
+     * @throws IllegalArgumentException if the entity type is unknown.
+     */
+    private EntityTarget target(String entity) {
+        EntityTarget target = targets.get(entity);
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown entity type: " + entity);
+        }
+        return target;
+    }
+
+    /**
+     * A request in flight, labelled with the endpoint it was sent to.
+     */
+    public static final class Call {
+        private final String endpoint;
+        private final CompletableFuture<Response> response;
+
+        private Call(String endpoint, CompletableFuture<Response> response) {
+            this.endpoint = endpoint;
+            this.response = response;
+        }
+
+        /**
+         * Returns the endpoint label, for example {@code GET /api/v1/clients/{id}}.
+         *
+         * @return The endpoint label.
+         */
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * Returns the pending response.
+         *
+         * @return A future completed with the server's response.
+         */
+        public CompletableFuture<Response> getResponse() {
+            return response;
+        }
+    }
+
+    /**
+     * The asynchronous operations and record IDs of one entity type.
+     */
+    private static final class EntityTarget {
+        private final Map<Operation, String> endpoints = new EnumMap<>(Operation.class);
+        private final Supplier<CompletableFuture<Response>> create;
+        private final Function<String, CompletableFuture<Response>> get;
+        private final Function<String, CompletableFuture<Response>> update;
+        private final Function<String, CompletableFuture<Response>> delete;
+        private final Function<Response, String> idOf;
+        private final ConcurrentLinkedQueue<String> created = new ConcurrentLinkedQueue<>();
+        private volatile String[] stable = new String[0];
+
+        private EntityTarget(String entity, Supplier<CompletableFuture<Response>> create,
+                             Function<String, CompletableFuture<Response>> get,
+                             Function<String, CompletableFuture<Response>> update,
+                             Function<String, CompletableFuture<Response>> delete,
+                             Function<Response, String> idOf) {
+            String collection = String.format(Constants.URL, entity);
+            String record = String.format(Constants.URL_WITH_PARAM, entity, "{id}");
+            for (Operation operation : Operation.values()) {
+                endpoints.put(operation, operation + " " + (operation == Operation.POST ? collection : record));
+            }
+            this.create = create;
+            this.get = get;
+            this.update = update;
+            this.delete = delete;
+            this.idOf = idOf;
+        }
+
+        private String endpoint(Operation operation) {
+            return endpoints.get(operation);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.framework.load;
+
+/**
+ * Operation enum lists the HTTP operations a load test can mix.
+ * <p>
+ * Each operation maps to one asynchronous call of {@code ClientRequest} or {@code ResourceRequest}; see
+ * {@link LoadWorkload}.
+ * </p>
+ * Example usage:
+ * {@code
+ * Operation operation = Operation.valueOf("GET");
+ * }
+ */
+public enum Operation {
+    /**
+     * Fetches one existing record by ID.
+     */
+    GET,
+
+    /**
+     * Creates a new record.
+     */
+    POST,
+
+    /**
+     * Updates one existing record.
+     */
+    PUT,
+
+    /**
+     * Deletes a record created during the run.
+     */
+    DELETE
+}
@@ -0,0 +1,35 @@
+package com.api.framework.requests;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * ApacheHttpTransport class is the default {@link HttpTransport}: RestAssured's own blocking Apache HTTP client,
+ * running on the pooled keep-alive connections of {@link HttpConnectionPool}.
+ * <p>
+ * It simply lets the request continue to RestAssured, which sends it once the filter chain ends.
+ * </p>
+ */
+public final class ApacheHttpTransport implements HttpTransport {
+    static final String NAME = "apache";
+    static final ApacheHttpTransport INSTANCE = new ApacheHttpTransport();
+
+    /**
+     * Private constructor; use {@link HttpTransport#configured()}.
+     */
+    private ApacheHttpTransport() {
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        return context.next(requestSpec, responseSpec);
+    }
+}
@@ -1,25 +1,106 @@
 package com.api.framework.requests;
 
+import com.api.framework.server.ApiTarget;
+import com.api.framework.utils.AsyncExecutors;
 import com.api.framework.utils.Constants;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 /**
  * BaseRequest class provides common HTTP request methods using RestAssured.
  * <p>
- * This class includes methods for performing GET, POST, PUT, and DELETE requests.
+ * Requests start from a base specification cached per base URI and entity type by {@link RequestSpecs},
+ * which also ends them with the configured {@link HttpTransport}: the pooled keep-alive connections of
+ * {@link HttpConnectionPool}, or the JDK's HTTP/2 client with {@code api.transport=jdk}. The base
+ * URI is fixed when the helper is created, by default to {@link ApiTarget#baseUrl()}, and is never read
+ * from the {@link RestAssured} statics, so helpers on different threads may target different APIs.
+ * This class includes methods for performing GET, POST, PUT, and DELETE requests, each with an
+ * asynchronous variant returning a {@link CompletableFuture}. Asynchronous requests run on the
+ * executor returned by {@link #getAsyncExecutor()}, which defaults to {@link AsyncExecutors#defaultExecutor()},
+ * and are recorded in the {@link RequestMetrics} scopes of the calling thread. Each of them occupies an
+ * executor thread until its response has arrived, on every transport.
+ * </p>
+ * <p>
+ * Every request goes through the {@link RequestResilience} layer of its entity type, which enforces a
+ * deadline, retries idempotent requests, fails fast on endpoints whose circuit is open and optionally hedges
+ * slow GET requests, as configured by {@link ResiliencePolicy}.
  * </p>
  * Example usage:
  * {@code
  * BaseRequest request = new BaseRequest();
  * Map<String, String> headers = request.createBaseHeaders();
  * Response response = request.requestGet("https://api.example.com/resource", headers);
+ * CompletableFuture<Response> future = request.requestGetAsync("https://api.example.com/resource", headers);
  * }
  */
 public class BaseRequest {
+    private static final Map<String, String> BASE_HEADERS = Map.of(Constants.CONTENT_TYPE, Constants.VALUE_CONTENT_TYPE);
+    private static final String GENERIC_ENTITY = "";
+
+    private final String entityPath;
+    private final String baseUri;
+    private final RequestResilience resilience;
+    private volatile Executor asyncExecutor;
+
+    /**
+     * Creates a request helper that is not bound to a specific entity type.
+     */
+    public BaseRequest() {
+        this(GENERIC_ENTITY);
+    }
+
+    /**
+     * Creates a request helper bound to an entity type of the API selected by {@link ApiTarget}, whose requests
+     * share that type's base specification.
+     *
+     * @param entityPath The entity path, for example {@link Constants#CLIENTS_PATH}.
+     */
+    protected BaseRequest(String entityPath) {
+        this(entityPath, ApiTarget.baseUrl());
+    }
+
+    /**
+     * Creates a request helper bound to an entity type of a given API, whose requests share that type's base
+     * specification.
+     *
+     * @param entityPath The entity path, for example {@link Constants#CLIENTS_PATH}.
+     * @param baseUri    The base URI of the API, for example {@code http://127.0.0.1:8080}.
+     */
+    protected BaseRequest(String entityPath, String baseUri) {
+        this.entityPath = entityPath;
+        this.baseUri = Objects.requireNonNull(baseUri, "baseUri");
+        this.resilience = RequestResilience.forEntity(entityPath, baseUri);
+    }
+
+    /**
+     * Returns the base URI of the API this helper sends requests to.
+     *
+     * @return The base URI.
+     */
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Returns the deadline, retry, circuit breaker and hedging layer applied to the requests of this helper.
+     *
+     * @return The resilience layer shared by the helpers of this entity type and API.
+     */
+    public RequestResilience getResilience() {
+        return resilience;
+    }
+
     /**
      * Sends a GET request to the specified endpoint with the given headers.
      *
@@ -28,11 +109,24 @@ public class BaseRequest {
      * @return A Response object containing the server's response to the GET request.
      */
     protected Response requestGet(String endpoint, Map<String, ?> headers) {
-        return RestAssured.given()
-                .contentType(Constants.VALUE_CONTENT_TYPE)
-                .headers(headers)
+        return resilience.execute("GET", endpoint, () -> given(headers)
+                .when()
+                .get(endpoint));
+    }
+
+    /**
+     * Sends a GET request to the specified endpoint with the given headers and query parameters.
+     *
+     * @param endpoint    The API URL endpoint.
+     * @param headers     A map of headers to include in the request.
+     * @param queryParams A map of query parameters to append to the URL.
+     * @return A Response object containing the server's response to the GET request.
+     */
+    protected Response requestGet(String endpoint, Map<String, ?> headers, Map<String, ?> queryParams) {
+        return resilience.execute("GET", endpoint, () -> given(headers)
+                .queryParams(queryParams)
                 .when()
-                .get(endpoint);
+                .get(endpoint));
     }
 
     /**
@@ -40,16 +134,13 @@ public class BaseRequest {
      *
      * @param endpoint The API URL endpoint.
      * @param headers  A map of headers to include in the request.
-     * @param body     The body of the request, typically a model object.
+     * @param body     The body of the request, typically a model object or pre-serialized JSON bytes.
      * @return A Response object containing the server's response to the POST request.
      */
     protected Response requestPost(String endpoint, Map<String, ?> headers, Object body) {
-        return RestAssured.given()
-                .contentType(Constants.VALUE_CONTENT_TYPE)
-                .headers(headers)
-                .body(body)
+        return resilience.execute("POST", endpoint, () -> withBody(given(headers), body)
                 .when()
-                .post(endpoint);
+                .post(endpoint));
     }
 
     /**
@@ -57,16 +148,13 @@ public class BaseRequest {
      *
      * @param endpoint The API URL endpoint.
      * @param headers  A map of headers to include in the request.
-     * @param body     The body of the request, typically a model object.
+     * @param body     The body of the request, typically a model object or pre-serialized JSON bytes.
      * @return A Response object containing the server's response to the PUT request.
      */
     protected Response requestPut(String endpoint, Map<String, ?> headers, Object body) {
-        return RestAssured.given()
-                .contentType(Constants.VALUE_CONTENT_TYPE)
-                .headers(headers)
-                .body(body)
+        return resilience.execute("PUT", endpoint, () -> withBody(given(headers), body)
                 .when()
-                .put(endpoint);
+                .put(endpoint));
     }
 
     /**
@@ -77,21 +165,182 @@ public class BaseRequest {
      * @return A Response object containing the server's response to the DELETE request.
      */
     protected Response requestDelete(String endpoint, Map<String, ?> headers) {
-        return RestAssured.given()
-                .contentType(Constants.VALUE_CONTENT_TYPE)
-                .headers(headers)
+        return resilience.execute("DELETE", endpoint, () -> given(headers)
                 .when()
-                .delete(endpoint);
+                .delete(endpoint));
     }
 
     /**
-     * Creates a default map of headers with content type set to a predefined value.
+     * Returns the default map of headers with content type set to a predefined value.
+     * <p>
+     * The map is shared and immutable; copy it before adding headers.
+     * </p>
      *
      * @return A map containing default headers.
      */
     protected Map<String, String> createBaseHeaders() {
-        Map<String, String> headers = new HashMap<>();
-        headers.put(Constants.CONTENT_TYPE, Constants.VALUE_CONTENT_TYPE);
-        return headers;
+        return BASE_HEADERS;
+    }
+
+    /**
+     * Starts a request from the entity type's cached base specification.
+     * <p>
+     * The base specification already carries the default headers, so they are only added again when the
+     * caller passes a different map.
+     * </p>
+     *
+     * @param headers A map of headers to include in the request.
+     * @return A request specification ready to be sent.
+     */
+    private RequestSpecification given(Map<String, ?> headers) {
+        RequestSpecification specification = RestAssured.given(RequestSpecs.forEntity(entityPath, baseUri));
+        if (headers != BASE_HEADERS && headers != null && !headers.isEmpty()) {
+            specification.headers(headers);
+        }
+        return specification;
+    }
+
+    /**
+     * Sets the request body. Byte arrays are sent as they are; any other body goes through the object mapper.
+     *
+     * @param spec The request specification.
+     * @param body The body of the request.
+     * @return The same specification.
+     */
+    private static RequestSpecification withBody(RequestSpecification spec, Object body) {
+        return body instanceof byte[] ? spec.body((byte[]) body) : spec.body(body);
+    }
+
+    /**
+     * Sends a GET request asynchronously to the specified endpoint with the given headers.
+     *
+     * @param endpoint The API URL endpoint.
+     * @param headers  A map of headers to include in the request.
+     * @return A future completed with the server's response to the GET request.
+     */
+    protected CompletableFuture<Response> requestGetAsync(String endpoint, Map<String, ?> headers) {
+        return CompletableFuture.supplyAsync(RequestMetrics.inCurrentScopes(() -> requestGet(endpoint, headers)), getAsyncExecutor());
+    }
+
+    /**
+     * Sends a GET request asynchronously to the specified endpoint with the given headers and query parameters.
+     *
+     * @param endpoint    The API URL endpoint.
+     * @param headers     A map of headers to include in the request.
+     * @param queryParams A map of query parameters to append to the URL.
+     * @return A future completed with the server's response to the GET request.
+     */
+    protected CompletableFuture<Response> requestGetAsync(String endpoint, Map<String, ?> headers,
+                                                          Map<String, ?> queryParams) {
+        return CompletableFuture.supplyAsync(RequestMetrics.inCurrentScopes(() -> requestGet(endpoint, headers, queryParams)), getAsyncExecutor());
+    }
+
+    /**
+     * Sends a POST request asynchronously to the specified endpoint with the given headers and body.
+     *
+     * @param endpoint The API URL endpoint.
+     * @param headers  A map of headers to include in the request.
+     * @param body     The body of the request, typically a model object or pre-serialized JSON bytes.
+     * @return A future completed with the server's response to the POST request.
+     */
+    protected CompletableFuture<Response> requestPostAsync(String endpoint, Map<String, ?> headers, Object body) {
+        return CompletableFuture.supplyAsync(RequestMetrics.inCurrentScopes(() -> requestPost(endpoint, headers, body)), getAsyncExecutor());
+    }
+
+    /**
+     * Sends a PUT request asynchronously to the specified endpoint with the given headers and body.
+     *
+     * @param endpoint The API URL endpoint.
+     * @param headers  A map of headers to include in the request.
+     * @param body     The body of the request, typically a model object or pre-serialized JSON bytes.
+     * @return A future completed with the server's response to the PUT request.
+     */
+    protected CompletableFuture<Response> requestPutAsync(String endpoint, Map<String, ?> headers, Object body) {
+        return CompletableFuture.supplyAsync(RequestMetrics.inCurrentScopes(() -> requestPut(endpoint, headers, body)), getAsyncExecutor());
+    }
+
+    /**
+     * Sends a DELETE request asynchronously to the specified endpoint with the given headers.
+     *
+     * @param endpoint The API URL endpoint.
+     * @param headers  A map of headers to include in the request.
+     * @return A future completed with the server's response to the DELETE request.
+     */
+    protected CompletableFuture<Response> requestDeleteAsync(String endpoint, Map<String, ?> headers) {
+        return CompletableFuture.supplyAsync(RequestMetrics.inCurrentScopes(() -> requestDelete(endpoint, headers)), getAsyncExecutor());
+    }
+
+    /**
+     * Streams the entities of a collection matching a query, page by page, pushing the criteria to the API.
+     * <p>
+     * The first page is requested with the query's search parameters. If the API answers 200, the stream
+     * continues over the filtered pages; if it answers 404, as some APIs do for searches without results, the
+     * stream is empty. Any other status means the API does not support the search, and the stream falls back to
+     * scanning the unfiltered collection. Either way every element is checked with
+     * {@link EntityQuery#matches(Object)}, and pages are only fetched while the stream is consumed, so
+     * {@code findFirst()} stops at the first match. Close the stream when done so it stops requesting pages.
+     * </p>
+     *
+     * @param endpoint The collection endpoint.
+     * @param query    The search criteria.
+     * @param pageSize The number of elements requested per page.
+     * @param decoder  Decodes a page response into its elements.
+     * @param <T>      The entity type.
+     * @return A lazily fetched stream of the matching entities.
+     */
+    protected <T> Stream<T> requestFind(String endpoint, EntityQuery<T> query, int pageSize,
+                                        Function<Response, List<T>> decoder) {
+        Map<String, String> headers = createBaseHeaders();
+        Map<String, String> search = query.toQueryParams();
+        IntFunction<CompletableFuture<Response>> scan = page -> requestGetAsync(endpoint, headers, pageParams(Map.of(), page, pageSize));
+        if (query.isEmpty()) {
+            return PagedStream.of(pageSize, scan, decoder);
+        }
+        Response first = requestGet(endpoint, headers, pageParams(search, 1, pageSize));
+        Stream<T> candidates;
+        if (first.getStatusCode() == 200) {
+            candidates = PagedStream.of(pageSize, page -> page == 1
+                    ? CompletableFuture.completedFuture(first)
+                    : requestGetAsync(endpoint, headers, pageParams(search, page, pageSize)), decoder);
+        } else if (first.getStatusCode() == 404) {
+            return Stream.empty();
+        } else {
+            candidates = PagedStream.of(pageSize, scan, decoder);
+        }
+        return candidates.filter(query::matches);
+    }
+
+    /**
+     * Returns the executor used by the asynchronous request methods of this instance.
+     *
+     * @return The configured executor, or the shared default executor if none was set.
+     */
+    public Executor getAsyncExecutor() {
+        Executor executor = asyncExecutor;
+        return executor != null ? executor : AsyncExecutors.defaultExecutor();
+    }
+
+    /**
+     * Sets the executor used by the asynchronous request methods of this instance.
+     *
+     * @param asyncExecutor The executor to use, or null to fall back to the shared default executor.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Builds the query parameters of one page of a search.
+     *
+     * @param search The search parameters.
+     * @param page   The page number, starting at 1.
+     * @param limit  The maximum number of elements in the page.
+     * @return A map of query parameters.
+     */
+    private static Map<String, Object> pageParams(Map<String, String> search, int page, int limit) {
+        Map<String, Object> params = new LinkedHashMap<>(search);
+        params.put(Constants.PAGE_PARAM, page);
+        params.put(Constants.LIMIT_PARAM, limit);
+        return params;
     }
-}
\ No newline at end of file
+}
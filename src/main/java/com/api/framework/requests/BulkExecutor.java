@@ -0,0 +1,84 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * BulkExecutor class runs one asynchronous request per item with a cap on the number in flight.
+ * <p>
+ * The calling thread blocks whenever the cap is reached, so at most {@code parallelism} requests are
+ * outstanding against the API at any time. A failing item never stops the others; every outcome is
+ * collected into a {@link BulkResult}. The default cap is read from {@code api.bulk.parallelism} (16).
+ * </p>
+ * Example usage:
+ * {@code
+ * BulkResult<String> result = BulkExecutor.run(ids, 8, clientRequest::deleteClientAsync);
+ * }
+ */
+public final class BulkExecutor {
+    /**
+     * The default maximum number of requests in flight.
+     */
+    public static final int DEFAULT_PARALLELISM = ConfigReader.getInt("api.bulk.parallelism", 16);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BulkExecutor() {
+    }
+
+    /**
+     * Sends one request per item and waits for all of them.
+     *
+     * @param items       The items to process.
+     * @param parallelism The maximum number of requests in flight.
+     * @param operation   Sends the asynchronous request for an item.
+     * @param <T>         The item type.
+     * @return The per-item results, in the iteration order of the items.
+     * @throws IllegalArgumentException if the parallelism is not positive.
+     */
+    public static <T> BulkResult<T> run(Collection<T> items, int parallelism,
+                                        Function<T, CompletableFuture<Response>> operation) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+        }
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<BulkItemResult<T>>> pending = new ArrayList<>(items.size());
+        for (T item : items) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<Response> request;
+            try {
+                request = operation.apply(item);
+            } catch (RuntimeException e) {
+                request = CompletableFuture.failedFuture(e);
+            }
+            pending.add(request.handle((response, error) -> {
+                permits.release();
+                return new BulkItemResult<>(item, response, unwrap(error));
+            }));
+        }
+        List<BulkItemResult<T>> results = new ArrayList<>(pending.size());
+        for (CompletableFuture<BulkItemResult<T>> result : pending) {
+            results.add(result.join());
+        }
+        return new BulkResult<>(results);
+    }
+
+    /**
+     * Removes the completion wrapper added by {@link CompletableFuture}.
+     *
+     * @param error The error, possibly wrapped.
+     * @return The underlying error, or null.
+     */
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
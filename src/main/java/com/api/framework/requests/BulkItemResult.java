@@ -0,0 +1,82 @@
+package com.api.framework.requests;
+
+import io.restassured.response.Response;
+
+/**
+ * BulkItemResult class holds the outcome of one item of a bulk operation.
+ * <p>
+ * An item succeeded when its request completed with a 2xx status code. Otherwise either the response
+ * (non-2xx status) or the error (request failure) explains why it failed.
+ * </p>
+ *
+ * @param <T> The type of the item, for example a client ID or a resource.
+ */
+public final class BulkItemResult<T> {
+    private final T item;
+    private final Response response;
+    private final Throwable error;
+
+    /**
+     * Creates an item result.
+     *
+     * @param item     The item the request was sent for.
+     * @param response The server's response, or null if the request failed.
+     * @param error    The request failure, or null if a response was received.
+     */
+    BulkItemResult(T item, Response response, Throwable error) {
+        this.item = item;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Returns the item the request was sent for.
+     *
+     * @return The item.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Returns the server's response.
+     *
+     * @return The response, or null if the request failed before a response was received.
+     */
+    public Response getResponse() {
+        return response;
+    }
+
+    /**
+     * Returns the request failure.
+     *
+     * @return The error, or null if a response was received.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Indicates whether the item's request completed with a 2xx status code.
+     *
+     * @return True if the item succeeded, false otherwise.
+     */
+    public boolean isSuccessful() {
+        return error == null && response != null && response.getStatusCode() / 100 == 2;
+    }
+
+    /**
+     * Describes the failure of this item.
+     *
+     * @return A short description of why the item failed, or "OK" if it succeeded.
+     */
+    public String describe() {
+        if (isSuccessful()) {
+            return "OK";
+        }
+        if (error != null) {
+            return item + ": " + error;
+        }
+        return item + ": status code " + response.getStatusCode();
+    }
+}
@@ -0,0 +1,41 @@
+package com.api.framework.requests;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * BulkOperationException is thrown when one or more items of a bulk operation failed.
+ * <p>
+ * The message lists every failed item. Request failures are attached as suppressed exceptions.
+ * </p>
+ */
+public class BulkOperationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<? extends BulkItemResult<?>> failures;
+
+    /**
+     * Creates an exception for the failed items of a bulk operation.
+     *
+     * @param failures The failed item results.
+     * @param total    The total number of items in the operation.
+     */
+    public BulkOperationException(List<? extends BulkItemResult<?>> failures, int total) {
+        super(failures.size() + " of " + total + " bulk items failed: "
+                + failures.stream().map(BulkItemResult::describe).collect(Collectors.joining("; ")));
+        this.failures = failures;
+        failures.stream()
+                .map(BulkItemResult::getError)
+                .filter(error -> error != null)
+                .forEach(this::addSuppressed);
+    }
+
+    /**
+     * Returns the failed item results.
+     *
+     * @return The failures.
+     */
+    public List<? extends BulkItemResult<?>> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,79 @@
+package com.api.framework.requests;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * BulkResult class aggregates the per-item outcomes of a bulk operation.
+ * <p>
+ * Results are listed in the order of the submitted items.
+ * </p>
+ * Example usage:
+ * {@code
+ * BulkResult<String> result = clientRequest.deleteClients(ids);
+ * result.assertAllSucceeded();
+ * }
+ *
+ * @param <T> The type of the items, for example a client ID or a resource.
+ */
+public final class BulkResult<T> {
+    private final List<BulkItemResult<T>> results;
+
+    /**
+     * Creates a bulk result.
+     *
+     * @param results The per-item results, in submission order.
+     */
+    BulkResult(List<BulkItemResult<T>> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Returns every per-item result.
+     *
+     * @return An unmodifiable list of results, in submission order.
+     */
+    public List<BulkItemResult<T>> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the results of the items that failed.
+     *
+     * @return A list of failed results, in submission order.
+     */
+    public List<BulkItemResult<T>> getFailures() {
+        return results.stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of items that succeeded.
+     *
+     * @return The success count.
+     */
+    public long getSuccessCount() {
+        return results.stream().filter(BulkItemResult::isSuccessful).count();
+    }
+
+    /**
+     * Indicates whether every item succeeded.
+     *
+     * @return True if no item failed, false otherwise.
+     */
+    public boolean isSuccessful() {
+        return results.stream().allMatch(BulkItemResult::isSuccessful);
+    }
+
+    /**
+     * Throws if any item failed.
+     *
+     * @throws BulkOperationException describing every failed item.
+     */
+    public void assertAllSucceeded() {
+        List<BulkItemResult<T>> failures = getFailures();
+        if (!failures.isEmpty()) {
+            throw new BulkOperationException(failures, results.size());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.api.framework.requests;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CircuitBreaker class stops calling an endpoint that keeps failing.
+ * <p>
+ * The circuit starts closed. After a configured number of consecutive failures it opens, and every call is
+ * rejected until the open time has elapsed. Then a single trial call is let through (half-open): its success
+ * closes the circuit, its failure opens it again. Failures are transport errors and 5xx responses, as
+ * classified by {@link RequestResilience}; the breaker only counts them.
+ * </p>
+ * Example usage:
+ * {@code
+ * CircuitBreaker breaker = new CircuitBreaker(5, 5000);
+ * if (breaker.tryAcquire()) {
+ *     breaker.onSuccess();
+ * }
+ * }
+ */
+public class CircuitBreaker {
+    /**
+     * The states of a circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    /**
+     * Creates a closed circuit.
+     *
+     * @param failureThreshold The number of consecutive failures opening the circuit.
+     * @param openMillis       The time the circuit rejects calls before letting a trial call through.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("The failure threshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    /**
+     * Asks for permission to make a call. Every granted call must be followed by {@link #onSuccess()} or
+     * {@link #onFailure()}.
+     *
+     * @return True if the call may proceed, false if the circuit rejects it.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Records a successful call, closing the circuit.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records a failed call, opening the circuit after too many consecutive failures or a failed trial call.
+     */
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return The state.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the time until an open circuit lets a trial call through.
+     *
+     * @return The remaining open time in milliseconds, 0 if the circuit is not open or the time has elapsed.
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - openedAt)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.api.framework.requests;
+
+/**
+ * CircuitOpenException is thrown instead of sending a request to an endpoint whose {@link CircuitBreaker} is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String endpoint;
+
+    /**
+     * Creates an exception for a rejected call.
+     *
+     * @param endpoint            The logical endpoint, for example {@code GET clients/{id}}.
+     * @param remainingOpenMillis The time until the circuit lets a trial call through.
+     */
+    public CircuitOpenException(String endpoint, long remainingOpenMillis) {
+        super("Circuit open for " + endpoint + ", retry in " + remainingOpenMillis + " ms");
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Returns the endpoint whose circuit is open.
+     *
+     * @return The logical endpoint.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,89 @@
+package com.api.framework.requests;
+
+import com.api.framework.models.Client;
+
+import java.util.List;
+
+/**
+ * ClientQuery class describes the clients to look up with {@link ClientRequest#findClients(ClientQuery)}.
+ * <p>
+ * Every criterion narrows the query further; see {@link EntityQuery} for how criteria are sent and matched.
+ * </p>
+ * Example usage:
+ * {@code
+ * Optional<Client> laura = clientRequest.findFirstClient(new ClientQuery().name("Laura"));
+ * }
+ */
+public final class ClientQuery extends EntityQuery<Client> {
+
+    /**
+     * Creates a query matching every client.
+     */
+    public ClientQuery() {
+        this(List.of());
+    }
+
+    private ClientQuery(List<Criterion<Client>> criteria) {
+        super(criteria);
+    }
+
+    /**
+     * Restricts the query to clients with a first name.
+     *
+     * @param name The first name, compared ignoring case.
+     * @return A new query.
+     */
+    public ClientQuery name(String name) {
+        return new ClientQuery(and("name", name, Client::getName));
+    }
+
+    /**
+     * Restricts the query to clients with a last name.
+     *
+     * @param lastName The last name, compared ignoring case.
+     * @return A new query.
+     */
+    public ClientQuery lastName(String lastName) {
+        return new ClientQuery(and("lastName", lastName, Client::getLastName));
+    }
+
+    /**
+     * Restricts the query to clients living in a country.
+     *
+     * @param country The country, compared ignoring case.
+     * @return A new query.
+     */
+    public ClientQuery country(String country) {
+        return new ClientQuery(and("country", country, Client::getCountry));
+    }
+
+    /**
+     * Restricts the query to clients living in a city.
+     *
+     * @param city The city, compared ignoring case.
+     * @return A new query.
+     */
+    public ClientQuery city(String city) {
+        return new ClientQuery(and("city", city, Client::getCity));
+    }
+
+    /**
+     * Restricts the query to clients with an email address.
+     *
+     * @param email The email address, compared ignoring case.
+     * @return A new query.
+     */
+    public ClientQuery email(String email) {
+        return new ClientQuery(and("email", email, Client::getEmail));
+    }
+
+    /**
+     * Restricts the query to clients with a phone number.
+     *
+     * @param phone The phone number.
+     * @return A new query.
+     */
+    public ClientQuery phone(String phone) {
+        return new ClientQuery(and("phone", phone, Client::getPhone));
+    }
+}
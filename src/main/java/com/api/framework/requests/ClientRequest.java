@@ -1,20 +1,30 @@
 package com.api.framework.requests;
 
-import com.google.gson.Gson;
+import com.api.framework.data.FixtureStore;
 import com.api.framework.models.Client;
+import com.api.framework.serialization.JsonMapper;
 import com.api.framework.utils.Constants;
-import com.api.framework.utils.JsonFileReader;
-import io.restassured.module.jsv.JsonSchemaValidator;
-import io.restassured.path.json.JsonPath;
+import com.api.framework.utils.JsonStreamDecoder;
+import com.api.framework.utils.SchemaFingerprintCache;
+import com.api.framework.utils.SchemaRegistry;
+import com.api.framework.utils.SchemaValidationResult;
+import com.api.framework.utils.StreamingSchemaValidator;
 import io.restassured.response.Response;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * ClientRequest class provides methods for performing CRUD operations on Client resources.
  * <p>
- * This class extends {@link BaseRequest} to utilize common HTTP request methods.
+ * This class extends {@link BaseRequest} to utilize common HTTP request methods. Every operation also
+ * has an asynchronous variant. Instances keep no per-request state, so one instance can be shared by
+ * several threads and synchronous and asynchronous calls can be mixed freely.
  * </p>
  * Example usage:
  * {@code
@@ -23,7 +33,21 @@ import java.util.List;
  * }
  */
 public class ClientRequest extends BaseRequest {
-    private String endpoint;
+    /**
+     * Creates a request helper bound to the clients entity type of the API selected by {@link com.api.framework.server.ApiTarget}.
+     */
+    public ClientRequest() {
+        super(Constants.CLIENTS_PATH);
+    }
+
+    /**
+     * Creates a request helper bound to the clients entity type of a given API.
+     *
+     * @param baseUri The base URI of the API, for example {@code http://127.0.0.1:8080}.
+     */
+    public ClientRequest(String baseUri) {
+        super(Constants.CLIENTS_PATH, baseUri);
+    }
 
     /**
      * Fetches the list of all clients.
@@ -31,8 +55,72 @@ public class ClientRequest extends BaseRequest {
      * @return A Response object containing the server's response to the GET request.
      */
     public Response getClients() {
-        endpoint = String.format(Constants.URL, Constants.CLIENTS_PATH);
-        return requestGet(endpoint, createBaseHeaders());
+        return requestGet(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders());
+    }
+
+    /**
+     * Fetches one page of the client list.
+     *
+     * @param page  The page number, starting at 1.
+     * @param limit The maximum number of clients in the page.
+     * @return A Response object containing the server's response to the GET request.
+     */
+    public Response getClientsPage(int page, int limit) {
+        return requestGet(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders(), pageParams(page, limit));
+    }
+
+    /**
+     * Streams every client page by page, prefetching the next page while the current one is consumed.
+     * <p>
+     * At most two pages are held in memory. Close the stream when done so it stops requesting pages.
+     * </p>
+     *
+     * @param pageSize The number of clients requested per page.
+     * @return A lazily fetched stream of Client objects.
+     */
+    public Stream<Client> getClientsPaged(int pageSize) {
+        String pagedEndpoint = String.format(Constants.URL, Constants.CLIENTS_PATH);
+        return PagedStream.of(pageSize,
+                page -> requestGetAsync(pagedEndpoint, createBaseHeaders(), pageParams(page, pageSize)),
+                this::getClientsEntity);
+    }
+
+    /**
+     * Streams the clients matching a query, sending its criteria to the API as search parameters.
+     * <p>
+     * Pages of {@link EntityQuery#DEFAULT_PAGE_SIZE} candidates are fetched while the stream is consumed,
+     * falling back to a scan of the whole collection if the API rejects the search. Close the stream when done.
+     * </p>
+     *
+     * @param query The search criteria.
+     * @return A lazily fetched stream of the matching Client objects.
+     */
+    public Stream<Client> findClients(ClientQuery query) {
+        return findClients(query, EntityQuery.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams the clients matching a query, sending its criteria to the API as search parameters.
+     *
+     * @param query    The search criteria.
+     * @param pageSize The number of candidates requested per page.
+     * @return A lazily fetched stream of the matching Client objects.
+     * @see BaseRequest#requestFind(String, EntityQuery, int, java.util.function.Function)
+     */
+    public Stream<Client> findClients(ClientQuery query, int pageSize) {
+        return requestFind(String.format(Constants.URL, Constants.CLIENTS_PATH), query, pageSize, this::getClientsEntity);
+    }
+
+    /**
+     * Looks up the first client matching a query, fetching no more pages than needed to find it.
+     *
+     * @param query The search criteria.
+     * @return The first matching client in collection order, or an empty Optional if there is none.
+     */
+    public Optional<Client> findFirstClient(ClientQuery query) {
+        try (Stream<Client> matches = findClients(query)) {
+            return matches.findFirst();
+        }
     }
 
     /**
@@ -42,8 +130,7 @@ public class ClientRequest extends BaseRequest {
      * @return A Response object containing the server's response to the GET request.
      */
     public Response getClient(String clientId) {
-        endpoint = String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId);
-        return requestGet(endpoint, createBaseHeaders());
+        return requestGet(String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId), createBaseHeaders());
     }
 
     /**
@@ -70,8 +157,18 @@ public class ClientRequest extends BaseRequest {
      * @return A Response object containing the server's response to the POST request.
      */
     public Response createClient(Client client) {
-        endpoint = String.format(Constants.URL, Constants.CLIENTS_PATH);
-        return requestPost(endpoint, createBaseHeaders(), client);
+        return requestPost(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders(), client);
+    }
+
+    /**
+     * Creates a new client from an already serialized body, for example one produced by
+     * {@link com.api.framework.data.SyntheticDataGenerator#clientJson(long)}.
+     *
+     * @param clientJson The UTF-8 encoded JSON of the client to be created.
+     * @return A Response object containing the server's response to the POST request.
+     */
+    public Response createClient(byte[] clientJson) {
+        return requestPost(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders(), clientJson);
     }
 
     /**
@@ -82,8 +179,7 @@ public class ClientRequest extends BaseRequest {
      * @return A Response object containing the server's response to the PUT request.
      */
     public Response updateClient(Client client, String clientId) {
-        endpoint = String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId);
-        return requestPut(endpoint, createBaseHeaders(), client);
+        return requestPut(String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId), createBaseHeaders(), client);
     }
 
     /**
@@ -93,8 +189,88 @@ public class ClientRequest extends BaseRequest {
      * @return A Response object containing the server's response to the DELETE request.
      */
     public Response deleteClient(String clientId) {
-        endpoint = String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId);
-        return requestDelete(endpoint, createBaseHeaders());
+        return requestDelete(String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId), createBaseHeaders());
+    }
+
+    /**
+     * Fetches the list of all clients asynchronously.
+     *
+     * @return A future completed with the server's response to the GET request.
+     */
+    public CompletableFuture<Response> getClientsAsync() {
+        return requestGetAsync(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders());
+    }
+
+    /**
+     * Fetches a client by its unique ID asynchronously.
+     *
+     * @param clientId The unique identifier of the client.
+     * @return A future completed with the server's response to the GET request.
+     */
+    public CompletableFuture<Response> getClientAsync(String clientId) {
+        return requestGetAsync(String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId), createBaseHeaders());
+    }
+
+    /**
+     * Creates a new client asynchronously.
+     *
+     * @param client The client object to be created.
+     * @return A future completed with the server's response to the POST request.
+     */
+    public CompletableFuture<Response> createClientAsync(Client client) {
+        return requestPostAsync(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders(), client);
+    }
+
+    /**
+     * Creates a new client from an already serialized body asynchronously.
+     *
+     * @param clientJson The UTF-8 encoded JSON of the client to be created.
+     * @return A future completed with the server's response to the POST request.
+     */
+    public CompletableFuture<Response> createClientAsync(byte[] clientJson) {
+        return requestPostAsync(String.format(Constants.URL, Constants.CLIENTS_PATH), createBaseHeaders(), clientJson);
+    }
+
+    /**
+     * Updates an existing client by its unique ID asynchronously.
+     *
+     * @param client   The client object containing updated information.
+     * @param clientId The unique identifier of the client.
+     * @return A future completed with the server's response to the PUT request.
+     */
+    public CompletableFuture<Response> updateClientAsync(Client client, String clientId) {
+        return requestPutAsync(String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId), createBaseHeaders(), client);
+    }
+
+    /**
+     * Deletes a client by its unique ID asynchronously.
+     *
+     * @param clientId The unique identifier of the client.
+     * @return A future completed with the server's response to the DELETE request.
+     */
+    public CompletableFuture<Response> deleteClientAsync(String clientId) {
+        return requestDeleteAsync(String.format(Constants.URL_WITH_PARAM, Constants.CLIENTS_PATH, clientId), createBaseHeaders());
+    }
+
+    /**
+     * Deletes several clients concurrently, with at most {@link BulkExecutor#DEFAULT_PARALLELISM} requests in flight.
+     *
+     * @param clientIds The unique identifiers of the clients to delete.
+     * @return The per-client results.
+     */
+    public BulkResult<String> deleteClients(Collection<String> clientIds) {
+        return deleteClients(clientIds, BulkExecutor.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Deletes several clients concurrently.
+     *
+     * @param clientIds   The unique identifiers of the clients to delete.
+     * @param parallelism The maximum number of DELETE requests in flight.
+     * @return The per-client results.
+     */
+    public BulkResult<String> deleteClients(Collection<String> clientIds, int parallelism) {
+        return BulkExecutor.run(clientIds, parallelism, this::deleteClientAsync);
     }
 
     /**
@@ -109,23 +285,38 @@ public class ClientRequest extends BaseRequest {
 
     /**
      * Converts a Response object to a list of Client entities.
+     * <p>
+     * The body is decoded in a single streaming pass by {@link JsonStreamDecoder}, from its file if it was
+     * spilled by {@link ResponseSpill}.
+     * </p>
      *
      * @param response The Response object containing the client data.
-     * @return A list of Client objects.
+     * @return A mutable list of Client objects.
      */
     public List<Client> getClientsEntity(@NotNull Response response) {
-        JsonPath jsonPath = response.jsonPath();
-        return jsonPath.getList("", Client.class);
+        return JsonStreamDecoder.readList(ResponseSpill.open(response), Client.class);
+    }
+
+    /**
+     * Converts a Response object to a lazily decoded stream of Client entities.
+     * <p>
+     * Elements are decoded one at a time while the stream is consumed; close the stream when done.
+     * </p>
+     *
+     * @param response The Response object containing the client data.
+     * @return A stream of Client objects.
+     */
+    public Stream<Client> streamClientsEntity(@NotNull Response response) {
+        return JsonStreamDecoder.stream(ResponseSpill.open(response), Client.class);
     }
 
     /**
-     * Creates a default client using data from a JSON file.
+     * Creates a default client using the cached default client fixture.
      *
      * @return A Response object containing the server's response to the POST request.
      */
     public Response createDefaultClient() {
-        JsonFileReader jsonFile = new JsonFileReader();
-        return this.createClient(jsonFile.getClientByJson(Constants.DEFAULT_CLIENT_FILE_PATH));
+        return this.createClient(FixtureStore.defaultClient());
     }
 
     /**
@@ -135,26 +326,57 @@ public class ClientRequest extends BaseRequest {
      * @return A Client object.
      */
     public Client getClientEntity(String clientJson) {
-        Gson gson = new Gson();
-        return gson.fromJson(clientJson, Client.class);
+        return JsonMapper.fromJson(clientJson, Client.class);
     }
 
     /**
      * Validates the JSON schema of a response.
+     * <p>
+     * The schema is compiled once and cached by {@link SchemaRegistry}. Lists of at least
+     * {@code api.schema.streaming.minBytes} are validated element by element by {@link StreamingSchemaValidator},
+     * without building the whole tree, and bodies spilled to a file by {@link ResponseSpill} are read from
+     * it. With {@code api.schema.fingerprintCache.enabled=true}, smaller bodies whose structure already
+     * matched the schema are accepted by {@link SchemaFingerprintCache} without validating them again.
+     * </p>
      *
      * @param response   The Response object to be validated.
      * @param schemaPath The path to the JSON schema file.
      * @return True if the response matches the schema, false otherwise.
      */
     public boolean validateSchema(Response response, String schemaPath) {
-        try {
-            response.then()
-                    .assertThat()
-                    .body(JsonSchemaValidator.matchesJsonSchemaInClasspath(schemaPath));
-            return true; // Return true if the assertion passes
-        } catch (AssertionError e) {
-            // Assertion failed, return false
-            return false;
+        if (ResponseSpill.isSpilled(response)
+                || StreamingSchemaValidator.shouldStream(ResponseSpill.sizeOf(response), schemaPath)) {
+            return checkSchema(response, schemaPath).isValid();
         }
+        if (SchemaFingerprintCache.isEnabled()) {
+            return SchemaFingerprintCache.matches(response.asString(), schemaPath);
+        }
+        return SchemaRegistry.matches(response.asString(), schemaPath);
+    }
+
+    /**
+     * Validates the JSON schema of a response and reports where it does not match.
+     * <p>
+     * Lists are validated element by element by {@link StreamingSchemaValidator}, up to the first
+     * {@code api.schema.streaming.maxViolations} violations.
+     * </p>
+     *
+     * @param response   The Response object to be validated.
+     * @param schemaPath The path to the JSON schema file.
+     * @return The validation result, with the JSON pointer of every violation found.
+     */
+    public SchemaValidationResult checkSchema(Response response, String schemaPath) {
+        return StreamingSchemaValidator.validate(ResponseSpill.open(response), schemaPath);
+    }
+
+    /**
+     * Builds the pagination query parameters.
+     *
+     * @param page  The page number, starting at 1.
+     * @param limit The maximum number of elements in the page.
+     * @return A map of query parameters.
+     */
+    private Map<String, Integer> pageParams(int page, int limit) {
+        return Map.of(Constants.PAGE_PARAM, page, Constants.LIMIT_PARAM, limit);
     }
-}
\ No newline at end of file
+}
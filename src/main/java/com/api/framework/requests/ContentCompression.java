@@ -0,0 +1,264 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * ContentCompression class negotiates gzip and deflate compression of request and response bodies.
+ * <p>
+ * When {@code api.compression.enabled=true}, {@link RequestSpecs} installs {@link #filter()} between the
+ * timing filter and the transport and turns off RestAssured's own response decoding, so both transports
+ * behave the same. The filter asks for {@code gzip} or {@code deflate} responses with {@code Accept-Encoding}
+ * and decodes them before they reach the steps; headers other than {@code Content-Encoding} and
+ * {@code Content-Length} are kept, so {@code ETag} revalidation still works. Request bodies of at least
+ * {@code api.compression.minBytes} are sent gzip-compressed with {@code Content-Encoding: gzip}, unless
+ * {@code api.compression.requests=false} because the API does not accept compressed requests.
+ * </p>
+ * <p>
+ * The sizes before and after decoding are reported to {@link RequestMetrics}, so every {@link RequestTiming}
+ * carries both the decoded body sizes and the bytes that crossed the network. Bodies spilled to a file by
+ * {@link ResponseSpill} are decoded while they are read, into another spill file if they are still too large.
+ * </p>
+ * <p>
+ * The compression is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.compression.enabled} - Negotiates compressed bodies in both directions (default false).</li>
+ *   <li>{@code api.compression.requests} - Compresses request bodies when compression is enabled (default true).</li>
+ *   <li>{@code api.compression.minBytes} - Smallest request body worth compressing (default 1024).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * byte[] compressed = ContentCompression.gzip(body);
+ * byte[] decoded = ContentCompression.decode("gzip", compressed);
+ * }
+ */
+public final class ContentCompression {
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String ACCEPT_ENCODING = "Accept-Encoding";
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String ACCEPTED_ENCODINGS = GZIP + ", " + DEFLATE;
+    private static final boolean ENABLED = ConfigReader.getBoolean("api.compression.enabled", false);
+    private static final boolean COMPRESS_REQUESTS = ConfigReader.getBoolean("api.compression.requests", true);
+    private static final int MIN_BYTES = ConfigReader.getInt("api.compression.minBytes", 1024);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ContentCompression() {
+    }
+
+    /**
+     * Indicates whether {@code api.compression.enabled} installs the compression filter in the request specifications.
+     *
+     * @return True if compression is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the decoder configuration to use with {@link #filter()}: no decoding by RestAssured, which
+     * would hide the compressed size and only applies to the Apache transport.
+     *
+     * @return The decoder configuration.
+     */
+    static DecoderConfig decoderConfig() {
+        return DecoderConfig.decoderConfig().noContentDecoders();
+    }
+
+    /**
+     * Returns the filter compressing request bodies and decoding compressed responses. It must run after
+     * {@link RequestMetrics#timingFilter()}, so the timing sees the decoded sizes and includes the decoding.
+     *
+     * @return The compression filter.
+     */
+    public static Filter filter() {
+        return (requestSpec, responseSpec, context) -> {
+            byte[] body = bodyOf(requestSpec.getBody());
+            long requestWireBytes = body == null ? 0 : body.length;
+            if (COMPRESS_REQUESTS && body != null && body.length >= MIN_BYTES
+                    && !requestSpec.getHeaders().hasHeaderWithName(CONTENT_ENCODING)) {
+                byte[] compressed = gzip(body);
+                requestSpec.body(compressed);
+                requestSpec.header(CONTENT_ENCODING, GZIP);
+                requestWireBytes = compressed.length;
+            }
+            if (!requestSpec.getHeaders().hasHeaderWithName(ACCEPT_ENCODING)) {
+                requestSpec.header(ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+            }
+            Response response = context.next(requestSpec, responseSpec);
+            String encoding = response.getHeader(CONTENT_ENCODING);
+            SpilledBody spilled = ResponseSpill.spilledBody(response);
+            if (spilled != null) {
+                RequestMetrics.recordWireBytes(requestWireBytes, spilled.size());
+                return encoding == null ? response : decoded(response, ResponseSpill.contentOf(decoding(encoding, spilled.open())));
+            }
+            byte[] wire = response.asByteArray();
+            RequestMetrics.recordWireBytes(requestWireBytes, wire.length);
+            if (encoding == null || wire.length == 0) {
+                return response;
+            }
+            byte[] decodedBody = decode(encoding, wire);
+            if (ResponseSpill.isEnabled() && decodedBody.length > ResponseSpill.getThresholdBytes()) {
+                return decoded(response, ResponseSpill.contentOf(new ByteArrayInputStream(decodedBody)));
+            }
+            return decoded(response, decodedBody);
+        };
+    }
+
+    /**
+     * Compresses a body with gzip.
+     *
+     * @param body The body.
+     * @return The compressed body.
+     */
+    public static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress a body of " + body.length + " bytes", e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes a body according to its {@code Content-Encoding}. {@code deflate} is accepted both with
+     * the zlib wrapper required by HTTP and as the raw stream some servers send.
+     *
+     * @param encoding The content encoding, for example {@code gzip}; {@code identity} leaves the body unchanged.
+     * @param body     The encoded body.
+     * @return The decoded body.
+     * @throws IllegalArgumentException if the encoding is not supported.
+     * @throws UncheckedIOException     if the body is not valid for its encoding.
+     */
+    public static byte[] decode(String encoding, byte[] body) {
+        String name = encoding.trim().toLowerCase(Locale.ROOT);
+        try {
+            switch (name) {
+                case "":
+                case "identity":
+                    return body;
+                case GZIP:
+                case "x-gzip":
+                    return readAll(new GZIPInputStream(new ByteArrayInputStream(body)));
+                case DEFLATE:
+                    try {
+                        return readAll(new InflaterInputStream(new ByteArrayInputStream(body)));
+                    } catch (ZipException e) {
+                        return readAll(new InflaterInputStream(new ByteArrayInputStream(body), new Inflater(true)));
+                    }
+                default:
+                    throw new IllegalArgumentException("Unsupported Content-Encoding '" + encoding + "'");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode a " + name + " body of " + body.length + " bytes", e);
+        }
+    }
+
+    /**
+     * Decodes a body while it is read, for bodies too large to decode on the heap. {@code deflate} streams
+     * are told apart from raw ones by their zlib header.
+     *
+     * @param encoding The content encoding.
+     * @param body     The encoded body.
+     * @return A stream of the decoded body.
+     * @throws IllegalArgumentException if the encoding is not supported.
+     * @throws UncheckedIOException     if the body is not valid for its encoding.
+     */
+    static InputStream decoding(String encoding, InputStream body) {
+        String name = encoding.trim().toLowerCase(Locale.ROOT);
+        try {
+            switch (name) {
+                case "":
+                case "identity":
+                    return body;
+                case GZIP:
+                case "x-gzip":
+                    return new GZIPInputStream(body, 64 * 1024);
+                case DEFLATE:
+                    BufferedInputStream input = new BufferedInputStream(body);
+                    input.mark(2);
+                    int header = (input.read() << 8) | input.read();
+                    input.reset();
+                    boolean zlib = header >= 0 && (header & 0x0F00) == 0x0800 && header % 31 == 0;
+                    return new InflaterInputStream(input, new Inflater(!zlib), 64 * 1024);
+                default:
+                    throw new IllegalArgumentException("Unsupported Content-Encoding '" + encoding + "'");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode a " + name + " body", e);
+        }
+    }
+
+    private static byte[] readAll(InputStream input) throws IOException {
+        try (input) {
+            return input.readAllBytes();
+        }
+    }
+
+    /**
+     * Returns the bytes of a request body as serialized by RestAssured.
+     *
+     * @param body The body: a string, a byte array or null.
+     * @return The bytes, or null if there is no body.
+     */
+    private static byte[] bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Copies a response with its decoded body, dropping the headers that described the encoded one.
+     *
+     * @param response The compressed response.
+     * @param body     The decoded body, as a byte array or a {@link SpilledBody}.
+     * @return The decoded response.
+     */
+    private static Response decoded(Response response, Object body) {
+        List<Header> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            if (!header.getName().equalsIgnoreCase(CONTENT_ENCODING) && !header.getName().equalsIgnoreCase(CONTENT_LENGTH)) {
+                headers.add(header);
+            }
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .clone(response)
+                .setHeaders(new Headers(headers));
+        if (body instanceof SpilledBody) {
+            builder.setBody((SpilledBody) body);
+        } else {
+            builder.setBody((byte[]) body);
+        }
+        return builder.build();
+    }
+}
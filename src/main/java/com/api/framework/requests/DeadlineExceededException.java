@@ -0,0 +1,32 @@
+package com.api.framework.requests;
+
+/**
+ * DeadlineExceededException is thrown when a call, retries and hedged requests included, did not get a
+ * response within the deadline of its {@link ResiliencePolicy}.
+ */
+public class DeadlineExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String endpoint;
+
+    /**
+     * Creates an exception for a call that ran out of time.
+     *
+     * @param endpoint       The logical endpoint, for example {@code GET clients/{id}}.
+     * @param deadlineMillis The deadline of the call.
+     * @param cause          The failure of the last attempt, or null if it was still in flight.
+     */
+    public DeadlineExceededException(String endpoint, long deadlineMillis, Throwable cause) {
+        super(endpoint + " did not complete within its " + deadlineMillis + " ms deadline", cause);
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Returns the endpoint of the call.
+     *
+     * @return The logical endpoint.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,180 @@
+package com.api.framework.requests;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EndpointLatencyStats class aggregates {@link RequestTiming}s per logical endpoint.
+ * <p>
+ * Each endpoint keeps HdrHistograms of total time, time to first byte, connect and DNS time, together
+ * with a count per status code and the bytes sent and received, decoded and on the wire. Recording is thread-safe. Summaries
+ * report p50/p95/p99 in milliseconds, as plain text for the Cucumber reports and as JSON for
+ * comparing runs.
+ * </p>
+ * Example usage:
+ * {@code
+ * EndpointLatencyStats stats = RequestMetrics.openScope();
+ * clientRequest.getClients();
+ * RequestMetrics.closeScope(stats);
+ * String summary = stats.summary();
+ * }
+ */
+public class EndpointLatencyStats {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Adds one request to the statistics of its endpoint.
+     *
+     * @param timing The request timing.
+     */
+    public void record(RequestTiming timing) {
+        EndpointStats stats = endpoints.computeIfAbsent(timing.getEndpoint(), key -> new EndpointStats());
+        stats.total.recordValue(toMicros(timing.getTotalNanos()));
+        stats.timeToFirstByte.recordValue(toMicros(timing.getTimeToFirstByteNanos()));
+        if (timing.getConnectNanos() > 0 || timing.getDnsNanos() > 0) {
+            stats.connect.recordValue(toMicros(timing.getConnectNanos()));
+            stats.dns.recordValue(toMicros(timing.getDnsNanos()));
+        }
+        stats.statusCodes.computeIfAbsent(timing.getStatusCode(), key -> new LongAdder()).increment();
+        stats.requestBytes.add(timing.getRequestBytes());
+        stats.responseBytes.add(timing.getResponseBytes());
+        stats.requestWireBytes.add(timing.getRequestWireBytes());
+        stats.responseWireBytes.add(timing.getResponseWireBytes());
+    }
+
+    /**
+     * Indicates whether no request has been recorded.
+     *
+     * @return True if the statistics are empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    /**
+     * Returns a copy of the total time histogram of an endpoint.
+     *
+     * @param endpoint The logical endpoint, for example {@code GET clients/{id}}.
+     * @return The histogram in microseconds, or null if nothing was recorded for the endpoint.
+     */
+    public Histogram getTotalTimes(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats == null ? null : stats.total.copy();
+    }
+
+    /**
+     * Formats the statistics as a table with one line per endpoint. Times are in milliseconds.
+     * <p>
+     * Connect and DNS percentiles only cover requests that opened a new connection, whose number is
+     * shown in the {@code New} column. Response sizes are averaged decoded ({@code Avg size}) and as
+     * received ({@code Avg wire}).
+     * </p>
+     *
+     * @return The plain text summary.
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-28s %6s %-16s %8s %8s %8s %9s %5s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Status", "p50", "p95", "p99", "TTFB p95", "New", "Conn p95", "DNS p95", "Avg size", "Avg wire"));
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            long count = stats.total.getTotalCount();
+            summary.append(String.format("%-28s %6d %-16s %8.2f %8.2f %8.2f %9.2f %5d %9.2f %9.2f %9d %9d%n",
+                    entry.getKey(), count, stats.statusSummary(),
+                    percentile(stats.total, 50), percentile(stats.total, 95), percentile(stats.total, 99),
+                    percentile(stats.timeToFirstByte, 95), stats.connect.getTotalCount(),
+                    percentile(stats.connect, 95), percentile(stats.dns, 95),
+                    count == 0 ? 0 : stats.responseBytes.sum() / count,
+                    count == 0 ? 0 : stats.responseWireBytes.sum() / count));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Formats the statistics as a JSON object keyed by endpoint. Times are in milliseconds.
+     *
+     * @return The pretty-printed JSON text.
+     */
+    public String toJson() {
+        JsonObject root = new JsonObject();
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            JsonObject endpoint = new JsonObject();
+            endpoint.addProperty("count", stats.total.getTotalCount());
+            JsonObject statusCodes = new JsonObject();
+            new TreeMap<>(stats.statusCodes).forEach((status, count) -> statusCodes.addProperty(String.valueOf(status), count.sum()));
+            endpoint.add("statusCodes", statusCodes);
+            endpoint.add("totalMillis", percentiles(stats.total));
+            endpoint.add("timeToFirstByteMillis", percentiles(stats.timeToFirstByte));
+            endpoint.add("connectMillis", percentiles(stats.connect));
+            endpoint.add("dnsMillis", percentiles(stats.dns));
+            endpoint.addProperty("newConnections", stats.connect.getTotalCount());
+            endpoint.addProperty("requestBytes", stats.requestBytes.sum());
+            endpoint.addProperty("responseBytes", stats.responseBytes.sum());
+            endpoint.addProperty("requestWireBytes", stats.requestWireBytes.sum());
+            endpoint.addProperty("responseWireBytes", stats.responseWireBytes.sum());
+            root.add(entry.getKey(), endpoint);
+        }
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    /**
+     * Returns the p50/p95/p99/max of a histogram as a JSON object.
+     *
+     * @param histogram The histogram in microseconds.
+     * @return The percentiles in milliseconds.
+     */
+    private static JsonObject percentiles(Histogram histogram) {
+        JsonObject percentiles = new JsonObject();
+        percentiles.addProperty("p50", percentile(histogram, 50));
+        percentiles.addProperty("p95", percentile(histogram, 95));
+        percentiles.addProperty("p99", percentile(histogram, 99));
+        percentiles.addProperty("max", histogram.getMaxValue() / MICROS_PER_MILLI);
+        return percentiles;
+    }
+
+    private static double percentile(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * The histograms and counters of one endpoint.
+     */
+    private static final class EndpointStats {
+        private final ConcurrentHistogram total = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final ConcurrentHistogram timeToFirstByte = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final ConcurrentHistogram connect = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final ConcurrentHistogram dns = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LongAdder requestWireBytes = new LongAdder();
+        private final LongAdder responseWireBytes = new LongAdder();
+
+        /**
+         * Formats the status counts, for example {@code 200x12 404x1}.
+         *
+         * @return The status summary.
+         */
+        private String statusSummary() {
+            StringBuilder summary = new StringBuilder();
+            new TreeMap<>(statusCodes).forEach((status, count) ->
+                    summary.append(summary.length() == 0 ? "" : " ").append(status).append('x').append(count.sum()));
+            return summary.toString();
+        }
+    }
+}
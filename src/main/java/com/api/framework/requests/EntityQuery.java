@@ -0,0 +1,126 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * EntityQuery class is the base of the typed search criteria accepted by the {@code find...} methods of the
+ * request helpers, such as {@link ClientQuery} and {@link ResourceQuery}.
+ * <p>
+ * Each criterion is sent to the API as a search parameter, for example {@code ?name=Laura}, so the API only
+ * returns candidate records. Since APIs commonly match search parameters loosely, by substring or ignoring
+ * case, or ignore unknown ones altogether, every returned record is then checked again with
+ * {@link #matches(Object)}: string fields must be equal ignoring case, other fields must be equal.
+ * </p>
+ * <p>
+ * Queries are immutable; adding a criterion returns a new query.
+ * </p>
+ * Example usage:
+ * {@code
+ * ClientQuery query = new ClientQuery().name("Laura").country("Peru");
+ * Map<String, String> params = query.toQueryParams();
+ * }
+ *
+ * @param <T> The entity type.
+ */
+public abstract class EntityQuery<T> {
+    /**
+     * The number of candidates requested per page by the {@code find...} methods, {@code api.query.pageSize}.
+     */
+    public static final int DEFAULT_PAGE_SIZE = ConfigReader.getInt("api.query.pageSize", 50);
+
+    private final List<Criterion<T>> criteria;
+
+    /**
+     * Creates a query from its criteria.
+     *
+     * @param criteria The criteria, all of which must match.
+     */
+    protected EntityQuery(List<Criterion<T>> criteria) {
+        this.criteria = Collections.unmodifiableList(criteria);
+    }
+
+    /**
+     * Returns the criteria of this query followed by a new one.
+     *
+     * @param field  The field name, used as the search parameter.
+     * @param value  The expected value.
+     * @param getter Reads the field from an entity.
+     * @return A new list of criteria.
+     * @throws NullPointerException if the value is null.
+     */
+    protected List<Criterion<T>> and(String field, Object value, Function<T, ?> getter) {
+        Objects.requireNonNull(value, field);
+        List<Criterion<T>> extended = new ArrayList<>(criteria.size() + 1);
+        extended.addAll(criteria);
+        extended.add(new Criterion<>(field, value, getter));
+        return extended;
+    }
+
+    /**
+     * Indicates whether the query has no criteria and therefore matches every entity.
+     *
+     * @return True if there are no criteria.
+     */
+    public boolean isEmpty() {
+        return criteria.isEmpty();
+    }
+
+    /**
+     * Returns the search parameters sent to the API.
+     *
+     * @return The parameters in the order the criteria were added.
+     */
+    public Map<String, String> toQueryParams() {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (Criterion<T> criterion : criteria) {
+            params.put(criterion.field(), String.valueOf(criterion.value()));
+        }
+        return params;
+    }
+
+    /**
+     * Checks an entity against every criterion.
+     *
+     * @param entity The entity.
+     * @return True if the entity matches all criteria.
+     */
+    public boolean matches(T entity) {
+        for (Criterion<T> criterion : criteria) {
+            if (!criterion.matches(entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + toQueryParams();
+    }
+
+    /**
+     * One field that must have a given value.
+     *
+     * @param field  The field name, used as the search parameter.
+     * @param value  The expected value.
+     * @param getter Reads the field from an entity.
+     * @param <T>    The entity type.
+     */
+    protected record Criterion<T>(String field, Object value, Function<T, ?> getter) {
+        private boolean matches(T entity) {
+            Object actual = getter.apply(entity);
+            if (actual instanceof String && value instanceof String) {
+                return ((String) actual).equalsIgnoreCase((String) value);
+            }
+            return value.equals(actual);
+        }
+    }
+}
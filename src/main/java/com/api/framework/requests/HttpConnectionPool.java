@@ -0,0 +1,253 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.AsyncExecutors;
+import com.api.framework.utils.ConfigReader;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpConnectionPool class holds the pooled, keep-alive HTTP connection manager shared by all requests.
+ * <p>
+ * By default RestAssured builds a new Apache HTTP client with its own single-connection manager for
+ * every request, so every call pays a fresh TCP connect and TLS handshake. This class configures
+ * RestAssured to create its clients on top of one shared {@link PoolingClientConnectionManager}, so
+ * connections to the API host are kept alive and reused across requests and threads. A background
+ * daemon thread evicts expired and idle connections.
+ * </p>
+ * <p>
+ * The connection manager and the HTTP clients also report DNS, connect and time-to-first-byte
+ * timings to {@link RequestMetrics}.
+ * </p>
+ * <p>
+ * RestAssured reads response bodies lazily, and a pooled connection only returns to the pool once its
+ * body has been consumed. Requests using the pool must therefore install {@link #connectionReleasingFilter()}.
+ * </p>
+ * <p>
+ * The pool is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.pool.maxTotal} - Maximum number of connections in the pool (default 200).</li>
+ *   <li>{@code api.pool.maxPerRoute} - Maximum number of connections per host (default 100).</li>
+ *   <li>{@code api.pool.keepAliveMillis} - Upper bound for keeping an idle connection alive (default 30000).</li>
+ *   <li>{@code api.pool.idleEvictionMillis} - Idle time after which a connection is closed (default 15000).</li>
+ *   <li>{@code api.pool.acquireTimeoutMillis} - Maximum wait for a free connection (default 30000).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * RestAssuredConfig config = HttpConnectionPool.restAssuredConfig();
+ * PoolStats stats = HttpConnectionPool.stats();
+ * }
+ */
+@SuppressWarnings("deprecation")
+public final class HttpConnectionPool {
+    private static final int MAX_TOTAL = ConfigReader.getInt("api.pool.maxTotal", 200);
+    private static final int MAX_PER_ROUTE = ConfigReader.getInt("api.pool.maxPerRoute", 100);
+    private static final long KEEP_ALIVE_MILLIS = ConfigReader.getLong("api.pool.keepAliveMillis", 30_000L);
+    private static final long IDLE_EVICTION_MILLIS = ConfigReader.getLong("api.pool.idleEvictionMillis", 15_000L);
+    private static final long ACQUIRE_TIMEOUT_MILLIS = ConfigReader.getLong("api.pool.acquireTimeoutMillis", 30_000L);
+
+    private static final PoolingClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+    private static final ConnectionKeepAliveStrategy KEEP_ALIVE_STRATEGY = createKeepAliveStrategy();
+    private static final RestAssuredConfig REST_ASSURED_CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(HttpConnectionPool::createHttpClient));
+
+    static {
+        startIdleConnectionEvictor();
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HttpConnectionPool() {
+    }
+
+    /**
+     * Returns the RestAssured configuration whose HTTP clients share the pooled connection manager.
+     *
+     * @return The shared RestAssured configuration.
+     */
+    public static RestAssuredConfig restAssuredConfig() {
+        return REST_ASSURED_CONFIG;
+    }
+
+    /**
+     * Returns the filter that buffers each response body as soon as it arrives, which hands the
+     * underlying connection back to the pool even when the caller never reads the body. Bodies spilled
+     * by {@link ResponseSpill} have already been read to the end and are left in their file.
+     *
+     * @return The connection-releasing filter.
+     */
+    public static Filter connectionReleasingFilter() {
+        return (requestSpec, responseSpec, context) -> {
+            Response response = context.next(requestSpec, responseSpec);
+            if (!ResponseSpill.isSpilled(response)) {
+                response.asByteArray();
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Returns a snapshot of the pool usage.
+     *
+     * @return The total pool statistics (leased, pending, available and maximum connections).
+     */
+    public static PoolStats stats() {
+        return CONNECTION_MANAGER.getTotalStats();
+    }
+
+    /**
+     * Creates a lightweight HTTP client bound to the shared connection manager.
+     * <p>
+     * RestAssured asks for a client per request and requires an {@code AbstractHttpClient}, so the
+     * deprecated {@link DefaultHttpClient} is used. The client itself is cheap; the expensive state
+     * (open connections) lives in the shared manager. Clients are created on the thread sending the
+     * request, so the remaining time of its {@link RequestResilience} deadline bounds the wait for a pooled
+     * connection, the connect and every socket read. Once the connection is established, it is shut down
+     * when the deadline passes, which aborts the request however slowly the response trickles in.
+     * </p>
+     *
+     * @return A new HTTP client.
+     */
+    private static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(CONNECTION_MANAGER);
+        client.setKeepAliveStrategy(KEEP_ALIVE_STRATEGY);
+        int timeoutMillis = RequestResilience.remainingMillis();
+        client.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT,
+                timeoutMillis > 0 ? Math.min(ACQUIRE_TIMEOUT_MILLIS, timeoutMillis) : ACQUIRE_TIMEOUT_MILLIS);
+        if (timeoutMillis > 0) {
+            HttpConnectionParams.setConnectionTimeout(client.getParams(), timeoutMillis);
+            HttpConnectionParams.setSoTimeout(client.getParams(), timeoutMillis);
+            client.addRequestInterceptor((request, context) -> {
+                Object connection = context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+                if (connection instanceof HttpConnection) {
+                    RequestResilience.abortOnDeadline(() -> shutdown((HttpConnection) connection));
+                }
+            });
+        }
+        client.addResponseInterceptor((response, context) -> RequestMetrics.markFirstByte());
+        return client;
+    }
+
+    /**
+     * Shuts down the connection of a request that ran out of time, failing its blocked read with a
+     * {@link java.net.SocketException}. The connection is discarded instead of returning to the pool.
+     *
+     * @param connection The connection of the request.
+     */
+    private static void shutdown(HttpConnection connection) {
+        try {
+            connection.shutdown();
+        } catch (IOException e) {
+            // The connection is unusable either way
+        }
+    }
+
+    /**
+     * Creates the pooled connection manager with the configured limits.
+     *
+     * @return The connection manager.
+     */
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createDefault(), KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return new TimedConnectionOperator(schemeRegistry);
+            }
+        };
+        manager.setMaxTotal(MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        return manager;
+    }
+
+    /**
+     * Creates a keep-alive strategy honouring the server's Keep-Alive hint, capped by the configured maximum.
+     *
+     * @return The keep-alive strategy.
+     */
+    private static ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+        DefaultConnectionKeepAliveStrategy serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        return (response, context) -> {
+            long duration = serverHint.getKeepAliveDuration(response, context);
+            return duration > 0 ? Math.min(duration, KEEP_ALIVE_MILLIS) : KEEP_ALIVE_MILLIS;
+        };
+    }
+
+    /**
+     * Starts the daemon task closing expired connections and connections idle for longer than the configured time.
+     */
+    private static void startIdleConnectionEvictor() {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+                AsyncExecutors.daemonThreadFactory("api-pool-evictor-"));
+        long period = Math.max(1_000L, IDLE_EVICTION_MILLIS / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            CONNECTION_MANAGER.closeExpiredConnections();
+            CONNECTION_MANAGER.closeIdleConnections(IDLE_EVICTION_MILLIS, TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A connection operator reporting host name resolution and connection setup times to {@link RequestMetrics}.
+     */
+    private static final class TimedConnectionOperator extends DefaultClientConnectionOperator {
+        // openConnection resolves the host on the calling thread; its DNS time is subtracted from the connect time
+        private final ThreadLocal<Long> dnsNanos = ThreadLocal.withInitial(() -> 0L);
+
+        private TimedConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            long dnsBefore = dnsNanos.get();
+            try {
+                super.openConnection(connection, target, local, context, params);
+            } finally {
+                long dns = dnsNanos.get() - dnsBefore;
+                RequestMetrics.recordConnect(System.nanoTime() - start - dns);
+            }
+        }
+
+        @Override
+        protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+            long start = System.nanoTime();
+            try {
+                return super.resolveHostname(host);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                dnsNanos.set(dnsNanos.get() + elapsed);
+                RequestMetrics.recordDns(elapsed);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+import io.restassured.filter.Filter;
+
+import java.util.Locale;
+
+/**
+ * HttpTransport interface is the layer that puts the requests built by {@link BaseRequest} on the wire.
+ * <p>
+ * A transport is the last filter of every specification built by {@link RequestSpecs}, so the response cache,
+ * the timing filter and the resilience layer work the same on every transport, and callers always get a
+ * RestAssured {@link io.restassured.response.Response} to assert on. {@link ApacheHttpTransport} hands the
+ * request on to RestAssured's own Apache HTTP client; {@link JdkHttpTransport} sends it with the JDK's
+ * {@code java.net.http} client instead and adapts the result.
+ * </p>
+ * <p>
+ * The transport is selected with {@code api.transport}: {@code apache} (default) or {@code jdk}. With
+ * {@code api.replay.mode=replay}, the {@link ReplayTransport} serves a recording instead, whatever the transport.
+ * </p>
+ * Example usage:
+ * {@code
+ * HttpTransport transport = HttpTransport.configured();
+ * String name = transport.getName();
+ * }
+ */
+public interface HttpTransport extends Filter {
+
+    /**
+     * Returns a short name of the transport, for logs.
+     *
+     * @return The name, for example {@code "apache"}.
+     */
+    String getName();
+
+    /**
+     * Returns the transport selected by {@code api.transport}, or the replay of the shared {@link TrafficLog}
+     * when {@code api.replay.mode=replay}.
+     *
+     * @return The shared transport instance.
+     * @throws IllegalArgumentException if the configured transport is unknown.
+     */
+    static HttpTransport configured() {
+        if (TrafficLog.isReplaying()) {
+            return new ReplayTransport(TrafficLog.shared());
+        }
+        String name = ConfigReader.getString("api.transport", ApacheHttpTransport.NAME).toLowerCase(Locale.ROOT);
+        switch (name) {
+            case ApacheHttpTransport.NAME:
+                return ApacheHttpTransport.INSTANCE;
+            case JdkHttpTransport.NAME:
+                return JdkHttpTransport.shared();
+            default:
+                throw new IllegalArgumentException("Unknown api.transport '" + name + "', expected "
+                        + ApacheHttpTransport.NAME + " or " + JdkHttpTransport.NAME);
+        }
+    }
+}
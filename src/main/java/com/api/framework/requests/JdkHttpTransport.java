@@ -0,0 +1,274 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.AsyncExecutors;
+import com.api.framework.utils.ConfigReader;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * JdkHttpTransport class sends requests with the JDK's {@link HttpClient} instead of RestAssured's Apache client.
+ * <p>
+ * The client negotiates HTTP/2 when the API supports it, with ALPN over TLS or an upgrade over cleartext, and
+ * then multiplexes every concurrent request as a stream of a single connection per host, instead of holding
+ * one pooled connection per request in flight. Against HTTP/1.1 servers, such as the embedded API, it keeps
+ * its own pool of keep-alive connections. The client runs its I/O on {@link AsyncExecutors#defaultExecutor()}.
+ * </p>
+ * <p>
+ * The request is built from the specification RestAssured hands to the last filter: URL with query
+ * parameters, method, headers, cookies and the already serialized body. The JDK response is adapted into a
+ * RestAssured {@link Response} carrying the specification's configuration, so JSON paths, object mapping and
+ * {@code then()} assertions work unchanged. The remaining time of the {@link RequestResilience} deadline
+ * becomes the request timeout for the response headers, and the exchange is cancelled when the deadline passes
+ * while the body is still arriving. The arrival of the response headers is reported to {@link RequestMetrics}
+ * as the time to first byte; DNS and connect times are not visible through this client. Bodies whose
+ * {@code Content-Length} exceeds the {@link ResponseSpill} threshold are written straight to a spill file.
+ * </p>
+ * <p>
+ * The calling thread blocks until the response is complete, because RestAssured runs its filter chain, and
+ * with it the response cache, the metrics and the resilience layer, synchronously on that thread. The
+ * asynchronous methods of {@link BaseRequest} therefore still hold one executor thread per request in flight:
+ * HTTP/2 saves connections, not threads. On JDK 21 those are cheap virtual threads; on older JDKs they are
+ * platform threads of {@link AsyncExecutors#defaultExecutor()}, so thousands of concurrent requests need
+ * as many threads.
+ * </p>
+ * <p>
+ * The shared instance is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.transport.jdk.version} - {@code HTTP_2} (default) or {@code HTTP_1_1}.</li>
+ *   <li>{@code api.transport.jdk.connectTimeoutMillis} - Timeout for opening a connection (default 10000).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * RequestSpecs.useTransport(new JdkHttpTransport(HttpClient.newBuilder().sslContext(sslContext).build()));
+ * }
+ */
+public final class JdkHttpTransport implements HttpTransport {
+    static final String NAME = "jdk";
+    // Headers the JDK client sets itself and refuses from callers
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+    private static final String CONTENT_TYPE = "content-type";
+
+    private final HttpClient client;
+
+    /**
+     * Creates a transport on a given client, for example one with a custom TLS configuration.
+     *
+     * @param client The JDK HTTP client.
+     */
+    public JdkHttpTransport(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Returns the transport shared by all specifications when {@code api.transport=jdk}.
+     *
+     * @return The shared transport.
+     */
+    public static JdkHttpTransport shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns the underlying client.
+     *
+     * @return The JDK HTTP client.
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        HttpRequest request = toHttpRequest(requestSpec);
+        Runnable firstByte = RequestMetrics.firstByteMarker();
+        CompletableFuture<HttpResponse<Object>> exchange = client.sendAsync(request, info -> {
+            firstByte.run();
+            return bodySubscriber(info);
+        });
+        RequestResilience.abortOnDeadline(() -> exchange.cancel(true));
+        String description = request.method() + " " + request.uri();
+        try {
+            return toResponse(exchange.get(), requestSpec);
+        } catch (CancellationException e) {
+            throw aborted(description, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CancellationException) {
+                throw aborted(description, cause);
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException(description + " failed", (IOException) cause);
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new IllegalStateException(description + " failed", cause);
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + description, e);
+        }
+    }
+
+    /**
+     * Creates the transport error of an exchange cancelled at its deadline.
+     *
+     * @param description The method and URI of the request.
+     * @param cause       The cancellation.
+     * @return The exception.
+     */
+    private static UncheckedIOException aborted(String description, Throwable cause) {
+        HttpTimeoutException timeout = new HttpTimeoutException(description + " was aborted at its deadline");
+        timeout.initCause(cause);
+        return new UncheckedIOException(timeout);
+    }
+
+    /**
+     * Chooses where the body goes: bodies announced as larger than the {@link ResponseSpill} threshold are
+     * written straight to a spill file, the others are collected on the heap.
+     *
+     * @param info The status and headers of the response.
+     * @return A subscriber producing a byte array or a {@link SpilledBody}.
+     */
+    private static HttpResponse.BodySubscriber<Object> bodySubscriber(HttpResponse.ResponseInfo info) {
+        long length = info.headers().firstValueAsLong("content-length").orElse(-1);
+        if (ResponseSpill.isEnabled() && length > ResponseSpill.getThresholdBytes()) {
+            try {
+                return HttpResponse.BodySubscribers.mapping(
+                        HttpResponse.BodySubscribers.ofFile(ResponseSpill.newFile()), ResponseSpill::spilled);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create a spill file", e);
+            }
+        }
+        return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), body -> body);
+    }
+
+    /**
+     * Builds the JDK request equivalent to a RestAssured specification.
+     *
+     * @param requestSpec The specification reaching the end of the filter chain.
+     * @return The request.
+     */
+    private static HttpRequest toHttpRequest(FilterableRequestSpecification requestSpec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()));
+        int timeoutMillis = RequestResilience.remainingMillis();
+        if (timeoutMillis > 0) {
+            builder.timeout(Duration.ofMillis(timeoutMillis));
+        }
+        boolean hasContentType = false;
+        for (Header header : requestSpec.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!RESTRICTED_HEADERS.contains(name)) {
+                builder.header(header.getName(), header.getValue());
+                hasContentType |= name.equals(CONTENT_TYPE);
+            }
+        }
+        if (!hasContentType && requestSpec.getContentType() != null) {
+            builder.header("Content-Type", requestSpec.getContentType());
+        }
+        if (requestSpec.getCookies().exist()) {
+            StringJoiner cookies = new StringJoiner("; ");
+            for (Cookie cookie : requestSpec.getCookies()) {
+                cookies.add(cookie.getName() + "=" + cookie.getValue());
+            }
+            builder.header("Cookie", cookies.toString());
+        }
+        byte[] body = bodyOf(requestSpec.getBody());
+        return builder
+                .method(requestSpec.getMethod(), body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    /**
+     * Returns the bytes of a request body as serialized by RestAssured.
+     *
+     * @param body The body: a string, a byte array or null.
+     * @return The bytes, or null if there is no body.
+     */
+    private static byte[] bodyOf(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adapts a JDK response into a RestAssured response.
+     *
+     * @param response    The JDK response.
+     * @param requestSpec The specification of the request, whose configuration the response inherits.
+     * @return The RestAssured response.
+     */
+    private static Response toResponse(HttpResponse<Object> response, FilterableRequestSpecification requestSpec) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers such as :status are not headers for RestAssured
+            if (!name.startsWith(":")) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(version + " " + response.statusCode())
+                .setHeaders(new Headers(headers));
+        if (response.body() instanceof SpilledBody) {
+            builder.setBody((SpilledBody) response.body());
+        } else {
+            builder.setBody((byte[]) response.body());
+        }
+        response.headers().firstValue(CONTENT_TYPE).ifPresent(builder::setContentType);
+        Response adapted = builder.build();
+        if (adapted instanceof RestAssuredResponseImpl) {
+            ((RestAssuredResponseImpl) adapted).setConfig(requestSpec.getConfig());
+        }
+        return adapted;
+    }
+
+    /**
+     * Holds the shared transport, created on first use.
+     */
+    private static final class Shared {
+        private static final JdkHttpTransport INSTANCE = new JdkHttpTransport(HttpClient.newBuilder()
+                .version(HttpClient.Version.valueOf(ConfigReader.getString("api.transport.jdk.version", "HTTP_2")))
+                .connectTimeout(Duration.ofMillis(ConfigReader.getLong("api.transport.jdk.connectTimeoutMillis", 10_000L)))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(AsyncExecutors.defaultExecutor())
+                .build());
+    }
+}
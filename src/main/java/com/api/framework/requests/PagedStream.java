@@ -0,0 +1,160 @@
+package com.api.framework.requests;
+
+import io.restassured.response.Response;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * PagedStream class turns a paginated collection endpoint into a lazily fetched {@link Stream}.
+ * <p>
+ * Pages are requested with the API's {@code page}/{@code limit} query parameters, starting at page 1.
+ * Once half of a page has been consumed, the next page is requested in the background, so at most two
+ * pages are held in memory, the first element is available after a single round-trip, and a
+ * {@code findFirst()} that stops early in a page sends no request for the next one. The stream
+ * ends at the first page holding fewer elements than the page size.
+ * </p>
+ * Example usage:
+ * {@code
+ * try (Stream<Client> clients = clientRequest.getClientsPaged(100)) {
+ *     clients.filter(client -> "Laura".equals(client.getName())).findFirst();
+ * }
+ * }
+ */
+public final class PagedStream {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PagedStream() {
+    }
+
+    /**
+     * Creates a lazily fetched stream over every page of a collection.
+     * <p>
+     * Closing the stream stops it from requesting further pages. A prefetch already sent is not aborted; it
+     * completes in the background and its response is dropped.
+     * </p>
+     *
+     * @param pageSize   The number of elements requested per page.
+     * @param pageLoader Sends the request for a page number, starting at 1.
+     * @param decoder    Decodes a page response into its elements.
+     * @param <T>        The element type.
+     * @return A sequential stream of the collection's elements.
+     * @throws IllegalArgumentException if the page size is not positive.
+     */
+    public static <T> Stream<T> of(int pageSize, IntFunction<CompletableFuture<Response>> pageLoader,
+                                   Function<Response, List<T>> decoder) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+        }
+        PageIterator<T> iterator = new PageIterator<>(pageSize, pageLoader, decoder);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::cancel);
+    }
+
+    /**
+     * Iterates over the elements of consecutive pages, prefetching the next page from the middle of the current one.
+     *
+     * @param <T> The element type.
+     */
+    private static final class PageIterator<T> implements Iterator<T> {
+        private final int pageSize;
+        private final IntFunction<CompletableFuture<Response>> pageLoader;
+        private final Function<Response, List<T>> decoder;
+        private Iterator<T> current = List.<T>of().iterator();
+        private CompletableFuture<Response> next;
+        private int nextPage = 1;
+        private int untilPrefetch;
+        private boolean lastPage;
+
+        private PageIterator(int pageSize, IntFunction<CompletableFuture<Response>> pageLoader,
+                             Function<Response, List<T>> decoder) {
+            this.pageSize = pageSize;
+            this.pageLoader = pageLoader;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (lastPage) {
+                    return false;
+                }
+                advance();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = current.next();
+            if (--untilPrefetch == 0 && !lastPage && next == null) {
+                next = pageLoader.apply(nextPage++);
+            }
+            return element;
+        }
+
+        /**
+         * Waits for the next page, requesting it now if it was not prefetched, and schedules the prefetch of the
+         * page after it for when half of its elements have been handed out.
+         */
+        private void advance() {
+            if (next == null) {
+                next = pageLoader.apply(nextPage++);
+            }
+            int page = nextPage - 1;
+            Response response = await(next, page);
+            next = null;
+            if (response.getStatusCode() != 200) {
+                throw new RuntimeException("Failed to fetch page " + page + " with status code: " + response.getStatusCode());
+            }
+            List<T> elements = decoder.apply(response);
+            lastPage = elements.size() < pageSize;
+            untilPrefetch = Math.max(1, elements.size() / 2);
+            current = elements.iterator();
+        }
+
+        /**
+         * Stops requesting pages. A prefetch that has not started yet is cancelled; one already sent completes
+         * in the background.
+         */
+        private void cancel() {
+            lastPage = true;
+            if (next != null) {
+                next.cancel(true);
+                next = null;
+            }
+        }
+
+        /**
+         * Waits for a page request to complete.
+         *
+         * @param future The page request.
+         * @param page   The page number, used in error messages.
+         * @return The page response.
+         */
+        private Response await(CompletableFuture<Response> future, int page) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw new RuntimeException("Failed to fetch page " + page, e.getCause());
+            } catch (CancellationException e) {
+                throw new RuntimeException("The request for page " + page + " was cancelled", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.framework.requests;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * ReplayTransport class is the {@link HttpTransport} of {@code api.replay.mode=replay}: it answers every request
+ * from a {@link TrafficLog} recording instead of sending it.
+ * <p>
+ * Replayed responses have the recorded status, headers and body and carry the specification's configuration,
+ * so steps, schema validation and object mapping behave as in the recorded run. A request that was never
+ * recorded fails with an {@link IllegalStateException} naming it, rather than reaching the network.
+ * </p>
+ * Example usage:
+ * {@code
+ * RequestSpecs.useTransport(new ReplayTransport(TrafficLog.open(Path.of("target/recordings/traffic.log"))));
+ * }
+ */
+public final class ReplayTransport implements HttpTransport {
+    static final String NAME = "replay";
+
+    private final TrafficLog recording;
+
+    /**
+     * Creates a transport serving a recording.
+     *
+     * @param recording The recording, opened with {@link TrafficLog#open(java.nio.file.Path)}.
+     */
+    public ReplayTransport(TrafficLog recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Response response = recording.next(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody(),
+                requestSpec.getConfig());
+        if (response == null) {
+            throw new IllegalStateException("No recorded response for "
+                    + TrafficLog.keyOf(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody())
+                    + " in " + recording.getFile());
+        }
+        RequestMetrics.firstByteMarker().run();
+        return response;
+    }
+
+    /**
+     * Builds a RestAssured response from recorded parts.
+     *
+     * @param status     The status code.
+     * @param statusLine The status line.
+     * @param headers    The headers.
+     * @param body       The body.
+     * @param config     The configuration the response inherits, for object mapping.
+     * @return The response.
+     */
+    static Response toResponse(int status, String statusLine, Headers headers, byte[] body, RestAssuredConfig config) {
+        return toResponse(new ResponseBuilder().setBody(body), status, statusLine, headers, config);
+    }
+
+    /**
+     * Builds a RestAssured response from recorded parts, with a body spilled to a file.
+     *
+     * @param status     The status code.
+     * @param statusLine The status line.
+     * @param headers    The headers.
+     * @param body       The spilled body.
+     * @param config     The configuration the response inherits, for object mapping.
+     * @return The response.
+     */
+    static Response toResponse(int status, String statusLine, Headers headers, SpilledBody body, RestAssuredConfig config) {
+        return toResponse(new ResponseBuilder().setBody(body), status, statusLine, headers, config);
+    }
+
+    private static Response toResponse(ResponseBuilder builder, int status, String statusLine, Headers headers,
+                                       RestAssuredConfig config) {
+        builder.setStatusCode(status)
+                .setStatusLine(statusLine)
+                .setHeaders(headers);
+        String contentType = headers.getValue("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        Response response = builder.build();
+        if (response instanceof RestAssuredResponseImpl) {
+            ((RestAssuredResponseImpl) response).setConfig(config);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,268 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.Constants;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * RequestMetrics class measures every request sent through {@link BaseRequest} and aggregates the
+ * timings per logical endpoint.
+ * <p>
+ * {@link #timingFilter()} wraps each request. The pooled connection manager reports DNS and connect
+ * times and the HTTP client reports when the response headers arrive (see {@link HttpConnectionPool}).
+ * These phases are collected in a thread-local, which works because RestAssured sends a request on
+ * the thread that runs its filters. Timings are recorded into the run-wide statistics and into the
+ * scopes open on the sending thread, for example one per Cucumber scenario. Scopes belong to the thread
+ * that opened them, so scenarios running in parallel do not see each other's requests; asynchronous
+ * requests carry the scopes of the thread that started them (see {@link #inCurrentScopes(Supplier)}).
+ * </p>
+ * <p>
+ * Endpoints are labelled by method and path template, with the API prefix removed and record IDs
+ * replaced, so {@code GET /api/v1/clients/17} is recorded as {@code GET clients/{id}}.
+ * </p>
+ * Example usage:
+ * {@code
+ * EndpointLatencyStats scenarioStats = RequestMetrics.openScope();
+ * clientRequest.getClient("1");
+ * RequestMetrics.closeScope(scenarioStats);
+ * String runSummary = RequestMetrics.runStats().summary();
+ * }
+ */
+public final class RequestMetrics {
+    private static final String API_PREFIX = String.format(Constants.URL, "");
+    private static final ThreadLocal<Measurement> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<List<EndpointLatencyStats>> SCOPES = ThreadLocal.withInitial(List::of);
+    private static volatile EndpointLatencyStats runStats = new EndpointLatencyStats();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RequestMetrics() {
+    }
+
+    /**
+     * Returns the filter timing each request. It must run before {@link HttpConnectionPool#connectionReleasingFilter()},
+     * so the total time includes reading the body.
+     *
+     * @return The timing filter.
+     */
+    public static Filter timingFilter() {
+        return (requestSpec, responseSpec, context) -> {
+            Measurement measurement = new Measurement(System.nanoTime());
+            Measurement outer = CURRENT.get();
+            CURRENT.set(measurement);
+            String endpoint = endpointOf(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+            long requestBytes = sizeOf(requestSpec.getBody());
+            try {
+                Response response = context.next(requestSpec, responseSpec);
+                long responseBytes = ResponseSpill.sizeOf(response);
+                record(measurement.toTiming(endpoint, response.getStatusCode(), requestBytes, responseBytes));
+                return response;
+            } catch (RuntimeException e) {
+                record(measurement.toTiming(endpoint, 0, requestBytes, 0));
+                throw e;
+            } finally {
+                CURRENT.set(outer);
+            }
+        };
+    }
+
+    /**
+     * Returns the statistics of every request since the start of the run or the last {@link #resetRun()}.
+     *
+     * @return The run-wide statistics.
+     */
+    public static EndpointLatencyStats runStats() {
+        return runStats;
+    }
+
+    /**
+     * Discards the run-wide statistics.
+     */
+    public static void resetRun() {
+        runStats = new EndpointLatencyStats();
+    }
+
+    /**
+     * Starts collecting the requests the current thread sends from now on into new statistics, in addition
+     * to the run-wide ones.
+     *
+     * @return The statistics of the new scope.
+     */
+    public static EndpointLatencyStats openScope() {
+        EndpointLatencyStats stats = new EndpointLatencyStats();
+        List<EndpointLatencyStats> scopes = new ArrayList<>(SCOPES.get());
+        scopes.add(stats);
+        SCOPES.set(List.copyOf(scopes));
+        return stats;
+    }
+
+    /**
+     * Stops collecting requests into a scope opened on the current thread. The statistics keep what was
+     * recorded so far.
+     *
+     * @param stats The statistics returned by {@link #openScope()}.
+     */
+    public static void closeScope(EndpointLatencyStats stats) {
+        List<EndpointLatencyStats> scopes = new ArrayList<>(SCOPES.get());
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        } else {
+            SCOPES.set(List.copyOf(scopes));
+        }
+    }
+
+    /**
+     * Wraps a task so the requests it sends are recorded in the scopes open on the current thread, whichever
+     * thread later runs it.
+     *
+     * @param task The task, typically sending a request.
+     * @param <T>  The result type.
+     * @return The wrapped task, or the task itself if no scope is open.
+     */
+    public static <T> Supplier<T> inCurrentScopes(Supplier<T> task) {
+        List<EndpointLatencyStats> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            List<EndpointLatencyStats> outer = SCOPES.get();
+            SCOPES.set(scopes);
+            try {
+                return task.get();
+            } finally {
+                SCOPES.set(outer);
+            }
+        };
+    }
+
+    /**
+     * Turns a method and request path into a logical endpoint label.
+     *
+     * @param method The HTTP method.
+     * @param path   The request path, for example {@code /api/v1/clients/17}.
+     * @return The endpoint label, for example {@code GET clients/{id}}.
+     */
+    static String endpointOf(String method, String path) {
+        String relative = path == null ? "" : path;
+        if (relative.startsWith(API_PREFIX)) {
+            relative = relative.substring(API_PREFIX.length());
+        }
+        String[] segments = relative.split("/");
+        StringBuilder template = new StringBuilder(method).append(' ').append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            // Collection names and record IDs alternate: clients/{id}
+            template.append('/').append(i % 2 == 1 ? "{id}" : segments[i]);
+        }
+        return template.toString();
+    }
+
+    /**
+     * Reports the host name resolution time of the request running on the current thread.
+     *
+     * @param nanos The resolution time.
+     */
+    static void recordDns(long nanos) {
+        Measurement measurement = CURRENT.get();
+        if (measurement != null) {
+            measurement.dnsNanos += nanos;
+        }
+    }
+
+    /**
+     * Reports the connection setup time of the request running on the current thread.
+     *
+     * @param nanos The setup time, excluding DNS.
+     */
+    static void recordConnect(long nanos) {
+        Measurement measurement = CURRENT.get();
+        if (measurement != null) {
+            measurement.connectNanos += nanos;
+        }
+    }
+
+    /**
+     * Reports that the response headers of the request running on the current thread were read.
+     */
+    static void markFirstByte() {
+        Measurement measurement = CURRENT.get();
+        if (measurement != null && measurement.firstByteAt == 0) {
+            measurement.firstByteAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Reports the bytes the request running on the current thread sent and received on the network, when
+     * they differ from the decoded body sizes because the bodies were compressed.
+     *
+     * @param requestWireBytes  The size of the request body as sent.
+     * @param responseWireBytes The size of the response body as received.
+     */
+    static void recordWireBytes(long requestWireBytes, long responseWireBytes) {
+        Measurement measurement = CURRENT.get();
+        if (measurement != null) {
+            measurement.requestWireBytes = requestWireBytes;
+            measurement.responseWireBytes = responseWireBytes;
+        }
+    }
+
+    /**
+     * Captures the measurement of the request running on the current thread, for transports that receive the
+     * response headers on another thread.
+     *
+     * @return Marks the first byte of the captured request when run, on any thread.
+     */
+    static Runnable firstByteMarker() {
+        Measurement measurement = CURRENT.get();
+        return () -> {
+            if (measurement != null && measurement.firstByteAt == 0) {
+                measurement.firstByteAt = System.nanoTime();
+            }
+        };
+    }
+
+    private static void record(RequestTiming timing) {
+        runStats.record(timing);
+        for (EndpointLatencyStats scope : SCOPES.get()) {
+            scope.record(timing);
+        }
+    }
+
+    private static long sizeOf(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body == null ? 0 : body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * The phases measured so far for the request running on a thread.
+     */
+    private static final class Measurement {
+        private final long startedAt;
+        private long dnsNanos;
+        private long connectNanos;
+        private volatile long firstByteAt;
+        private long requestWireBytes = -1;
+        private long responseWireBytes = -1;
+
+        private Measurement(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private RequestTiming toTiming(String endpoint, int statusCode, long requestBytes, long responseBytes) {
+            long now = System.nanoTime();
+            long firstByte = firstByteAt == 0 ? now : firstByteAt;
+            return new RequestTiming(endpoint, statusCode, dnsNanos, connectNanos,
+                    firstByte - startedAt, now - startedAt, requestBytes, responseBytes,
+                    requestWireBytes < 0 ? requestBytes : requestWireBytes,
+                    responseWireBytes < 0 ? responseBytes : responseWireBytes);
+        }
+    }
+}
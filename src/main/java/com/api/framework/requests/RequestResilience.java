@@ -0,0 +1,582 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.AsyncExecutors;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * RequestResilience class applies the {@link ResiliencePolicy} of an entity type to every request sent through
+ * {@link BaseRequest}.
+ * <p>
+ * A call is given a deadline covering all its attempts. The clock starts when the first attempt creates its
+ * HTTP client, so the one-off initialization of RestAssured in a fresh JVM, which takes seconds, does not count
+ * against it. The remaining time bounds acquiring and opening a connection. Once a request is sent, the
+ * transport registers it with {@link #abortOnDeadline(Runnable)}, and it is aborted when the deadline passes,
+ * whether it is waiting for the headers or reading the body. A stalled API therefore fails the call with
+ * {@link DeadlineExceededException} instead of hanging the scenario.
+ * </p>
+ * <p>
+ * GET, PUT and DELETE are idempotent and are retried on transport errors and on the configured statuses,
+ * after a backoff drawn uniformly between zero and an exponentially growing ceiling ("full jitter"), or after
+ * the {@code Retry-After} the API asked for. POST is never retried.
+ * </p>
+ * <p>
+ * Each endpoint, for example {@code GET clients/{id}}, has its own {@link CircuitBreaker}: after repeated
+ * transport errors or 5xx responses, calls fail fast with {@link CircuitOpenException} until a trial call
+ * succeeds. When hedging is enabled, a GET still waiting after the endpoint's p95 latency, as measured by
+ * {@link RequestMetrics}, is sent a second time and whichever response arrives first is used. A running hedge is
+ * not aborted when the first request fails, so it can still answer the call. Hedging only starts once the
+ * endpoint has enough samples for a meaningful p95.
+ * </p>
+ * <p>
+ * Instances are shared per API and entity type, like the specifications of {@link RequestSpecs}, so breakers
+ * see every call to their endpoint.
+ * </p>
+ * Example usage:
+ * {@code
+ * RequestResilience resilience = RequestResilience.forEntity(Constants.CLIENTS_PATH, ApiTarget.baseUrl());
+ * Response response = resilience.execute("GET", "/api/v1/clients/1", () -> spec.get("/api/v1/clients/1"));
+ * }
+ */
+public final class RequestResilience {
+    private static final Map<String, Map<String, RequestResilience>> INSTANCES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Attempt> ATTEMPT = new ThreadLocal<>();
+    private static final ScheduledExecutorService WATCHDOG = createWatchdog();
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "PUT", "DELETE", "HEAD", "OPTIONS");
+    private static final int HEDGE_MIN_SAMPLES = 20;
+    private static final long HEDGE_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double HEDGE_PERCENTILE = 95.0;
+
+    private final String name;
+    private final ResiliencePolicy policy;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, HedgeDelay> hedgeDelays = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadlinesExceeded = new LongAdder();
+
+    /**
+     * Creates the resilience layer of an entity type.
+     *
+     * @param name   A label for logs, for example the entity path.
+     * @param policy The policy to apply.
+     */
+    public RequestResilience(String name, ResiliencePolicy policy) {
+        this.name = name;
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the shared resilience layer of an entity type of an API, configured by
+     * {@link ResiliencePolicy#forEntity(String)} on first use.
+     *
+     * @param entityPath The entity path, or an empty string for requests not bound to an entity type.
+     * @param baseUri    The base URI of the API.
+     * @return The shared instance.
+     */
+    public static RequestResilience forEntity(String entityPath, String baseUri) {
+        return INSTANCES.computeIfAbsent(baseUri, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(entityPath, key -> new RequestResilience(
+                        entityPath.isEmpty() ? baseUri : entityPath, ResiliencePolicy.forEntity(entityPath)));
+    }
+
+    /**
+     * Summarizes the retries, hedges, rejected calls and missed deadlines of every shared instance that had any.
+     *
+     * @return One line per instance, or an empty string if nothing happened.
+     */
+    public static String runSummary() {
+        return INSTANCES.values().stream()
+                .flatMap(byEntity -> byEntity.values().stream())
+                .filter(RequestResilience::isActive)
+                .map(RequestResilience::summary)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Sends a request under the policy.
+     *
+     * @param method  The HTTP method.
+     * @param path    The request path, for example {@code /api/v1/clients/17}.
+     * @param attempt Sends the request once; called again for every retry or hedged request.
+     * @return The response of the last attempt, or of the first hedged request to answer.
+     * @throws CircuitOpenException       if the endpoint's circuit is open.
+     * @throws DeadlineExceededException  if no attempt answered within the deadline.
+     * @throws UncheckedIOException       if the last attempt failed with a transport error.
+     */
+    public Response execute(String method, String path, Supplier<Response> attempt) {
+        String endpoint = RequestMetrics.endpointOf(method, path);
+        CircuitBreaker breaker = policy.getBreakerFailureThreshold() == 0 ? null : breakers.computeIfAbsent(endpoint,
+                key -> new CircuitBreaker(policy.getBreakerFailureThreshold(), policy.getBreakerOpenMillis()));
+        Deadline deadline = policy.getDeadlineMillis() == 0 ? null : new Deadline(policy.getDeadlineMillis());
+        int maxRetries = IDEMPOTENT_METHODS.contains(method) ? policy.getMaxRetries() : 0;
+        boolean hedged = policy.isHedgeEnabled() && "GET".equals(method);
+        for (int retry = 0; ; retry++) {
+            if (breaker != null && !breaker.tryAcquire()) {
+                rejected.increment();
+                throw new CircuitOpenException(endpoint, breaker.getRemainingOpenMillis());
+            }
+            Response response = null;
+            RuntimeException failure = null;
+            try {
+                response = hedged ? sendHedged(endpoint, attempt, deadline) : send(endpoint, attempt, deadline);
+            } catch (RuntimeException e) {
+                if (!(e instanceof DeadlineExceededException) && !isTransportFailure(e)) {
+                    release(breaker, true);
+                    throw e;
+                }
+                failure = e;
+            }
+            boolean failed = failure != null || response.getStatusCode() >= 500;
+            release(breaker, !failed);
+            boolean retryable = failure != null ? !(failure instanceof DeadlineExceededException)
+                    : policy.isRetryStatus(response.getStatusCode());
+            long backoffNanos = retryable && retry < maxRetries ? backoffNanos(retry, response) : -1;
+            if (backoffNanos < 0 || deadline != null && deadline.remainingNanos() <= backoffNanos) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            retries.increment();
+            sleep(backoffNanos);
+        }
+    }
+
+    /**
+     * Returns the remaining time of the call running on the current thread, for the HTTP client timeouts.
+     *
+     * @return The remaining milliseconds, at least 1, or 0 if the call has no deadline.
+     */
+    static int remainingMillis() {
+        Attempt attempt = ATTEMPT.get();
+        if (attempt == null) {
+            return 0;
+        }
+        attempt.deadline.start();
+        long remaining = TimeUnit.NANOSECONDS.toMillis(attempt.deadline.remainingNanos());
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, remaining));
+    }
+
+    /**
+     * Registers how to abort the request sent by the attempt running on the current thread. The action runs
+     * when the call's deadline passes, unless the attempt has completed by then. Aborting must make the
+     * blocked attempt fail with a transport error, which is then reported as a missed deadline.
+     *
+     * @param abort Aborts the request, for example by closing its connection.
+     */
+    static void abortOnDeadline(Runnable abort) {
+        Attempt attempt = ATTEMPT.get();
+        if (attempt != null) {
+            attempt.abortOnExpiry(abort);
+        }
+    }
+
+    /**
+     * Returns the policy applied by this instance.
+     *
+     * @return The policy.
+     */
+    public ResiliencePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the circuit breaker of an endpoint.
+     *
+     * @param endpoint The logical endpoint, for example {@code GET clients/{id}}.
+     * @return The breaker, or null if the endpoint was never called or breakers are disabled.
+     */
+    public CircuitBreaker getBreaker(String endpoint) {
+        return breakers.get(endpoint);
+    }
+
+    /**
+     * Returns the number of retried attempts.
+     *
+     * @return The number of retries.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of hedged requests sent.
+     *
+     * @return The number of hedges.
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Returns the number of hedged requests that answered before the request they hedged.
+     *
+     * @return The number of hedges won.
+     */
+    public long getHedgesWon() {
+        return hedgesWon.sum();
+    }
+
+    /**
+     * Returns the number of calls rejected by an open circuit.
+     *
+     * @return The number of rejected calls.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of calls that ran out of time.
+     *
+     * @return The number of missed deadlines.
+     */
+    public long getDeadlinesExceeded() {
+        return deadlinesExceeded.sum();
+    }
+
+    /**
+     * Summarizes the statistics on one line.
+     *
+     * @return The summary.
+     */
+    public String summary() {
+        return String.format("Resilience %s: %d retries, %d hedges (%d won), %d rejected by open circuits, %d deadlines exceeded",
+                name, getRetries(), getHedges(), getHedgesWon(), getRejected(), getDeadlinesExceeded());
+    }
+
+    /**
+     * Indicates whether any statistic is non-zero.
+     *
+     * @return True if the instance retried, hedged, rejected or timed out at least once.
+     */
+    private boolean isActive() {
+        return getRetries() + getHedges() + getRejected() + getDeadlinesExceeded() > 0;
+    }
+
+    /**
+     * Sends one attempt on the current thread. The transport aborts the request when the deadline passes.
+     *
+     * @param endpoint The logical endpoint, used in errors.
+     * @param attempt  Sends the request.
+     * @param deadline The deadline of the call, or null if it has none.
+     * @return The response.
+     * @throws DeadlineExceededException if the deadline passed before the attempt or while it failed.
+     * @throws UncheckedIOException      if the attempt failed with a transport error.
+     */
+    private Response send(String endpoint, Supplier<Response> attempt, Deadline deadline) {
+        if (deadline != null && deadline.isExpired()) {
+            throw deadlineExceeded(endpoint, null);
+        }
+        Attempt outer = ATTEMPT.get();
+        Attempt current = deadline == null ? null : new Attempt(deadline);
+        ATTEMPT.set(current);
+        try {
+            return attempt.get();
+        } catch (Exception e) {
+            // An aborted request fails with whatever the HTTP client reports for a closed connection
+            if (deadline != null && deadline.isExpired()) {
+                throw deadlineExceeded(endpoint, e);
+            }
+            // RestAssured rethrows checked I/O exceptions without declaring them
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof IOException) {
+                throw new UncheckedIOException(endpoint + " failed", (IOException) e);
+            }
+            throw new IllegalStateException(endpoint + " failed", e);
+        } finally {
+            if (current != null) {
+                current.disarm();
+            }
+            ATTEMPT.set(outer);
+        }
+    }
+
+    /**
+     * Sends an attempt and, if it has not answered after the endpoint's hedging delay, a second one, returning
+     * the first response. The request that loses is left to complete in the background: a hedge that has
+     * already started is never aborted, so if the first attempt fails, the call waits for the hedge and only
+     * fails if the hedge fails too. A hedge that has not started when the first attempt completes is not sent.
+     *
+     * @param endpoint The logical endpoint.
+     * @param attempt  Sends the request.
+     * @param deadline The deadline of the call, or null if it has none.
+     * @return The first response.
+     */
+    private Response sendHedged(String endpoint, Supplier<Response> attempt, Deadline deadline) {
+        long delayMillis = hedgeDelayMillis(endpoint);
+        if (delayMillis < 0) {
+            return send(endpoint, attempt, deadline);
+        }
+        Executor executor = AsyncExecutors.defaultExecutor();
+        Supplier<Response> task = RequestMetrics.inCurrentScopes(() -> send(endpoint, attempt, deadline));
+        // Claimed by the hedge when it starts, or by the first attempt when it completes before
+        AtomicBoolean backupClaimed = new AtomicBoolean();
+        CompletableFuture<Response> primary = CompletableFuture.supplyAsync(task, executor);
+        CompletableFuture<Response> backup = CompletableFuture.supplyAsync(() -> {
+            if (!backupClaimed.compareAndSet(false, true)) {
+                throw new CancellationException("The hedged request already completed");
+            }
+            hedges.increment();
+            return task.get();
+        }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor));
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        primary.whenComplete((response, error) -> {
+            boolean backupStarted = !backupClaimed.compareAndSet(false, true);
+            if (!backupStarted) {
+                backup.cancel(false);
+            }
+            if (error == null) {
+                winner.complete(response);
+            } else if (!backupStarted || backup.isCompletedExceptionally()) {
+                winner.completeExceptionally(error);
+            }
+        });
+        backup.whenComplete((response, error) -> {
+            if (error == null) {
+                // Counted before the caller can see the response
+                hedgesWon.increment();
+                if (!winner.complete(response)) {
+                    hedgesWon.decrement();
+                }
+            } else if (primary.isCompletedExceptionally()) {
+                winner.completeExceptionally(error);
+            }
+        });
+        return await(endpoint, winner, deadline);
+    }
+
+    /**
+     * Waits for the outcome of hedged requests until the deadline.
+     *
+     * @param endpoint The logical endpoint.
+     * @param winner   The first response of the hedged requests.
+     * @param deadline The deadline of the call, or null if it has none.
+     * @return The response.
+     */
+    private Response await(String endpoint, CompletableFuture<Response> winner, Deadline deadline) {
+        try {
+            if (deadline == null) {
+                return winner.get();
+            }
+            while (true) {
+                try {
+                    return winner.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // The clock may have started after the wait began
+                    if (deadline.isExpired()) {
+                        throw deadlineExceeded(endpoint, null);
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + endpoint, e);
+        }
+    }
+
+    /**
+     * Returns the hedging delay of an endpoint: its p95 latency, but not less than the configured minimum.
+     * The percentile is recomputed at most once per second.
+     *
+     * @param endpoint The logical endpoint.
+     * @return The delay in milliseconds, or -1 if the endpoint does not have enough samples yet.
+     */
+    private long hedgeDelayMillis(String endpoint) {
+        long now = System.nanoTime();
+        HedgeDelay cached = hedgeDelays.get(endpoint);
+        if (cached != null && now - cached.computedAt < HEDGE_REFRESH_NANOS) {
+            return cached.millis;
+        }
+        Histogram totalTimes = RequestMetrics.runStats().getTotalTimes(endpoint);
+        long millis = totalTimes == null || totalTimes.getTotalCount() < HEDGE_MIN_SAMPLES
+                ? -1
+                : Math.max(policy.getHedgeMinDelayMillis(), totalTimes.getValueAtPercentile(HEDGE_PERCENTILE) / 1000);
+        hedgeDelays.put(endpoint, new HedgeDelay(now, millis));
+        return millis;
+    }
+
+    /**
+     * Returns the pause before a retry: a uniformly drawn "full jitter" backoff, or the response's
+     * {@code Retry-After} in seconds if it is longer.
+     *
+     * @param retry    The number of retries already made.
+     * @param response The response being retried, or null after a transport error.
+     * @return The pause in nanoseconds.
+     */
+    private long backoffNanos(int retry, Response response) {
+        long ceiling = Math.min(policy.getBackoffMaxMillis(), policy.getBackoffBaseMillis() << Math.min(retry, 20));
+        long millis = ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+        String retryAfter = response == null ? null : response.getHeader("Retry-After");
+        if (retryAfter != null && !retryAfter.isEmpty() && retryAfter.chars().allMatch(Character::isDigit)) {
+            millis = Math.max(millis, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter)));
+        }
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Creates the exception of a missed deadline and counts it.
+     *
+     * @param endpoint The logical endpoint.
+     * @param cause    The failure of the last attempt, or null.
+     * @return The exception.
+     */
+    private DeadlineExceededException deadlineExceeded(String endpoint, Throwable cause) {
+        deadlinesExceeded.increment();
+        return new DeadlineExceededException(endpoint, policy.getDeadlineMillis(), cause);
+    }
+
+    /**
+     * Reports the outcome of a granted call to a breaker.
+     *
+     * @param breaker The breaker, or null if breakers are disabled.
+     * @param success True if the call succeeded.
+     */
+    private static void release(CircuitBreaker breaker, boolean success) {
+        if (breaker == null) {
+            return;
+        }
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    /**
+     * Indicates whether an exception was caused by a transport error.
+     *
+     * @param error The exception.
+     * @return True if an {@link IOException} is among its causes.
+     */
+    private static boolean isTransportFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the daemon thread aborting requests whose deadline has passed.
+     *
+     * @return The scheduler.
+     */
+    private static ScheduledExecutorService createWatchdog() {
+        ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1,
+                AsyncExecutors.daemonThreadFactory("api-deadline-watchdog-"));
+        // Nearly every abort is cancelled because its request answered in time
+        watchdog.setRemoveOnCancelPolicy(true);
+        return watchdog;
+    }
+
+    /**
+     * Pauses the current thread before a retry.
+     *
+     * @param nanos The pause.
+     */
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+    /**
+     * The time budget of a call, shared by its attempts. The clock starts on the first {@link #start()}.
+     */
+    private static final class Deadline {
+        private static final long NOT_STARTED = Long.MIN_VALUE;
+
+        private final long budgetNanos;
+        private final AtomicLong expiresAt = new AtomicLong(NOT_STARTED);
+
+        private Deadline(long budgetMillis) {
+            this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        }
+
+        private void start() {
+            if (expiresAt.get() == NOT_STARTED) {
+                expiresAt.compareAndSet(NOT_STARTED, System.nanoTime() + budgetNanos);
+            }
+        }
+
+        private long remainingNanos() {
+            long expiry = expiresAt.get();
+            return expiry == NOT_STARTED ? budgetNanos : expiry - System.nanoTime();
+        }
+
+        private boolean isExpired() {
+            return remainingNanos() <= 0;
+        }
+    }
+
+    /**
+     * One attempt of a call and the aborts scheduled for its requests.
+     */
+    private static final class Attempt {
+        private final Deadline deadline;
+        // Several when the HTTP client follows redirects or resends the request on a new connection
+        private final List<ScheduledFuture<?>> aborts = new ArrayList<>(1);
+
+        private Attempt(Deadline deadline) {
+            this.deadline = deadline;
+        }
+
+        private void abortOnExpiry(Runnable abort) {
+            deadline.start();
+            aborts.add(WATCHDOG.schedule(abort, Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS));
+        }
+
+        private void disarm() {
+            aborts.forEach(scheduled -> scheduled.cancel(false));
+        }
+    }
+
+    /**
+     * The hedging delay of an endpoint and when it was computed.
+     */
+    private static final class HedgeDelay {
+        private final long computedAt;
+        private final long millis;
+
+        private HedgeDelay(long computedAt, long millis) {
+            this.computedAt = computedAt;
+            this.millis = millis;
+        }
+    }
+}
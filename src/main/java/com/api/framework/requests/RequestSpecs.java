@@ -0,0 +1,145 @@
+package com.api.framework.requests;
+
+import com.api.framework.serialization.JsonMapper;
+import com.api.framework.utils.Constants;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RequestSpecs class caches one pre-built {@link RequestSpecification} per base URI and entity type.
+ * <p>
+ * Each specification carries the base URI, the JSON content type and the pooled
+ * {@link HttpConnectionPool#restAssuredConfig()} with the shared {@link JsonMapper} object mapper, and this
+ * chain of filters, so a request only merges a ready-made specification instead of rebuilding it every time:
+ * </p>
+ * <ol>
+ *   <li>{@link ResponseCache}, when {@code api.cache.enabled=true}.</li>
+ *   <li>{@link RequestMetrics} timing.</li>
+ *   <li>{@link TrafficCapture}, unless {@code api.capture.enabled=false}.</li>
+ *   <li>{@link ContentCompression}, when {@code api.compression.enabled=true}.</li>
+ *   <li>Connection release of {@link HttpConnectionPool}.</li>
+ *   <li>{@link TrafficLog} recording, when {@code api.replay.mode=record}.</li>
+ *   <li>{@link ResponseSpill}, unless {@code api.spill.thresholdBytes=-1}.</li>
+ *   <li>The {@link HttpTransport}, which sends the request.</li>
+ * </ol>
+ * <p>
+ * Specifications are immutable once built and are shared between threads.
+ * </p>
+ * <p>
+ * The transport is the one selected by {@code api.transport}, unless another one was installed with
+ * {@link #useTransport(HttpTransport)}.
+ * </p>
+ * <p>
+ * The base URI is part of the key rather than read from {@link RestAssured#baseURI}, so request helpers
+ * targeting different APIs, for example scenarios running in parallel, never rebuild or overwrite each
+ * other's specifications.
+ * </p>
+ * Example usage:
+ * {@code
+ * RequestSpecification spec = RequestSpecs.forEntity(Constants.CLIENTS_PATH, ApiTarget.baseUrl());
+ * Response response = RestAssured.given(spec).get("/api/v1/clients");
+ * }
+ */
+public final class RequestSpecs {
+    private static final Map<String, Map<String, RequestSpecification>> SPECS = new ConcurrentHashMap<>();
+    private static volatile HttpTransport transport;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RequestSpecs() {
+    }
+
+    /**
+     * Returns the base specification for an entity type of an API, building it on first use.
+     *
+     * @param entityPath The entity path, for example {@link Constants#CLIENTS_PATH}.
+     * @param baseUri    The base URI of the API.
+     * @return The shared request specification for the entity type.
+     */
+    public static RequestSpecification forEntity(String entityPath, String baseUri) {
+        Objects.requireNonNull(baseUri, "baseUri");
+        return SPECS.computeIfAbsent(baseUri, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(entityPath, key -> build(baseUri));
+    }
+
+    /**
+     * Discards all cached specifications, forcing them to be rebuilt on next use.
+     */
+    public static void reset() {
+        SPECS.clear();
+    }
+
+    /**
+     * Returns the transport of the specifications, selected by {@code api.transport} on first use.
+     *
+     * @return The transport.
+     */
+    public static HttpTransport getTransport() {
+        HttpTransport current = transport;
+        if (current == null) {
+            synchronized (RequestSpecs.class) {
+                if (transport == null) {
+                    transport = HttpTransport.configured();
+                }
+                current = transport;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Installs a transport for all specifications and discards the ones built with the previous transport.
+     *
+     * @param httpTransport The transport, or null to return to the one selected by {@code api.transport}.
+     */
+    public static void useTransport(HttpTransport httpTransport) {
+        synchronized (RequestSpecs.class) {
+            transport = httpTransport;
+            reset();
+        }
+    }
+
+    /**
+     * Builds a base specification.
+     *
+     * @param baseUri The base URI of the API.
+     * @return A new request specification.
+     */
+    private static RequestSpecification build(String baseUri) {
+        RestAssuredConfig config = HttpConnectionPool.restAssuredConfig().objectMapperConfig(JsonMapper.objectMapperConfig());
+        if (ContentCompression.isEnabled()) {
+            config = config.decoderConfig(ContentCompression.decoderConfig());
+        }
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setContentType(Constants.VALUE_CONTENT_TYPE)
+                .setConfig(config);
+        if (ResponseCache.isEnabled()) {
+            builder.addFilter(ResponseCache.shared().filter());
+        }
+        builder.addFilter(RequestMetrics.timingFilter());
+        if (TrafficCapture.isEnabled()) {
+            builder.addFilter(TrafficCapture.shared().filter());
+        }
+        if (ContentCompression.isEnabled()) {
+            builder.addFilter(ContentCompression.filter());
+        }
+        builder.addFilter(HttpConnectionPool.connectionReleasingFilter());
+        if (TrafficLog.isRecording()) {
+            builder.addFilter(TrafficLog.shared().recordingFilter());
+        }
+        if (ResponseSpill.isEnabled()) {
+            builder.addFilter(ResponseSpill.filter());
+        }
+        return builder
+                .addFilter(getTransport())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.api.framework.requests;
+
+/**
+ * RequestTiming class holds the timings and sizes measured for one request.
+ * <p>
+ * The phases follow the order of the exchange. DNS and connect are zero when a pooled keep-alive
+ * connection was reused. Time to first byte runs from the start of the request until the response
+ * headers have been read. Total includes reading the whole body. All durations are in nanoseconds.
+ * A status of 0 means the request failed before a response was received.
+ * </p>
+ * <p>
+ * Body sizes are given twice: decoded, as seen by the steps, and on the wire, as sent and received with
+ * {@link ContentCompression}. Without compression both are the same.
+ * </p>
+ * Example usage:
+ * {@code
+ * RequestTiming timing = new RequestTiming("GET clients/{id}", 200, 0, 0, 1_500_000, 2_000_000, 0, 180);
+ * RequestMetrics.runStats().record(timing);
+ * }
+ */
+public class RequestTiming {
+    private final String endpoint;
+    private final int statusCode;
+    private final long dnsNanos;
+    private final long connectNanos;
+    private final long timeToFirstByteNanos;
+    private final long totalNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final long requestWireBytes;
+    private final long responseWireBytes;
+
+    /**
+     * Creates a request timing of uncompressed bodies.
+     *
+     * @param endpoint             The logical endpoint, for example {@code GET clients/{id}}.
+     * @param statusCode           The response status, or 0 if no response was received.
+     * @param dnsNanos             The host name resolution time.
+     * @param connectNanos         The connection setup time, excluding DNS.
+     * @param timeToFirstByteNanos The time until the response headers were read.
+     * @param totalNanos           The time until the response body was read.
+     * @param requestBytes         The size of the request body.
+     * @param responseBytes        The size of the response body.
+     */
+    public RequestTiming(String endpoint, int statusCode, long dnsNanos, long connectNanos,
+                         long timeToFirstByteNanos, long totalNanos, long requestBytes, long responseBytes) {
+        this(endpoint, statusCode, dnsNanos, connectNanos, timeToFirstByteNanos, totalNanos,
+                requestBytes, responseBytes, requestBytes, responseBytes);
+    }
+
+    /**
+     * Creates a request timing.
+     *
+     * @param endpoint             The logical endpoint, for example {@code GET clients/{id}}.
+     * @param statusCode           The response status, or 0 if no response was received.
+     * @param dnsNanos             The host name resolution time.
+     * @param connectNanos         The connection setup time, excluding DNS.
+     * @param timeToFirstByteNanos The time until the response headers were read.
+     * @param totalNanos           The time until the response body was read.
+     * @param requestBytes         The decoded size of the request body.
+     * @param responseBytes        The decoded size of the response body.
+     * @param requestWireBytes     The size of the request body as sent.
+     * @param responseWireBytes    The size of the response body as received.
+     */
+    public RequestTiming(String endpoint, int statusCode, long dnsNanos, long connectNanos,
+                         long timeToFirstByteNanos, long totalNanos, long requestBytes, long responseBytes,
+                         long requestWireBytes, long responseWireBytes) {
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.dnsNanos = dnsNanos;
+        this.connectNanos = connectNanos;
+        this.timeToFirstByteNanos = timeToFirstByteNanos;
+        this.totalNanos = totalNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.requestWireBytes = requestWireBytes;
+        this.responseWireBytes = responseWireBytes;
+    }
+
+    /**
+     * Returns the logical endpoint.
+     *
+     * @return The HTTP method followed by the path template, for example {@code GET clients/{id}}.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the response status.
+     *
+     * @return The status code, or 0 if no response was received.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the host name resolution time.
+     *
+     * @return The time in nanoseconds, 0 if a pooled connection was reused.
+     */
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    /**
+     * Returns the connection setup time, excluding DNS.
+     *
+     * @return The time in nanoseconds, 0 if a pooled connection was reused.
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * Returns the time until the response headers were read.
+     *
+     * @return The time in nanoseconds, or the total time if no response was received.
+     */
+    public long getTimeToFirstByteNanos() {
+        return timeToFirstByteNanos;
+    }
+
+    /**
+     * Returns the time until the response body was read.
+     *
+     * @return The time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the size of the request body.
+     *
+     * @return The size in bytes.
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Returns the size of the response body.
+     *
+     * @return The size in bytes.
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Returns the size of the request body as sent, after compression.
+     *
+     * @return The size in bytes.
+     */
+    public long getRequestWireBytes() {
+        return requestWireBytes;
+    }
+
+    /**
+     * Returns the size of the response body as received, before decoding.
+     *
+     * @return The size in bytes.
+     */
+    public long getResponseWireBytes() {
+        return responseWireBytes;
+    }
+}
@@ -0,0 +1,178 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ResiliencePolicy class holds the deadline, retry, circuit breaker and hedging settings applied by
+ * {@link RequestResilience} to the requests of one entity type.
+ * <p>
+ * Settings are read through {@link ConfigReader}. Each key can be set for one entity type by inserting its
+ * path, for example {@code api.resilience.clients.maxRetries} overrides {@code api.resilience.maxRetries}
+ * for client requests only:
+ * </p>
+ * <ul>
+ *   <li>{@code api.resilience.deadlineMillis} - Time budget of a call, retries included; 0 disables it (default 30000).</li>
+ *   <li>{@code api.resilience.maxRetries} - Retries of a failed GET, PUT or DELETE (default 2).</li>
+ *   <li>{@code api.resilience.backoffBaseMillis} - Backoff ceiling of the first retry, doubled for each further retry (default 100).</li>
+ *   <li>{@code api.resilience.backoffMaxMillis} - Upper bound of the backoff ceiling (default 2000).</li>
+ *   <li>{@code api.resilience.retryStatuses} - Comma-separated status codes worth retrying (default 429,502,503,504).</li>
+ *   <li>{@code api.resilience.breaker.failureThreshold} - Consecutive failures opening an endpoint's circuit; 0 disables it (default 5).</li>
+ *   <li>{@code api.resilience.breaker.openMillis} - Time an open circuit rejects calls before a trial call (default 5000).</li>
+ *   <li>{@code api.resilience.hedge.enabled} - Sends a second GET once the first one is slower than the endpoint's p95 (default false).</li>
+ *   <li>{@code api.resilience.hedge.minDelayMillis} - Lower bound of the hedging delay (default 50).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * ResiliencePolicy policy = ResiliencePolicy.forEntity(Constants.CLIENTS_PATH);
+ * int retries = policy.getMaxRetries();
+ * }
+ */
+public final class ResiliencePolicy {
+    private static final String PREFIX = "api.resilience.";
+
+    private final long deadlineMillis;
+    private final int maxRetries;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final Set<Integer> retryStatuses;
+    private final int breakerFailureThreshold;
+    private final long breakerOpenMillis;
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayMillis;
+
+    /**
+     * Reads the policy of an entity type from the configuration.
+     *
+     * @param entityPath The entity path, or an empty string for the defaults.
+     */
+    private ResiliencePolicy(String entityPath) {
+        this.deadlineMillis = ConfigReader.getLong(key(entityPath, "deadlineMillis"), 30_000L);
+        this.maxRetries = ConfigReader.getInt(key(entityPath, "maxRetries"), 2);
+        this.backoffBaseMillis = ConfigReader.getLong(key(entityPath, "backoffBaseMillis"), 100L);
+        this.backoffMaxMillis = ConfigReader.getLong(key(entityPath, "backoffMaxMillis"), 2_000L);
+        this.retryStatuses = Arrays.stream(ConfigReader.getString(key(entityPath, "retryStatuses"), "429,502,503,504").split(","))
+                .map(String::trim)
+                .filter(status -> !status.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+        this.breakerFailureThreshold = ConfigReader.getInt(key(entityPath, "breaker.failureThreshold"), 5);
+        this.breakerOpenMillis = ConfigReader.getLong(key(entityPath, "breaker.openMillis"), 5_000L);
+        this.hedgeEnabled = ConfigReader.getBoolean(key(entityPath, "hedge.enabled"), false);
+        this.hedgeMinDelayMillis = ConfigReader.getLong(key(entityPath, "hedge.minDelayMillis"), 50L);
+        if (deadlineMillis < 0 || maxRetries < 0 || backoffBaseMillis < 0 || backoffMaxMillis < 0
+                || breakerFailureThreshold < 0 || breakerOpenMillis < 0 || hedgeMinDelayMillis < 0) {
+            throw new IllegalArgumentException("Negative resilience setting for entity type '" + entityPath + "'");
+        }
+    }
+
+    /**
+     * Reads the policy of an entity type from the configuration.
+     *
+     * @param entityPath The entity path, for example {@link com.api.framework.utils.Constants#CLIENTS_PATH},
+     *                   or an empty string for the defaults.
+     * @return The policy.
+     * @throws IllegalArgumentException if a setting is negative or a status code is not a number.
+     */
+    public static ResiliencePolicy forEntity(String entityPath) {
+        return new ResiliencePolicy(entityPath);
+    }
+
+    /**
+     * Returns the configuration key of a setting, preferring the entity-specific key when it is set.
+     *
+     * @param entityPath The entity path.
+     * @param name       The setting name.
+     * @return The key to read.
+     */
+    private static String key(String entityPath, String name) {
+        String entityKey = PREFIX + entityPath + "." + name;
+        boolean overridden = !entityPath.isEmpty() && ConfigReader.getString(entityKey, null) != null;
+        return overridden ? entityKey : PREFIX + name;
+    }
+
+    /**
+     * Returns the time budget of a call, retries and hedged requests included.
+     *
+     * @return The deadline in milliseconds, 0 if calls have no deadline.
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Returns the number of retries of a failed idempotent request.
+     *
+     * @return The maximum number of retries.
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns the backoff ceiling of the first retry.
+     *
+     * @return The base backoff in milliseconds.
+     */
+    public long getBackoffBaseMillis() {
+        return backoffBaseMillis;
+    }
+
+    /**
+     * Returns the upper bound of the backoff ceiling.
+     *
+     * @return The maximum backoff in milliseconds.
+     */
+    public long getBackoffMaxMillis() {
+        return backoffMaxMillis;
+    }
+
+    /**
+     * Indicates whether a response status is worth retrying for an idempotent request.
+     *
+     * @param statusCode The status code.
+     * @return True if the status is one of the configured retry statuses.
+     */
+    public boolean isRetryStatus(int statusCode) {
+        return retryStatuses.contains(statusCode);
+    }
+
+    /**
+     * Returns the number of consecutive failures opening an endpoint's circuit.
+     *
+     * @return The failure threshold, 0 if the circuit breaker is disabled.
+     */
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    /**
+     * Returns the time an open circuit rejects calls before letting a trial call through.
+     *
+     * @return The open time in milliseconds.
+     */
+    public long getBreakerOpenMillis() {
+        return breakerOpenMillis;
+    }
+
+    /**
+     * Indicates whether slow GET requests are hedged with a second request.
+     *
+     * @return True if hedging is enabled.
+     */
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    /**
+     * Returns the lower bound of the delay before a hedged request is sent.
+     *
+     * @return The minimum hedging delay in milliseconds.
+     */
+    public long getHedgeMinDelayMillis() {
+        return hedgeMinDelayMillis;
+    }
+}
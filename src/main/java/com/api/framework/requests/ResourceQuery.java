@@ -0,0 +1,61 @@
+package com.api.framework.requests;
+
+import com.api.framework.models.Resource;
+
+import java.util.List;
+
+/**
+ * ResourceQuery class describes the resources to look up with {@link ResourceRequest#findResources(ResourceQuery)}.
+ * <p>
+ * Every criterion narrows the query further; see {@link EntityQuery} for how criteria are sent and matched.
+ * </p>
+ * Example usage:
+ * {@code
+ * try (Stream<Resource> active = resourceRequest.findResources(new ResourceQuery().active(true))) {
+ *     long count = active.count();
+ * }
+ * }
+ */
+public final class ResourceQuery extends EntityQuery<Resource> {
+
+    /**
+     * Creates a query matching every resource.
+     */
+    public ResourceQuery() {
+        this(List.of());
+    }
+
+    private ResourceQuery(List<Criterion<Resource>> criteria) {
+        super(criteria);
+    }
+
+    /**
+     * Restricts the query to resources with a name.
+     *
+     * @param name The name, compared ignoring case.
+     * @return A new query.
+     */
+    public ResourceQuery name(String name) {
+        return new ResourceQuery(and("name", name, Resource::getName));
+    }
+
+    /**
+     * Restricts the query to resources of a trademark.
+     *
+     * @param trademark The trademark, compared ignoring case.
+     * @return A new query.
+     */
+    public ResourceQuery trademark(String trademark) {
+        return new ResourceQuery(and("trademark", trademark, Resource::getTrademark));
+    }
+
+    /**
+     * Restricts the query to active or inactive resources.
+     *
+     * @param active True for active resources, false for inactive ones.
+     * @return A new query.
+     */
+    public ResourceQuery active(boolean active) {
+        return new ResourceQuery(and("active", active, Resource::getActive));
+    }
+}
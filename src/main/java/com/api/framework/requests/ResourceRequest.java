@@ -1,20 +1,30 @@
 package com.api.framework.requests;
 
+import com.api.framework.data.FixtureStore;
 import com.api.framework.models.Resource;
+import com.api.framework.serialization.JsonMapper;
 import com.api.framework.utils.Constants;
-import com.api.framework.utils.JsonFileReader;
-import com.google.gson.Gson;
-import io.restassured.module.jsv.JsonSchemaValidator;
-import io.restassured.path.json.JsonPath;
+import com.api.framework.utils.JsonStreamDecoder;
+import com.api.framework.utils.SchemaFingerprintCache;
+import com.api.framework.utils.SchemaRegistry;
+import com.api.framework.utils.SchemaValidationResult;
+import com.api.framework.utils.StreamingSchemaValidator;
 import io.restassured.response.Response;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * ResourceRequest class provides methods for performing CRUD operations on Resource entities.
  * <p>
- * This class extends {@link BaseRequest} to utilize common HTTP request methods.
+ * This class extends {@link BaseRequest} to utilize common HTTP request methods. Every operation also
+ * has an asynchronous variant. Instances keep no per-request state, so one instance can be shared by
+ * several threads and synchronous and asynchronous calls can be mixed freely.
  * </p>
  * Example usage:
  * {@code
@@ -23,7 +33,21 @@ import java.util.List;
  * }
  */
 public class ResourceRequest extends BaseRequest {
-    private String endpoint;
+    /**
+     * Creates a request helper bound to the resources entity type of the API selected by {@link com.api.framework.server.ApiTarget}.
+     */
+    public ResourceRequest() {
+        super(Constants.RESOURCES_PATH);
+    }
+
+    /**
+     * Creates a request helper bound to the resources entity type of a given API.
+     *
+     * @param baseUri The base URI of the API, for example {@code http://127.0.0.1:8080}.
+     */
+    public ResourceRequest(String baseUri) {
+        super(Constants.RESOURCES_PATH, baseUri);
+    }
 
     /**
      * Fetches the list of all resources.
@@ -31,8 +55,72 @@ public class ResourceRequest extends BaseRequest {
      * @return A Response object containing the server's response to the GET request.
      */
     public Response getResources() {
-        endpoint = String.format(Constants.URL, Constants.RESOURCES_PATH);
-        return requestGet(endpoint, createBaseHeaders());
+        return requestGet(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders());
+    }
+
+    /**
+     * Fetches one page of the resource list.
+     *
+     * @param page  The page number, starting at 1.
+     * @param limit The maximum number of resources in the page.
+     * @return A Response object containing the server's response to the GET request.
+     */
+    public Response getResourcesPage(int page, int limit) {
+        return requestGet(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders(), pageParams(page, limit));
+    }
+
+    /**
+     * Streams every resource page by page, prefetching the next page while the current one is consumed.
+     * <p>
+     * At most two pages are held in memory. Close the stream when done so it stops requesting pages.
+     * </p>
+     *
+     * @param pageSize The number of resources requested per page.
+     * @return A lazily fetched stream of Resource objects.
+     */
+    public Stream<Resource> getResourcesPaged(int pageSize) {
+        String pagedEndpoint = String.format(Constants.URL, Constants.RESOURCES_PATH);
+        return PagedStream.of(pageSize,
+                page -> requestGetAsync(pagedEndpoint, createBaseHeaders(), pageParams(page, pageSize)),
+                this::getResourcesEntity);
+    }
+
+    /**
+     * Streams the resources matching a query, sending its criteria to the API as search parameters.
+     * <p>
+     * Pages of {@link EntityQuery#DEFAULT_PAGE_SIZE} candidates are fetched while the stream is consumed,
+     * falling back to a scan of the whole collection if the API rejects the search. Close the stream when done.
+     * </p>
+     *
+     * @param query The search criteria.
+     * @return A lazily fetched stream of the matching Resource objects.
+     */
+    public Stream<Resource> findResources(ResourceQuery query) {
+        return findResources(query, EntityQuery.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams the resources matching a query, sending its criteria to the API as search parameters.
+     *
+     * @param query    The search criteria.
+     * @param pageSize The number of candidates requested per page.
+     * @return A lazily fetched stream of the matching Resource objects.
+     * @see BaseRequest#requestFind(String, EntityQuery, int, java.util.function.Function)
+     */
+    public Stream<Resource> findResources(ResourceQuery query, int pageSize) {
+        return requestFind(String.format(Constants.URL, Constants.RESOURCES_PATH), query, pageSize, this::getResourcesEntity);
+    }
+
+    /**
+     * Looks up the first resource matching a query, fetching no more pages than needed to find it.
+     *
+     * @param query The search criteria.
+     * @return The first matching resource in collection order, or an empty Optional if there is none.
+     */
+    public Optional<Resource> findFirstResource(ResourceQuery query) {
+        try (Stream<Resource> matches = findResources(query)) {
+            return matches.findFirst();
+        }
     }
 
     /**
@@ -42,8 +130,7 @@ public class ResourceRequest extends BaseRequest {
      * @return A Response object containing the server's response to the GET request.
      */
     public Response getResource(String resourceId) {
-        endpoint = String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId);
-        return requestGet(endpoint, createBaseHeaders());
+        return requestGet(String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId), createBaseHeaders());
     }
 
     /**
@@ -53,8 +140,18 @@ public class ResourceRequest extends BaseRequest {
      * @return A Response object containing the server's response to the POST request.
      */
     public Response createResource(Resource resource) {
-        endpoint = String.format(Constants.URL, Constants.RESOURCES_PATH);
-        return requestPost(endpoint, createBaseHeaders(), resource);
+        return requestPost(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders(), resource);
+    }
+
+    /**
+     * Creates a new resource from an already serialized body, for example one produced by
+     * {@link com.api.framework.data.SyntheticDataGenerator#resourceJson(long)}.
+     *
+     * @param resourceJson The UTF-8 encoded JSON of the resource to be created.
+     * @return A Response object containing the server's response to the POST request.
+     */
+    public Response createResource(byte[] resourceJson) {
+        return requestPost(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders(), resourceJson);
     }
 
     /**
@@ -65,8 +162,7 @@ public class ResourceRequest extends BaseRequest {
      * @return A Response object containing the server's response to the PUT request.
      */
     public Response updateResource(Resource resource, String resourceId) {
-        endpoint = String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId);
-        return requestPut(endpoint, createBaseHeaders(), resource);
+        return requestPut(String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId), createBaseHeaders(), resource);
     }
 
     /**
@@ -76,8 +172,112 @@ public class ResourceRequest extends BaseRequest {
      * @return A Response object containing the server's response to the DELETE request.
      */
     public Response deleteResource(String resourceId) {
-        endpoint = String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId);
-        return requestDelete(endpoint, createBaseHeaders());
+        return requestDelete(String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId), createBaseHeaders());
+    }
+
+    /**
+     * Fetches the list of all resources asynchronously.
+     *
+     * @return A future completed with the server's response to the GET request.
+     */
+    public CompletableFuture<Response> getResourcesAsync() {
+        return requestGetAsync(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders());
+    }
+
+    /**
+     * Fetches a resource by its unique ID asynchronously.
+     *
+     * @param resourceId The unique identifier of the resource.
+     * @return A future completed with the server's response to the GET request.
+     */
+    public CompletableFuture<Response> getResourceAsync(String resourceId) {
+        return requestGetAsync(String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId), createBaseHeaders());
+    }
+
+    /**
+     * Creates a new resource asynchronously.
+     *
+     * @param resource The resource object to be created.
+     * @return A future completed with the server's response to the POST request.
+     */
+    public CompletableFuture<Response> createResourceAsync(Resource resource) {
+        return requestPostAsync(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders(), resource);
+    }
+
+    /**
+     * Creates a new resource from an already serialized body asynchronously.
+     *
+     * @param resourceJson The UTF-8 encoded JSON of the resource to be created.
+     * @return A future completed with the server's response to the POST request.
+     */
+    public CompletableFuture<Response> createResourceAsync(byte[] resourceJson) {
+        return requestPostAsync(String.format(Constants.URL, Constants.RESOURCES_PATH), createBaseHeaders(), resourceJson);
+    }
+
+    /**
+     * Updates an existing resource by its unique ID asynchronously.
+     *
+     * @param resource   The resource object containing updated information.
+     * @param resourceId The unique identifier of the resource.
+     * @return A future completed with the server's response to the PUT request.
+     */
+    public CompletableFuture<Response> updateResourceAsync(Resource resource, String resourceId) {
+        return requestPutAsync(String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId), createBaseHeaders(), resource);
+    }
+
+    /**
+     * Deletes a resource by its unique ID asynchronously.
+     *
+     * @param resourceId The unique identifier of the resource.
+     * @return A future completed with the server's response to the DELETE request.
+     */
+    public CompletableFuture<Response> deleteResourceAsync(String resourceId) {
+        return requestDeleteAsync(String.format(Constants.URL_WITH_PARAM, Constants.RESOURCES_PATH, resourceId), createBaseHeaders());
+    }
+
+    /**
+     * Updates several resources concurrently, with at most {@link BulkExecutor#DEFAULT_PARALLELISM} requests in flight.
+     * <p>
+     * Each resource is sent to the endpoint matching its own ID.
+     * </p>
+     *
+     * @param resources The resource objects containing updated information.
+     * @return The per-resource results.
+     */
+    public BulkResult<Resource> updateResources(Collection<Resource> resources) {
+        return updateResources(resources, BulkExecutor.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Updates several resources concurrently. Each resource is sent to the endpoint matching its own ID.
+     *
+     * @param resources   The resource objects containing updated information.
+     * @param parallelism The maximum number of PUT requests in flight.
+     * @return The per-resource results.
+     */
+    public BulkResult<Resource> updateResources(Collection<Resource> resources, int parallelism) {
+        return BulkExecutor.run(resources, parallelism, resource -> updateResourceAsync(resource, resource.getId()));
+    }
+
+    /**
+     * Deletes several resources concurrently, with at most {@link BulkExecutor#DEFAULT_PARALLELISM} requests in flight.
+     *
+     * @param resourceIds The unique identifiers of the resources to delete.
+     * @return The per-resource results.
+     */
+    public BulkResult<String> deleteResources(Collection<String> resourceIds) {
+        return deleteResources(resourceIds, BulkExecutor.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Deletes several resources concurrently.
+     *
+     * @param resourceIds The unique identifiers of the resources to delete.
+     * @param parallelism The maximum number of DELETE requests in flight.
+     * @return The per-resource results.
+     */
+    public BulkResult<String> deleteResources(Collection<String> resourceIds, int parallelism) {
+        return BulkExecutor.run(resourceIds, parallelism, this::deleteResourceAsync);
     }
 
     /**
@@ -92,23 +292,38 @@ public class ResourceRequest extends BaseRequest {
 
     /**
      * Converts a Response object to a list of Resource entities.
+     * <p>
+     * The body is decoded in a single streaming pass by {@link JsonStreamDecoder}, from its file if it was
+     * spilled by {@link ResponseSpill}.
+     * </p>
      *
      * @param response The Response object containing the resource data.
-     * @return A list of Resource objects.
+     * @return A mutable list of Resource objects.
      */
     public List<Resource> getResourcesEntity(@NotNull Response response) {
-        JsonPath jsonPath = response.jsonPath();
-        return jsonPath.getList("", Resource.class);
+        return JsonStreamDecoder.readList(ResponseSpill.open(response), Resource.class);
+    }
+
+    /**
+     * Converts a Response object to a lazily decoded stream of Resource entities.
+     * <p>
+     * Elements are decoded one at a time while the stream is consumed; close the stream when done.
+     * </p>
+     *
+     * @param response The Response object containing the resource data.
+     * @return A stream of Resource objects.
+     */
+    public Stream<Resource> streamResourcesEntity(@NotNull Response response) {
+        return JsonStreamDecoder.stream(ResponseSpill.open(response), Resource.class);
     }
 
     /**
-     * Creates a default resource using data from a JSON file.
+     * Creates a default resource using the cached default resource fixture.
      *
      * @return A Response object containing the server's response to the POST request.
      */
     public Response createDefaultResource() {
-        JsonFileReader jsonFile = new JsonFileReader();
-        return this.createResource(jsonFile.getResourceByJson(Constants.DEFAULT_RESOURCE_FILE_PATH));
+        return this.createResource(FixtureStore.defaultResource());
     }
 
     /**
@@ -118,26 +333,57 @@ public class ResourceRequest extends BaseRequest {
      * @return A Resource object.
      */
     public Resource getResourceEntity(String resourceJson) {
-        Gson gson = new Gson();
-        return gson.fromJson(resourceJson, Resource.class);
+        return JsonMapper.fromJson(resourceJson, Resource.class);
     }
 
     /**
      * Validates the JSON schema of a response.
+     * <p>
+     * The schema is compiled once and cached by {@link SchemaRegistry}. Lists of at least
+     * {@code api.schema.streaming.minBytes} are validated element by element by {@link StreamingSchemaValidator},
+     * without building the whole tree, and bodies spilled to a file by {@link ResponseSpill} are read from
+     * it. With {@code api.schema.fingerprintCache.enabled=true}, smaller bodies whose structure already
+     * matched the schema are accepted by {@link SchemaFingerprintCache} without validating them again.
+     * </p>
      *
      * @param response   The Response object to be validated.
      * @param schemaPath The path to the JSON schema file.
      * @return True if the response matches the schema, false otherwise.
      */
     public boolean validateSchema(Response response, String schemaPath) {
-        try {
-            response.then()
-                    .assertThat()
-                    .body(JsonSchemaValidator.matchesJsonSchemaInClasspath(schemaPath));
-            return true; // Return true if the assertion passes
-        } catch (AssertionError e) {
-            // Assertion failed, return false
-            return false;
+        if (ResponseSpill.isSpilled(response)
+                || StreamingSchemaValidator.shouldStream(ResponseSpill.sizeOf(response), schemaPath)) {
+            return checkSchema(response, schemaPath).isValid();
+        }
+        if (SchemaFingerprintCache.isEnabled()) {
+            return SchemaFingerprintCache.matches(response.asString(), schemaPath);
         }
+        return SchemaRegistry.matches(response.asString(), schemaPath);
+    }
+
+    /**
+     * Validates the JSON schema of a response and reports where it does not match.
+     * <p>
+     * Lists are validated element by element by {@link StreamingSchemaValidator}, up to the first
+     * {@code api.schema.streaming.maxViolations} violations.
+     * </p>
+     *
+     * @param response   The Response object to be validated.
+     * @param schemaPath The path to the JSON schema file.
+     * @return The validation result, with the JSON pointer of every violation found.
+     */
+    public SchemaValidationResult checkSchema(Response response, String schemaPath) {
+        return StreamingSchemaValidator.validate(ResponseSpill.open(response), schemaPath);
+    }
+
+    /**
+     * Builds the pagination query parameters.
+     *
+     * @param page  The page number, starting at 1.
+     * @param limit The maximum number of elements in the page.
+     * @return A map of query parameters.
+     */
+    private Map<String, Integer> pageParams(int page, int limit) {
+        return Map.of(Constants.PAGE_PARAM, page, Constants.LIMIT_PARAM, limit);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,307 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+import com.api.framework.utils.Constants;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ResponseCache class keeps the responses of GET requests so repeated reads of the same URL skip the round trip.
+ * <p>
+ * {@link #filter()} is installed in front of the other filters of {@link RequestSpecs} when
+ * {@code api.cache.enabled=true}. Entries are keyed by the full request URL, query included, and are bounded
+ * by a least-recently-used limit. A fresh entry, younger than the TTL, is returned without contacting the
+ * API. A stale entry that carries an {@code ETag} is revalidated with {@code If-None-Match}: a
+ * {@code 304 Not Modified} answer renews it and returns the cached body, anything else replaces it. Only
+ * {@code 200} responses are stored, and never those marked {@code Cache-Control: no-store}.
+ * </p>
+ * <p>
+ * Every other method is a write and invalidates the entity type it targets, for example a {@code PUT} to
+ * {@code clients/17} drops every cached {@code clients} URL of that API, lists and filters included. The
+ * invalidation bumps a generation counter per entity type before and after the write is sent; entries of an
+ * older generation are discarded on lookup, and a GET only stores its response if no write to the entity
+ * type started or finished while it was in flight. A read following a write through the same cache therefore
+ * never sees data from before the write. Writes made by other clients of the API are only noticed once the
+ * entry goes stale, so keep the TTL short when the API is shared.
+ * </p>
+ * <p>
+ * The cache is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.cache.enabled} - Installs the cache in every request specification (default false).</li>
+ *   <li>{@code api.cache.ttlMillis} - Time an entry is served without revalidation (default 5000).</li>
+ *   <li>{@code api.cache.maxEntries} - Maximum number of cached URLs (default 1000).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * clientRequest.getClients();
+ * clientRequest.getClients();
+ * long hits = ResponseCache.shared().getHits();
+ * }
+ */
+public final class ResponseCache {
+    private static final String API_PREFIX = String.format(Constants.URL, "");
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final boolean ENABLED = ConfigReader.getBoolean("api.cache.enabled", false);
+    private static final ResponseCache SHARED = new ResponseCache(
+            ConfigReader.getInt("api.cache.maxEntries", 1000),
+            ConfigReader.getLong("api.cache.ttlMillis", 5_000L));
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxEntries The maximum number of cached URLs.
+     * @param ttlMillis  The time an entry is served without revalidation.
+     * @throws IllegalArgumentException if a limit is not positive.
+     */
+    public ResponseCache(int maxEntries, long ttlMillis) {
+        if (maxEntries < 1 || ttlMillis < 0) {
+            throw new IllegalArgumentException("Invalid cache limits: maxEntries=" + maxEntries
+                    + ", ttlMillis=" + ttlMillis);
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Indicates whether {@code api.cache.enabled} installs the shared cache in the request specifications.
+     *
+     * @return True if the cache is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the cache used by the request specifications, sized from the configuration.
+     *
+     * @return The shared cache.
+     */
+    public static ResponseCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the filter serving GET requests from this cache and invalidating it on writes. It must run
+     * before {@link RequestMetrics#timingFilter()}, so only requests actually sent are timed.
+     *
+     * @return The caching filter.
+     */
+    public Filter filter() {
+        return (requestSpec, responseSpec, context) -> {
+            URI uri = URI.create(requestSpec.getURI());
+            String entity = entityOf(uri);
+            AtomicLong generation = generations.computeIfAbsent(entity, key -> new AtomicLong());
+            if (!"GET".equals(requestSpec.getMethod())) {
+                invalidations.increment();
+                generation.incrementAndGet();
+                try {
+                    return context.next(requestSpec, responseSpec);
+                } finally {
+                    generation.incrementAndGet();
+                }
+            }
+            String key = uri.toString();
+            long startGeneration = generation.get();
+            Entry entry = lookup(key, startGeneration);
+            if (entry != null && System.nanoTime() - entry.storedAt < ttlNanos) {
+                hits.increment();
+                return entry.copy();
+            }
+            if (entry != null && entry.etag != null) {
+                requestSpec.header(IF_NONE_MATCH, entry.etag);
+            }
+            Response response = context.next(requestSpec, responseSpec);
+            boolean unchanged = generation.get() == startGeneration;
+            if (entry != null && response.getStatusCode() == 304) {
+                revalidations.increment();
+                if (unchanged) {
+                    entry.storedAt = System.nanoTime();
+                }
+                return entry.copy();
+            }
+            misses.increment();
+            if (unchanged && isStorable(response)) {
+                store(key, new Entry(response, startGeneration));
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Discards every entry. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached URLs, including stale entries not yet discarded.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the number of GET requests answered from a fresh entry without contacting the API.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of GET requests answered from an entry the API confirmed with {@code 304}.
+     *
+     * @return The number of revalidations.
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * Returns the number of GET requests whose response came from the API.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of writes that invalidated an entity type.
+     *
+     * @return The number of invalidations.
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    /**
+     * Summarizes the statistics on one line.
+     *
+     * @return The summary.
+     */
+    public String summary() {
+        return String.format("Response cache: %d hits, %d revalidations, %d misses, %d invalidations, %d entries",
+                getHits(), getRevalidations(), getMisses(), getInvalidations(), size());
+    }
+
+    /**
+     * Returns the entry of a URL, discarding it if a write to its entity type happened since it was stored.
+     *
+     * @param key        The request URL.
+     * @param generation The current generation of the entity type.
+     * @return The entry, or null if there is none for the current generation.
+     */
+    private Entry lookup(String key, long generation) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.generation != generation) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Stores an entry, evicting the least recently used one beyond the limit.
+     *
+     * @param key   The request URL.
+     * @param entry The entry.
+     */
+    private void store(String key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Indicates whether a response may be cached.
+     *
+     * @param response The response.
+     * @return True for a 200 response not marked {@code no-store} whose body was not spilled to a file.
+     */
+    private static boolean isStorable(Response response) {
+        String cacheControl = response.getHeader(CACHE_CONTROL);
+        return response.getStatusCode() == 200 && (cacheControl == null || !cacheControl.contains("no-store"))
+                && !ResponseSpill.isSpilled(response);
+    }
+
+    /**
+     * Returns the entity type a URL belongs to, qualified by its API.
+     *
+     * @param uri The request URL.
+     * @return For example {@code http://localhost:8080 clients}.
+     */
+    private static String entityOf(URI uri) {
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        if (path.startsWith(API_PREFIX)) {
+            path = path.substring(API_PREFIX.length());
+        }
+        int end = path.indexOf('/');
+        return uri.getScheme() + "://" + uri.getRawAuthority() + " " + (end < 0 ? path : path.substring(0, end));
+    }
+
+    /**
+     * A cached response with the generation of its entity type and the time it was stored or last revalidated.
+     */
+    private static final class Entry {
+        private final Response response;
+        private final byte[] body;
+        private final String etag;
+        private final long generation;
+        private volatile long storedAt;
+
+        private Entry(Response response, long generation) {
+            this.response = response;
+            this.body = response.asByteArray();
+            this.etag = response.getHeader(ETAG);
+            this.generation = generation;
+            this.storedAt = System.nanoTime();
+        }
+
+        /**
+         * Returns a new response with the cached status, headers and body, so callers never share one instance.
+         *
+         * @return The copy.
+         */
+        private Response copy() {
+            return new ResponseBuilder().clone(response).setBody(body).build();
+        }
+    }
+}
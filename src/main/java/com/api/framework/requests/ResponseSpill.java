@@ -0,0 +1,295 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+import io.restassured.filter.Filter;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * ResponseSpill class moves oversized response bodies from the heap to temporary files.
+ * <p>
+ * RestAssured keeps the whole body of every response on the heap, and steps keep responses in fields until
+ * the next request, so a few very large lists are enough to exhaust the heap. {@link #filter()} runs right
+ * before the transport and reads each body as it arrives: bodies up to {@code api.spill.thresholdBytes} stay
+ * on the heap as before, larger ones are streamed to a file in {@code api.spill.directory} and replaced by a
+ * {@link SpilledBody}, a memory-mapped view of the file. The JDK transport writes bodies announced as larger
+ * than the threshold straight to the file.
+ * </p>
+ * <p>
+ * Typed list decoding and schema validation read spilled bodies through {@link #open(Response)}, and the
+ * filters of {@link RequestSpecs} only read their size or their start, so a spilled body is never copied back to
+ * the heap by the framework. Response bodies read with {@code asString()}, {@code asByteArray()} or
+ * {@code jsonPath()} are still loaded whole, as RestAssured requires. Spilled responses are not cached by
+ * {@link ResponseCache}.
+ * </p>
+ * <p>
+ * The spill is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.spill.thresholdBytes} - Largest body kept on the heap, -1 never spills (default 16777216).</li>
+ *   <li>{@code api.spill.directory} - Directory of the spill files (default {@code target/spill}).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * Response response = clientRequest.getClients();
+ * try (Stream<Client> clients = JsonStreamDecoder.stream(ResponseSpill.open(response), Client.class)) {
+ *     long count = clients.count();
+ * }
+ * }
+ */
+public final class ResponseSpill {
+    private static final int THRESHOLD_BYTES = ConfigReader.getInt("api.spill.thresholdBytes", 16 * 1024 * 1024);
+    private static final String FILE_PREFIX = "body-";
+    private static final Path DIRECTORY = Path.of(ConfigReader.getString("api.spill.directory", "target/spill"));
+    private static final LongAdder spilledBodies = new LongAdder();
+    private static final LongAdder spilledBytes = new LongAdder();
+
+    static {
+        clearDirectory();
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ResponseSpill() {
+    }
+
+    /**
+     * Indicates whether {@code api.spill.thresholdBytes} installs the spill filter in the request specifications.
+     *
+     * @return True if oversized bodies are spilled.
+     */
+    public static boolean isEnabled() {
+        return THRESHOLD_BYTES >= 0;
+    }
+
+    /**
+     * Returns the largest body kept on the heap.
+     *
+     * @return The threshold in bytes.
+     */
+    public static int getThresholdBytes() {
+        return THRESHOLD_BYTES;
+    }
+
+    /**
+     * Returns the filter spilling oversized bodies. It must run right before the transport, so no other
+     * filter has read the body yet.
+     *
+     * @return The spill filter.
+     */
+    public static Filter filter() {
+        return (requestSpec, responseSpec, context) -> {
+            Response response = context.next(requestSpec, responseSpec);
+            if (!(response instanceof RestAssuredResponseImpl)) {
+                return response;
+            }
+            RestAssuredResponseImpl impl = (RestAssuredResponseImpl) response;
+            Object content = impl.getContent();
+            if (content instanceof SpilledBody) {
+                return response;
+            }
+            if (content instanceof InputStream) {
+                impl.setContent(contentOf(response.asInputStream()));
+            } else if (content instanceof byte[] && ((byte[]) content).length > THRESHOLD_BYTES) {
+                impl.setContent(contentOf(new ByteArrayInputStream((byte[]) content)));
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Returns the spilled body of a response.
+     *
+     * @param response The response.
+     * @return The spilled body, or null if the body is on the heap.
+     */
+    public static SpilledBody spilledBody(Response response) {
+        if (response instanceof RestAssuredResponseImpl) {
+            Object content = ((RestAssuredResponseImpl) response).getContent();
+            if (content instanceof SpilledBody) {
+                return (SpilledBody) content;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indicates whether the body of a response was spilled to a file.
+     *
+     * @param response The response.
+     * @return True if the body is held in a file.
+     */
+    public static boolean isSpilled(Response response) {
+        return spilledBody(response) != null;
+    }
+
+    /**
+     * Returns the size of a response body without loading a spilled body.
+     *
+     * @param response The response.
+     * @return The size in bytes.
+     */
+    public static long sizeOf(Response response) {
+        SpilledBody spilled = spilledBody(response);
+        return spilled == null ? response.asByteArray().length : spilled.size();
+    }
+
+    /**
+     * Opens a stream over a response body, reading a spilled body from its file.
+     *
+     * @param response The response.
+     * @return A new stream over the body.
+     */
+    public static InputStream open(Response response) {
+        SpilledBody spilled = spilledBody(response);
+        return spilled == null ? response.asInputStream() : spilled.open();
+    }
+
+    /**
+     * Reads the start of a response body without loading the rest of a spilled body.
+     *
+     * @param response The response.
+     * @param maxBytes The maximum number of bytes returned.
+     * @return The first bytes of the body.
+     */
+    public static byte[] head(Response response, int maxBytes) {
+        SpilledBody spilled = spilledBody(response);
+        if (spilled != null) {
+            return spilled.head(maxBytes);
+        }
+        byte[] body = response.asByteArray();
+        return body.length <= maxBytes ? body : Arrays.copyOf(body, maxBytes);
+    }
+
+    /**
+     * Reads a body, keeping it on the heap up to the threshold and spilling it to a file beyond. The stream is closed.
+     *
+     * @param input The body.
+     * @return The body as a byte array, or as a {@link SpilledBody} if it exceeds the threshold.
+     * @throws UncheckedIOException if the body cannot be read or written.
+     */
+    static Object contentOf(InputStream input) {
+        try (input) {
+            byte[] head = input.readNBytes(isEnabled() ? THRESHOLD_BYTES + 1 : Integer.MAX_VALUE - 8);
+            if (!isEnabled() || head.length <= THRESHOLD_BYTES) {
+                return head;
+            }
+            Path file = newFile();
+            try (OutputStream output = Files.newOutputStream(file)) {
+                output.write(head);
+                input.transferTo(output);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return spilled(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read a response body", e);
+        }
+    }
+
+    /**
+     * Spills a body held outside the heap, for example in a memory-mapped recording, without copying it to the heap.
+     *
+     * @param body The body, from its position to its limit.
+     * @return The spilled body.
+     * @throws UncheckedIOException if the body cannot be written.
+     */
+    static SpilledBody spill(ByteBuffer body) {
+        try {
+            Path file = newFile();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+            }
+            return spilled(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill a response body", e);
+        }
+    }
+
+    /**
+     * Deletes the spill files left in {@code api.spill.directory} by a previous run. Bodies are deleted once they
+     * are no longer referenced, so only the files of a JVM that exited while holding them are left. Files that
+     * cannot be deleted are left for the next run.
+     */
+    private static void clearDirectory() {
+        if (!Files.isDirectory(DIRECTORY)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(DIRECTORY)) {
+            files.filter(file -> file.getFileName().toString().startsWith(FILE_PREFIX))
+                    .forEach(SpilledBody::deleteQuietly);
+        } catch (IOException | UncheckedIOException e) {
+            // Left for the next run
+        }
+    }
+
+    /**
+     * Creates an empty spill file.
+     *
+     * @return The path of the new file.
+     * @throws IOException if the file cannot be created.
+     */
+    static Path newFile() throws IOException {
+        Files.createDirectories(DIRECTORY);
+        return Files.createTempFile(DIRECTORY, FILE_PREFIX, ".tmp");
+    }
+
+    /**
+     * Wraps a written spill file and counts it.
+     *
+     * @param file The spill file holding a whole body.
+     * @return The spilled body.
+     */
+    static SpilledBody spilled(Path file) {
+        SpilledBody body = new SpilledBody(file);
+        spilledBodies.increment();
+        spilledBytes.add(body.size());
+        return body;
+    }
+
+    /**
+     * Returns the number of bodies spilled since the start of the run.
+     *
+     * @return The number of spilled bodies.
+     */
+    public static long getSpilledBodies() {
+        return spilledBodies.sum();
+    }
+
+    /**
+     * Returns the number of bytes spilled since the start of the run.
+     *
+     * @return The number of spilled bytes.
+     */
+    public static long getSpilledBytes() {
+        return spilledBytes.sum();
+    }
+
+    /**
+     * Summarizes the statistics on one line.
+     *
+     * @return The summary, for example {@code Response spill: 3 bodies, 612.4 MB to target/spill}.
+     */
+    public static String summary() {
+        return String.format("Response spill: %d bodies, %.1f MB to %s",
+                getSpilledBodies(), getSpilledBytes() / 1_000_000.0, DIRECTORY);
+    }
+}
@@ -0,0 +1,224 @@
+package com.api.framework.requests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * SpilledBody class is a response body held in a file instead of on the heap.
+ * <p>
+ * {@link ResponseSpill} writes bodies above {@code api.spill.thresholdBytes} to a file and installs a
+ * SpilledBody as the content of the RestAssured response, so a response kept in a step field only
+ * references the file. The file is mapped read-only into memory, in chunks of at most 1 GiB; the pages
+ * live outside the heap and are loaded and dropped by the operating system.
+ * </p>
+ * <p>
+ * The body is itself a stream, which RestAssured hands out from {@code response.asInputStream()} and reads
+ * for object mapping. Closing it rewinds it, so the next reader starts again at the first byte. Readers that
+ * may overlap, for example on other threads, use {@link #open()} instead, which returns an independent
+ * stream. The file is deleted once the body is no longer referenced. Files still present when the JVM exits
+ * are removed by {@link ResponseSpill} at the start of the next run.
+ * </p>
+ * Example usage:
+ * {@code
+ * SpilledBody body = ResponseSpill.spilledBody(response);
+ * try (InputStream input = body.open()) {
+ *     List<Client> clients = JsonStreamDecoder.readList(input, Client.class);
+ * }
+ * }
+ */
+public final class SpilledBody extends InputStream {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long CHUNK_BYTES = 1L << 30;
+
+    private final Path file;
+    private final long size;
+    private final ByteBuffer[] chunks;
+    private View shared;
+
+    /**
+     * Maps a spill file. The file is deleted once the body is no longer referenced.
+     *
+     * @param file The file holding the whole body.
+     * @throws UncheckedIOException if the file cannot be mapped.
+     */
+    SpilledBody(Path file) {
+        this(file, CHUNK_BYTES);
+    }
+
+    /**
+     * Maps a spill file in chunks of the given size.
+     *
+     * @param file       The file holding the whole body.
+     * @param chunkBytes The largest chunk mapped at once.
+     * @throws UncheckedIOException if the file cannot be mapped.
+     */
+    SpilledBody(Path file, long chunkBytes) {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.size = channel.size();
+            this.chunks = new ByteBuffer[(int) ((size + chunkBytes - 1) / chunkBytes)];
+            for (int i = 0; i < chunks.length; i++) {
+                long offset = i * chunkBytes;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(chunkBytes, size - offset));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map the spilled body " + file, e);
+        }
+        CLEANER.register(this, () -> deleteQuietly(file));
+        this.shared = new View(chunks);
+    }
+
+    /**
+     * Returns the file holding the body.
+     *
+     * @return The path of the spill file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the size of the body.
+     *
+     * @return The size in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Opens an independent stream over the body, starting at its first byte.
+     *
+     * @return A new stream; closing it does not affect other readers.
+     */
+    public InputStream open() {
+        return new View(chunks);
+    }
+
+    /**
+     * Reads the start of the body.
+     *
+     * @param maxBytes The maximum number of bytes returned.
+     * @return The first bytes of the body.
+     */
+    public byte[] head(int maxBytes) {
+        try (InputStream input = open()) {
+            return input.readNBytes(maxBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the spilled body " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized int read() {
+        return shared.read();
+    }
+
+    @Override
+    public synchronized int read(byte[] buffer, int offset, int length) {
+        return shared.read(buffer, offset, length);
+    }
+
+    @Override
+    public synchronized long skip(long count) {
+        return shared.skip(count);
+    }
+
+    @Override
+    public synchronized int available() {
+        return shared.available();
+    }
+
+    /**
+     * Rewinds the body, so the next reader starts at its first byte. The file stays available.
+     */
+    @Override
+    public synchronized void close() {
+        shared = new View(chunks);
+    }
+
+    /**
+     * Deletes a spill file, leaving it for the next run if it cannot be deleted.
+     *
+     * @param file The spill file.
+     */
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // ResponseSpill removes it when the next run starts
+        }
+    }
+
+    /**
+     * A read position over the mapped chunks of a body.
+     */
+    private static final class View extends InputStream {
+        private final ByteBuffer[] chunks;
+        private int chunk;
+
+        private View(ByteBuffer[] chunks) {
+            this.chunks = new ByteBuffer[chunks.length];
+            for (int i = 0; i < chunks.length; i++) {
+                this.chunks[i] = chunks[i].duplicate();
+            }
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer current = current();
+            return current == null ? -1 : current.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            ByteBuffer current = current();
+            if (current == null) {
+                return -1;
+            }
+            int count = Math.min(length, current.remaining());
+            current.get(buffer, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            long skipped = 0;
+            ByteBuffer current;
+            while (skipped < count && (current = current()) != null) {
+                int step = (int) Math.min(count - skipped, current.remaining());
+                current.position(current.position() + step);
+                skipped += step;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            ByteBuffer current = current();
+            return current == null ? 0 : current.remaining();
+        }
+
+        /**
+         * Returns the chunk holding the next byte.
+         *
+         * @return The chunk, or null at the end of the body.
+         */
+        private ByteBuffer current() {
+            while (chunk < chunks.length && !chunks[chunk].hasRemaining()) {
+                chunk++;
+            }
+            return chunk < chunks.length ? chunks[chunk] : null;
+        }
+    }
+}
@@ -0,0 +1,511 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.AsyncExecutors;
+import com.api.framework.utils.ConfigReader;
+import com.api.framework.utils.RingBuffer;
+import com.google.gson.stream.JsonWriter;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TrafficCapture class records a sample of the requests and responses sent through {@link BaseRequest} to a
+ * structured file, without slowing the requests down.
+ * <p>
+ * {@link #filter()} runs right after the timing filter of {@link RequestSpecs}. Whether an exchange is kept
+ * is decided by a random draw against {@code api.capture.sampleRate}, except that failed requests and
+ * responses with a status of 400 or more are always kept. A kept exchange holds the method, URL, status and
+ * headers, and copies of at most {@code api.capture.maxBodyBytes} of the decoded request and response bodies
+ * with their full sizes, so a full buffer never pins whole responses on the heap. Kept exchanges are handed
+ * to a lock-free {@link RingBuffer}; when the buffer is full they are dropped and counted, so the requesting
+ * thread never waits for the disk.
+ * </p>
+ * <p>
+ * A single background thread drains the buffer and does the formatting: it masks credentials and appends
+ * one HAR 1.2 {@code entry} object per line to {@code api.capture.file}, so the file can be streamed, grepped
+ * or converted into a HAR archive. Bodies are cut at a character boundary, never inside a multi-byte UTF-8
+ * sequence. The file is started afresh by every run. {@link #flush()} waits until every kept exchange is
+ * written, and a shutdown hook writes the rest when the JVM exits.
+ * </p>
+ * <p>
+ * For log statements, {@link #preview(Response)} gives the same truncated view of a body without parsing it,
+ * to be passed as a lazily evaluated log parameter.
+ * </p>
+ * <p>
+ * The capture is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.capture.enabled} - Installs the capture in every request specification (default true).</li>
+ *   <li>{@code api.capture.sampleRate} - Share of successful exchanges kept, from 0 to 1 (default 0.1).</li>
+ *   <li>{@code api.capture.maxBodyBytes} - Bytes of each body written to the file or shown in logs (default 4096).</li>
+ *   <li>{@code api.capture.bufferSize} - Exchanges waiting for the writer before new ones are dropped (default 4096).</li>
+ *   <li>{@code api.capture.file} - The capture file (default {@code target/capture/traffic.har.jsonl}).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * logger.debug("Response body: {}", () -> TrafficCapture.preview(response));
+ * TrafficCapture.shared().flush();
+ * String summary = TrafficCapture.shared().summary();
+ * }
+ */
+public final class TrafficCapture {
+    private static final boolean ENABLED = ConfigReader.getBoolean("api.capture.enabled", true);
+    private static final int MAX_BODY_BYTES = ConfigReader.getInt("api.capture.maxBodyBytes", 4096);
+    private static final Set<String> MASKED_HEADERS = Set.of("authorization", "proxy-authorization", "cookie", "set-cookie");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final double sampleRate;
+    private final int maxBodyBytes;
+    private final Path file;
+    private final RingBuffer<Exchange> buffer;
+    private final LongAdder kept = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a capture and starts its writer thread.
+     *
+     * @param file         The capture file, replaced if it exists.
+     * @param sampleRate   The share of successful exchanges kept, from 0 to 1.
+     * @param maxBodyBytes The number of bytes of each body written.
+     * @param bufferSize   The number of exchanges waiting for the writer before new ones are dropped.
+     * @throws IllegalArgumentException if a setting is out of range.
+     * @throws UncheckedIOException     if the file cannot be created.
+     */
+    public TrafficCapture(Path file, double sampleRate, int maxBodyBytes, int bufferSize) {
+        if (sampleRate < 0 || sampleRate > 1 || maxBodyBytes < 0) {
+            throw new IllegalArgumentException("Invalid capture settings: sampleRate=" + sampleRate
+                    + ", maxBodyBytes=" + maxBodyBytes);
+        }
+        this.file = file;
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+        this.buffer = new RingBuffer<>(bufferSize);
+        Writer writer = openWriter(file);
+        this.writerThread = AsyncExecutors.daemonThreadFactory("traffic-capture-").newThread(() -> drain(writer));
+        writerThread.start();
+    }
+
+    /**
+     * Indicates whether {@code api.capture.enabled} installs the shared capture in the request specifications.
+     *
+     * @return True if the capture is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the capture used by the request specifications, created from the configuration on first use.
+     *
+     * @return The shared capture.
+     */
+    public static TrafficCapture shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Returns the start of a response body as text, for logs. The body is neither parsed nor copied whole.
+     *
+     * @param response The response.
+     * @return The body, truncated to {@code api.capture.maxBodyBytes} with a note of its full size.
+     */
+    public static String preview(Response response) {
+        return truncate(response, MAX_BODY_BYTES);
+    }
+
+    /**
+     * Returns the filter capturing the exchanges. It must run after {@link RequestMetrics#timingFilter()}
+     * and before {@link ContentCompression#filter()}, so it sees decoded bodies.
+     *
+     * @return The capturing filter.
+     */
+    public Filter filter() {
+        return (requestSpec, responseSpec, context) -> {
+            long startedAtMillis = System.currentTimeMillis();
+            long startedAt = System.nanoTime();
+            // Taken before the compression filter replaces it with the compressed bytes
+            byte[] requestBody = bytesOf(requestSpec.getBody());
+            Response response;
+            try {
+                response = context.next(requestSpec, responseSpec);
+            } catch (RuntimeException e) {
+                offer(new Exchange(startedAtMillis, System.nanoTime() - startedAt, requestSpec.getMethod(),
+                        requestSpec.getURI(), requestSpec.getHeaders(), head(requestBody, maxBodyBytes),
+                        requestBody.length, null, e.toString()));
+                throw e;
+            }
+            if (response.getStatusCode() >= 400 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                offer(new Exchange(startedAtMillis, System.nanoTime() - startedAt, requestSpec.getMethod(),
+                        requestSpec.getURI(), requestSpec.getHeaders(), head(requestBody, maxBodyBytes),
+                        requestBody.length, new CapturedResponse(response, maxBodyBytes), null));
+            } else {
+                sampledOut.increment();
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Waits until every exchange kept so far is written to the file, for at most ten seconds.
+     */
+    public void flush() {
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (written.sum() + failed.sum() < kept.sum() && writerThread.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Writes the exchanges still buffered and stops the writer thread. Later exchanges are dropped.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the capture file.
+     *
+     * @return The path of the file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of exchanges handed to the writer.
+     *
+     * @return The kept count.
+     */
+    public long getKept() {
+        return kept.sum();
+    }
+
+    /**
+     * Returns the number of successful exchanges skipped by sampling.
+     *
+     * @return The sampled-out count.
+     */
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    /**
+     * Returns the number of exchanges dropped because the writer fell behind.
+     *
+     * @return The dropped count.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of exchanges written to the file.
+     *
+     * @return The written count.
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Returns the number of kept exchanges that could not be formatted.
+     *
+     * @return The failed count.
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Formats the counters in one line.
+     *
+     * @return The summary, for example
+     *         {@code Traffic capture: 12 written, 0 dropped, 0 failed, 105 sampled out to target/capture/traffic.har.jsonl}.
+     */
+    public String summary() {
+        return String.format("Traffic capture: %d written, %d dropped, %d failed, %d sampled out to %s",
+                written.sum(), dropped.sum(), failed.sum(), sampledOut.sum(), file);
+    }
+
+    private void offer(Exchange exchange) {
+        if (!closed && buffer.offer(exchange)) {
+            kept.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Runs on the writer thread: writes buffered exchanges as they arrive, flushing whenever the buffer
+     * runs empty, until the capture is closed.
+     *
+     * @param writer The open capture file.
+     */
+    private void drain(Writer writer) {
+        try (writer) {
+            while (true) {
+                Exchange exchange = buffer.poll();
+                if (exchange != null) {
+                    write(writer, exchange);
+                    continue;
+                }
+                writer.flush();
+                if (closed && buffer.size() == 0) {
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        } catch (IOException e) {
+            closed = true;
+            throw new UncheckedIOException("Failed to write the traffic capture " + file, e);
+        }
+    }
+
+    /**
+     * Writes one exchange as a HAR entry on its own line.
+     *
+     * @param writer   The capture file.
+     * @param exchange The exchange.
+     * @throws IOException if the file cannot be written.
+     */
+    private void write(Writer writer, Exchange exchange) throws IOException {
+        StringWriter line = new StringWriter(1024);
+        try {
+            JsonWriter json = new JsonWriter(line);
+            json.beginObject();
+            json.name("startedDateTime").value(Instant.ofEpochMilli(exchange.startedAtMillis).toString());
+            json.name("time").value(exchange.durationNanos / 1_000_000.0);
+            writeRequest(json, exchange);
+            writeResponse(json, exchange);
+            json.name("timings").beginObject()
+                    .name("send").value(0)
+                    .name("wait").value(exchange.durationNanos / 1_000_000.0)
+                    .name("receive").value(0)
+                    .endObject();
+            json.endObject();
+        } catch (RuntimeException e) {
+            // A malformed exchange must not stop the writer
+            failed.increment();
+            return;
+        }
+        writer.write(line.toString());
+        writer.write('\n');
+        written.increment();
+    }
+
+    private void writeRequest(JsonWriter json, Exchange exchange) throws IOException {
+        json.name("request").beginObject();
+        json.name("method").value(exchange.method);
+        json.name("url").value(exchange.url);
+        json.name("httpVersion").value("HTTP/1.1");
+        writeHeaders(json, exchange.requestHeaders);
+        json.name("bodySize").value(exchange.requestBodySize);
+        if (exchange.requestBodySize > 0) {
+            String mimeType = exchange.requestHeaders.getValue("Content-Type");
+            json.name("postData").beginObject()
+                    .name("mimeType").value(mimeType == null ? "" : mimeType)
+                    .name("text").value(text(exchange.requestBodyHead, exchange.requestBodySize))
+                    .endObject();
+        }
+        json.endObject();
+    }
+
+    private void writeResponse(JsonWriter json, Exchange exchange) throws IOException {
+        json.name("response").beginObject();
+        CapturedResponse response = exchange.response;
+        if (response == null) {
+            json.name("status").value(0);
+            json.name("statusText").value("");
+            json.name("_error").value(exchange.error);
+            json.endObject();
+            return;
+        }
+        String[] statusParts = response.statusLine.split(" ", 3);
+        json.name("status").value(response.statusCode);
+        json.name("statusText").value(statusParts.length == 3 ? statusParts[2] : "");
+        json.name("httpVersion").value(statusParts[0]);
+        writeHeaders(json, response.headers);
+        json.name("content").beginObject()
+                .name("size").value(response.bodySize)
+                .name("mimeType").value(response.contentType)
+                .name("text").value(text(response.bodyHead, response.bodySize))
+                .endObject();
+        json.name("bodySize").value(response.bodySize);
+        json.endObject();
+    }
+
+    private static void writeHeaders(JsonWriter json, Headers headers) throws IOException {
+        json.name("headers").beginArray();
+        if (headers != null) {
+            for (Header header : headers) {
+                boolean masked = MASKED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT));
+                json.beginObject()
+                        .name("name").value(header.getName())
+                        .name("value").value(masked ? "***" : header.getValue())
+                        .endObject();
+            }
+        }
+        json.endArray();
+    }
+
+    private static byte[] bytesOf(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the start of a body as UTF-8.
+     *
+     * @param head The start of the body, as cut by {@link #head(byte[], int)}.
+     * @param size The full size of the body.
+     * @return The text, followed by a note of the full size if it was truncated.
+     */
+    private static String text(byte[] head, long size) {
+        String text = new String(head, StandardCharsets.UTF_8);
+        return head.length < size ? text + "... (" + size + " bytes)" : text;
+    }
+
+    /**
+     * Decodes the start of a response body as UTF-8, reading only the start of a spilled body.
+     *
+     * @param response The response.
+     * @param maxBytes The number of bytes kept.
+     * @return The text, followed by a note of the full size if it was truncated.
+     */
+    private static String truncate(Response response, int maxBytes) {
+        return text(head(ResponseSpill.head(response, maxBytes + 1), maxBytes), ResponseSpill.sizeOf(response));
+    }
+
+    /**
+     * Returns the start of a body, cut before the multi-byte UTF-8 sequence the limit would split.
+     *
+     * @param body     The body, or its first bytes followed by at least one more byte when it is longer.
+     * @param maxBytes The number of bytes kept at most.
+     * @return The body itself if it fits, or a copy of its start.
+     */
+    private static byte[] head(byte[] body, int maxBytes) {
+        if (body.length <= maxBytes) {
+            return body;
+        }
+        int end = maxBytes;
+        // Continuation bytes are 10xxxxxx; a sequence has at most three of them
+        while (end > 0 && end > maxBytes - 3 && (body[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(body, end);
+    }
+
+    private static Writer openWriter(Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the traffic capture " + file, e);
+        }
+    }
+
+    /**
+     * One request and its outcome, with the start of each body; formatting happens on the writer.
+     */
+    private static final class Exchange {
+        private final long startedAtMillis;
+        private final long durationNanos;
+        private final String method;
+        private final String url;
+        private final Headers requestHeaders;
+        private final byte[] requestBodyHead;
+        private final long requestBodySize;
+        private final CapturedResponse response;
+        private final String error;
+
+        private Exchange(long startedAtMillis, long durationNanos, String method, String url, Headers requestHeaders,
+                         byte[] requestBodyHead, long requestBodySize, CapturedResponse response, String error) {
+            this.startedAtMillis = startedAtMillis;
+            this.durationNanos = durationNanos;
+            this.method = method;
+            this.url = url;
+            this.requestHeaders = requestHeaders;
+            this.requestBodyHead = requestBodyHead;
+            this.requestBodySize = requestBodySize;
+            this.response = response;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The status, headers and start of the body of a captured response, without the response itself.
+     */
+    private static final class CapturedResponse {
+        private final int statusCode;
+        private final String statusLine;
+        private final Headers headers;
+        private final String contentType;
+        private final byte[] bodyHead;
+        private final long bodySize;
+
+        private CapturedResponse(Response response, int maxBodyBytes) {
+            this.statusCode = response.getStatusCode();
+            this.statusLine = response.getStatusLine() == null ? "" : response.getStatusLine();
+            this.headers = response.getHeaders();
+            this.contentType = response.getContentType() == null ? "" : response.getContentType();
+            this.bodyHead = head(ResponseSpill.head(response, maxBodyBytes + 1), maxBodyBytes);
+            this.bodySize = ResponseSpill.sizeOf(response);
+        }
+    }
+
+    /**
+     * Holds the shared capture, created on first use and closed when the JVM exits.
+     */
+    private static final class Shared {
+        private static final TrafficCapture INSTANCE = create();
+
+        private static TrafficCapture create() {
+            TrafficCapture capture = new TrafficCapture(
+                    Path.of(ConfigReader.getString("api.capture.file", "target/capture/traffic.har.jsonl")),
+                    ConfigReader.getDouble("api.capture.sampleRate", 0.1),
+                    MAX_BODY_BYTES,
+                    ConfigReader.getInt("api.capture.bufferSize", 4096));
+            Runtime.getRuntime().addShutdownHook(new Thread(capture::close, "traffic-capture-shutdown"));
+            return capture;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.api.framework.requests;
+
+import com.api.framework.utils.ConfigReader;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TrafficLog class records the exchanges of a run in an append-only file and serves them back in a later run.
+ * <p>
+ * The mode is selected with {@code api.replay.mode}:
+ * </p>
+ * <ul>
+ *   <li>{@code off} (default) - Requests are sent as usual.</li>
+ *   <li>{@code record} - {@link #recordingFilter()}, installed by {@link RequestSpecs} right before the
+ *   transport, appends every response received to {@code api.replay.file}, replacing the file of a
+ *   previous recording.</li>
+ *   <li>{@code replay} - {@link ReplayTransport} replaces the transport and answers every request from the
+ *   recording, without any network access.</li>
+ * </ul>
+ * <p>
+ * Each record is keyed by method, path with query, and a hash of the request body; the scheme and host are
+ * left out, so a recording made against the embedded server on a random port replays against any base URL.
+ * The file starts with a magic header, then holds one length-prefixed record per exchange: key, status,
+ * status line, headers and body. Nothing is rewritten, so a recording cut short by a crash stays readable
+ * up to its last complete record.
+ * </p>
+ * <p>
+ * For replay the file is memory-mapped read-only and scanned once to build the index from key to record
+ * offsets; responses are then decoded straight from the mapping. A key recorded several times, such as a
+ * list read before and after a create, is answered with its recordings in order, and with the last one once
+ * they are used up, so stateful scenarios see the same sequence as when they were recorded.
+ * </p>
+ * Example usage:
+ * {@code
+ * TrafficLog recording = TrafficLog.open(Path.of("target/recordings/traffic.log"));
+ * RequestSpecs.useTransport(new ReplayTransport(recording));
+ * }
+ */
+public final class TrafficLog {
+    private static final byte[] MAGIC = "APILOG01".getBytes(StandardCharsets.US_ASCII);
+    private static final String OFF = "off";
+    private static final String RECORD = "record";
+    private static final String REPLAY = "replay";
+    private static final String MODE = configuredMode();
+
+    private final Path file;
+    private final FileChannel appendChannel;
+    private final ByteBuffer mapping;
+    private final Map<String, long[]> index;
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder missing = new LongAdder();
+
+    /**
+     * Creates a log either appending to a new file or reading a mapped one.
+     *
+     * @param file          The log file.
+     * @param appendChannel The channel records are appended to, or null when replaying.
+     * @param mapping       The mapped file, or null when recording.
+     * @param index         The record offsets per key, or null when recording.
+     */
+    private TrafficLog(Path file, FileChannel appendChannel, ByteBuffer mapping, Map<String, long[]> index) {
+        this.file = file;
+        this.appendChannel = appendChannel;
+        this.mapping = mapping;
+        this.index = index;
+    }
+
+    /**
+     * Reads {@code api.replay.mode}.
+     *
+     * @return The mode: off, record or replay.
+     * @throws IllegalArgumentException if the mode is unknown.
+     */
+    private static String configuredMode() {
+        String mode = ConfigReader.getString("api.replay.mode", OFF).toLowerCase(Locale.ROOT);
+        if (!mode.equals(OFF) && !mode.equals(RECORD) && !mode.equals(REPLAY)) {
+            throw new IllegalArgumentException("Unknown api.replay.mode '" + mode + "', expected "
+                    + OFF + ", " + RECORD + " or " + REPLAY);
+        }
+        return mode;
+    }
+
+    /**
+     * Indicates whether {@code api.replay.mode=record}.
+     *
+     * @return True if exchanges are recorded.
+     */
+    public static boolean isRecording() {
+        return RECORD.equals(MODE);
+    }
+
+    /**
+     * Indicates whether {@code api.replay.mode=replay}.
+     *
+     * @return True if responses are served from a recording.
+     */
+    public static boolean isReplaying() {
+        return REPLAY.equals(MODE);
+    }
+
+    /**
+     * Returns the log of {@code api.replay.file} in the configured mode, opened on first use.
+     *
+     * @return The shared log.
+     * @throws IllegalStateException if {@code api.replay.mode} is {@code off}.
+     */
+    public static TrafficLog shared() {
+        if (OFF.equals(MODE)) {
+            throw new IllegalStateException("No traffic log with api.replay.mode=" + OFF);
+        }
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Starts a new recording, replacing any existing file.
+     *
+     * @param file The log file.
+     * @return The log, ready to record.
+     * @throws UncheckedIOException if the file cannot be created.
+     */
+    public static TrafficLog create(Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Files.deleteIfExists(file);
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.APPEND);
+            channel.write(ByteBuffer.wrap(MAGIC));
+            return new TrafficLog(file, channel, null, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the traffic log " + file, e);
+        }
+    }
+
+    /**
+     * Maps an existing recording and indexes its records.
+     *
+     * @param file The log file.
+     * @return The log, ready to replay.
+     * @throws UncheckedIOException     if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a traffic log or is larger than 2 GB.
+     */
+    public static TrafficLog open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Traffic log " + file + " is larger than 2 GB");
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[Math.min(MAGIC.length, mapping.remaining())];
+            mapping.duplicate().get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalArgumentException(file + " is not a traffic log");
+            }
+            return new TrafficLog(file, null, mapping, buildIndex(mapping));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the traffic log " + file, e);
+        }
+    }
+
+    /**
+     * Returns the filter appending every exchange that reaches the transport to this log. It must be the
+     * last filter before the transport, so it records exactly what {@link ReplayTransport} will serve.
+     *
+     * @return The recording filter.
+     * @throws IllegalStateException if the log was opened for replay.
+     */
+    public Filter recordingFilter() {
+        if (appendChannel == null) {
+            throw new IllegalStateException("Traffic log " + file + " is open for replay");
+        }
+        return (requestSpec, responseSpec, context) -> {
+            Response response = context.next(requestSpec, responseSpec);
+            append(keyOf(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody()), response);
+            return response;
+        };
+    }
+
+    /**
+     * Returns the next recorded response for a request.
+     *
+     * @param method The HTTP method.
+     * @param url    The full request URL.
+     * @param body   The request body as serialized by RestAssured, or null.
+     * @param config The configuration the response inherits, for object mapping.
+     * @return The recorded response, or null if the request was never recorded.
+     * @throws IllegalStateException if the log was opened for recording.
+     */
+    Response next(String method, String url, Object body, RestAssuredConfig config) {
+        if (mapping == null) {
+            throw new IllegalStateException("Traffic log " + file + " is open for recording");
+        }
+        String key = keyOf(method, url, body);
+        long[] offsets = index.get(key);
+        if (offsets == null) {
+            missing.increment();
+            return null;
+        }
+        int occurrence = cursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        replayed.increment();
+        return readRecord(mapping.duplicate(), (int) offsets[Math.min(occurrence, offsets.length - 1)], config);
+    }
+
+    /**
+     * Returns the log file.
+     *
+     * @return The path of the file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of distinct request keys in a replayed log.
+     *
+     * @return The number of keys, 0 when recording.
+     */
+    public int getKeyCount() {
+        return index == null ? 0 : index.size();
+    }
+
+    /**
+     * Formats the counters in one line.
+     *
+     * @return The summary of the recording or replay.
+     */
+    public String summary() {
+        if (appendChannel != null) {
+            return String.format("Traffic log: %d exchanges recorded to %s", recorded.sum(), file);
+        }
+        return String.format("Traffic log: %d responses replayed, %d requests not recorded, from %d keys in %s",
+                replayed.sum(), missing.sum(), index.size(), file);
+    }
+
+    /**
+     * Builds the key of a request: method, path with query, and a hash of the body.
+     *
+     * @param method The HTTP method.
+     * @param url    The full request URL.
+     * @param body   The request body, or null.
+     * @return The key.
+     */
+    static String keyOf(String method, String url, Object body) {
+        URI uri = URI.create(url);
+        String target = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        byte[] bytes = body == null ? null
+                : body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+        return method + " " + target + (bytes == null || bytes.length == 0 ? "" : " " + hashOf(bytes));
+    }
+
+    private static String hashOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Appends one record. Records are serialized first and written while holding the log, so concurrent
+     * requests never interleave. A body spilled by {@link ResponseSpill} is copied from its file.
+     *
+     * @param key      The request key.
+     * @param response The response, whose body has been read.
+     */
+    private void append(String key, Response response) {
+        SpilledBody spilled = ResponseSpill.spilledBody(response);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (DataOutputStream record = new DataOutputStream(buffer)) {
+            record.writeInt(0);
+            writeString(record, key);
+            record.writeInt(response.getStatusCode());
+            writeString(record, response.getStatusLine() == null ? "" : response.getStatusLine());
+            List<Header> headers = response.getHeaders().asList();
+            record.writeInt(headers.size());
+            for (Header header : headers) {
+                writeString(record, header.getName());
+                writeString(record, header.getValue());
+            }
+            if (spilled == null) {
+                byte[] body = response.asByteArray();
+                record.writeInt(body.length);
+                record.write(body);
+            } else {
+                record.writeInt((int) spilled.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize a record for " + key, e);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        long length = bytes.limit() - Integer.BYTES + (spilled == null ? 0 : spilled.size());
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The response to " + key + " is too large to record: " + length + " bytes");
+        }
+        bytes.putInt(0, (int) length);
+        try {
+            synchronized (appendChannel) {
+                while (bytes.hasRemaining()) {
+                    appendChannel.write(bytes);
+                }
+                if (spilled != null) {
+                    try (FileChannel body = FileChannel.open(spilled.getFile(), StandardOpenOption.READ)) {
+                        long position = 0;
+                        while (position < spilled.size()) {
+                            position += body.transferTo(position, spilled.size() - position, appendChannel);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to the traffic log " + file, e);
+        }
+        recorded.increment();
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Scans the records of a mapped log, stopping at a truncated last record.
+     *
+     * @param mapping The mapped file.
+     * @return The record offsets per key, in file order.
+     */
+    private static Map<String, long[]> buildIndex(ByteBuffer mapping) {
+        Map<String, List<Long>> offsets = new HashMap<>();
+        ByteBuffer scan = mapping.duplicate();
+        scan.position(MAGIC.length);
+        while (scan.remaining() >= Integer.BYTES) {
+            int offset = scan.position();
+            int length = scan.getInt();
+            if (length < 0 || length > scan.remaining()) {
+                break;
+            }
+            String key = readString(scan);
+            offsets.computeIfAbsent(key, k -> new ArrayList<>()).add((long) offset);
+            scan.position(offset + Integer.BYTES + length);
+        }
+        Map<String, long[]> index = new HashMap<>(offsets.size() * 2);
+        offsets.forEach((key, list) -> index.put(key, list.stream().mapToLong(Long::longValue).toArray()));
+        return index;
+    }
+
+    /**
+     * Decodes the response of the record at an offset. Bodies above the {@link ResponseSpill} threshold are
+     * copied from the mapping to a spill file rather than to the heap.
+     *
+     * @param buffer A private view of the mapping.
+     * @param offset The offset of the record.
+     * @param config The configuration the response inherits.
+     * @return The response.
+     */
+    private static Response readRecord(ByteBuffer buffer, int offset, RestAssuredConfig config) {
+        buffer.position(offset + Integer.BYTES);
+        readString(buffer);
+        int status = buffer.getInt();
+        String statusLine = readString(buffer);
+        int headerCount = buffer.getInt();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(readString(buffer), readString(buffer)));
+        }
+        int bodySize = buffer.getInt();
+        if (ResponseSpill.isEnabled() && bodySize > ResponseSpill.getThresholdBytes()) {
+            SpilledBody body = ResponseSpill.spill(buffer.slice(buffer.position(), bodySize));
+            return ReplayTransport.toResponse(status, statusLine, new Headers(headers), body, config);
+        }
+        byte[] body = new byte[bodySize];
+        buffer.get(body);
+        return ReplayTransport.toResponse(status, statusLine, new Headers(headers), body, config);
+    }
+
+    /**
+     * Holds the shared log, opened on first use in the configured mode, which is not off.
+     */
+    private static final class Shared {
+        private static final TrafficLog INSTANCE = create();
+
+        private static TrafficLog create() {
+            Path file = Path.of(ConfigReader.getString("api.replay.file", "target/recordings/traffic.log"));
+            return isRecording() ? TrafficLog.create(file) : TrafficLog.open(file);
+        }
+    }
+}
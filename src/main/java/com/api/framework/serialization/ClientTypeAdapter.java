@@ -0,0 +1,79 @@
+package com.api.framework.serialization;
+
+import com.api.framework.models.Client;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * ClientTypeAdapter class reads and writes {@link Client} objects token by token, without reflection.
+ * <p>
+ * Properties are written in declaration order and nulls are omitted; unknown properties are skipped
+ * when reading. The adapter is stateless and thread-safe.
+ * </p>
+ * Example usage:
+ * {@code
+ * Client client = JsonMapper.fromJson("{\"name\":\"Laura\"}", Client.class);
+ * }
+ */
+public class ClientTypeAdapter extends TypeAdapter<Client> {
+
+    @Override
+    public void write(JsonWriter writer, Client client) throws IOException {
+        if (client == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        JsonTokens.writeString(writer, "name", client.getName());
+        JsonTokens.writeString(writer, "lastName", client.getLastName());
+        JsonTokens.writeString(writer, "country", client.getCountry());
+        JsonTokens.writeString(writer, "city", client.getCity());
+        JsonTokens.writeString(writer, "id", client.getId());
+        JsonTokens.writeString(writer, "phone", client.getPhone());
+        JsonTokens.writeString(writer, "email", client.getEmail());
+        writer.endObject();
+    }
+
+    @Override
+    public Client read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        Client client = new Client();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    client.setName(JsonTokens.readString(reader));
+                    break;
+                case "lastName":
+                    client.setLastName(JsonTokens.readString(reader));
+                    break;
+                case "country":
+                    client.setCountry(JsonTokens.readString(reader));
+                    break;
+                case "city":
+                    client.setCity(JsonTokens.readString(reader));
+                    break;
+                case "id":
+                    client.setId(JsonTokens.readString(reader));
+                    break;
+                case "phone":
+                    client.setPhone(JsonTokens.readString(reader));
+                    break;
+                case "email":
+                    client.setEmail(JsonTokens.readString(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return client;
+    }
+}
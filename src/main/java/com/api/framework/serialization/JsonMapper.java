@@ -0,0 +1,125 @@
+package com.api.framework.serialization;
+
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.mapper.ObjectMapper;
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JsonMapper class is the single JSON serializer shared by requests, responses and fixtures.
+ * <p>
+ * It holds one {@link Gson} instance with {@link ClientTypeAdapter} and {@link ResourceTypeAdapter}
+ * registered, so the models are read and written token by token without reflection. Gson instances are
+ * immutable and thread-safe, so the same instance serves every thread. {@link #objectMapperConfig()}
+ * plugs it into RestAssured, so request bodies and {@code response.as(...)} use the same adapters
+ * instead of RestAssured's reflective Jackson mapper.
+ * </p>
+ * Example usage:
+ * {@code
+ * Client client = JsonMapper.fromJson(json, Client.class);
+ * String body = JsonMapper.toJson(client);
+ * RestAssuredConfig config = RestAssuredConfig.config().objectMapperConfig(JsonMapper.objectMapperConfig());
+ * }
+ */
+public final class JsonMapper {
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Client.class, new ClientTypeAdapter())
+            .registerTypeAdapter(Resource.class, new ResourceTypeAdapter())
+            .create();
+    private static final ObjectMapper REST_ASSURED_MAPPER = new GsonObjectMapper();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JsonMapper() {
+    }
+
+    /**
+     * Returns the shared Gson instance.
+     *
+     * @return The Gson instance with the model adapters registered.
+     */
+    public static Gson gson() {
+        return GSON;
+    }
+
+    /**
+     * Deserializes a JSON string.
+     *
+     * @param json The JSON text.
+     * @param type The target type.
+     * @param <T>  The target type.
+     * @return The deserialized object, or null for empty input.
+     */
+    public static <T> T fromJson(String json, Class<T> type) {
+        return GSON.fromJson(json, type);
+    }
+
+    /**
+     * Deserializes JSON from a reader. The reader is not closed.
+     *
+     * @param reader The reader containing the JSON text.
+     * @param type   The target type.
+     * @param <T>    The target type.
+     * @return The deserialized object, or null for empty input.
+     */
+    public static <T> T fromJson(Reader reader, Class<T> type) {
+        return GSON.fromJson(reader, type);
+    }
+
+    /**
+     * Serializes an object to JSON.
+     *
+     * @param value The object to serialize.
+     * @return The JSON text.
+     */
+    public static String toJson(Object value) {
+        // Gson's toJson(Object) writes through a StringWriter, whose StringBuffer locks on every write
+        StringBuilder json = new StringBuilder();
+        GSON.toJson(value, json);
+        return json.toString();
+    }
+
+    /**
+     * Returns the RestAssured object mapper configuration using the shared serializer.
+     *
+     * @return An object mapper configuration whose default mapper is backed by {@link #gson()}.
+     */
+    public static ObjectMapperConfig objectMapperConfig() {
+        return new ObjectMapperConfig(REST_ASSURED_MAPPER);
+    }
+
+    /**
+     * A RestAssured object mapper delegating to the shared Gson instance.
+     */
+    private static final class GsonObjectMapper implements ObjectMapper {
+
+        @Override
+        public Object deserialize(ObjectMapperDeserializationContext context) {
+            Type type = context.getType();
+            Charset charset = context.getCharset() == null ? StandardCharsets.UTF_8 : Charset.forName(context.getCharset());
+            try (Reader reader = new InputStreamReader(context.getDataToDeserialize().asInputStream(), charset)) {
+                return GSON.fromJson(reader, type);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the response body", e);
+            }
+        }
+
+        @Override
+        public Object serialize(ObjectMapperSerializationContext context) {
+            return toJson(context.getObjectToSerialize());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.api.framework.serialization;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * JsonTokens class holds the value readers and writers shared by the model type adapters.
+ * <p>
+ * They accept the same token types as Gson's built-in adapters: numbers and booleans are read into
+ * string fields as their text, strings are parsed into boolean fields, and JSON {@code null} gives a
+ * Java {@code null}. Null values are omitted on write, like Gson's default configuration.
+ * </p>
+ */
+final class JsonTokens {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JsonTokens() {
+    }
+
+    /**
+     * Reads a string value.
+     *
+     * @param reader The reader positioned on a value.
+     * @return The value, or null for a JSON null.
+     * @throws IOException if the value cannot be read as a string.
+     */
+    static String readString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(reader.nextBoolean());
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @param reader The reader positioned on a value.
+     * @return The value, or null for a JSON null.
+     * @throws IOException if the value cannot be read as a boolean.
+     */
+    static Boolean readBoolean(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(reader.nextString());
+        }
+        return reader.nextBoolean();
+    }
+
+    /**
+     * Writes a string property unless the value is null.
+     *
+     * @param writer The writer positioned inside an object.
+     * @param name   The property name.
+     * @param value  The value.
+     * @throws IOException if the property cannot be written.
+     */
+    static void writeString(JsonWriter writer, String name, String value) throws IOException {
+        if (value != null) {
+            writer.name(name).value(value);
+        }
+    }
+
+    /**
+     * Writes a boolean property unless the value is null.
+     *
+     * @param writer The writer positioned inside an object.
+     * @param name   The property name.
+     * @param value  The value.
+     * @throws IOException if the property cannot be written.
+     */
+    static void writeBoolean(JsonWriter writer, String name, Boolean value) throws IOException {
+        if (value != null) {
+            writer.name(name).value(value);
+        }
+    }
+}
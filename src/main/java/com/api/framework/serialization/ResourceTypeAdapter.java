@@ -0,0 +1,85 @@
+package com.api.framework.serialization;
+
+import com.api.framework.models.Resource;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * ResourceTypeAdapter class reads and writes {@link Resource} objects token by token, without reflection.
+ * <p>
+ * Properties are written in declaration order and nulls are omitted; unknown properties are skipped
+ * when reading. {@code stock} and {@code price} are strings in the model and are written as strings,
+ * as the reflective mappers did, while numeric values from the API are read as their text. The adapter
+ * is stateless and thread-safe.
+ * </p>
+ * Example usage:
+ * {@code
+ * Resource resource = JsonMapper.fromJson("{\"name\":\"Coffee\",\"price\":20.99}", Resource.class);
+ * }
+ */
+public class ResourceTypeAdapter extends TypeAdapter<Resource> {
+
+    @Override
+    public void write(JsonWriter writer, Resource resource) throws IOException {
+        if (resource == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        JsonTokens.writeString(writer, "name", resource.getName());
+        JsonTokens.writeString(writer, "trademark", resource.getTrademark());
+        JsonTokens.writeString(writer, "stock", resource.getStock());
+        JsonTokens.writeString(writer, "price", resource.getPrice());
+        JsonTokens.writeString(writer, "description", resource.getDescription());
+        JsonTokens.writeString(writer, "id", resource.getId());
+        JsonTokens.writeString(writer, "tags", resource.getTags());
+        JsonTokens.writeBoolean(writer, "active", resource.getActive());
+        writer.endObject();
+    }
+
+    @Override
+    public Resource read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        Resource resource = new Resource();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    resource.setName(JsonTokens.readString(reader));
+                    break;
+                case "trademark":
+                    resource.setTrademark(JsonTokens.readString(reader));
+                    break;
+                case "stock":
+                    resource.setStock(JsonTokens.readString(reader));
+                    break;
+                case "price":
+                    resource.setPrice(JsonTokens.readString(reader));
+                    break;
+                case "description":
+                    resource.setDescription(JsonTokens.readString(reader));
+                    break;
+                case "id":
+                    resource.setId(JsonTokens.readString(reader));
+                    break;
+                case "tags":
+                    resource.setTags(JsonTokens.readString(reader));
+                    break;
+                case "active":
+                    resource.setActive(JsonTokens.readBoolean(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return resource;
+    }
+}
@@ -0,0 +1,42 @@
+package com.api.framework.server;
+
+import com.api.framework.utils.ConfigReader;
+import com.api.framework.utils.Constants;
+
+/**
+ * ApiTarget class decides which API the framework talks to.
+ * <p>
+ * With {@code api.server.embedded=true} requests go to the JVM-wide {@link EmbeddedApiServer}, which is
+ * started on first use. Otherwise they go to {@code api.baseUrl}, which defaults to {@link Constants#BASE_URL}.
+ * </p>
+ * Example usage:
+ * {@code
+ * ClientRequest clientRequest = new ClientRequest(ApiTarget.baseUrl());
+ * }
+ */
+public final class ApiTarget {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ApiTarget() {
+    }
+
+    /**
+     * Indicates whether the embedded server is selected.
+     *
+     * @return True if requests go to the embedded server, false otherwise.
+     */
+    public static boolean isEmbedded() {
+        return ConfigReader.getBoolean("api.server.embedded", false);
+    }
+
+    /**
+     * Returns the base URL of the selected API.
+     *
+     * @return The base URL, without a trailing slash.
+     */
+    public static String baseUrl() {
+        return isEmbedded() ? EmbeddedApiServer.shared().getBaseUrl() : ConfigReader.getString("api.baseUrl", Constants.BASE_URL);
+    }
+}
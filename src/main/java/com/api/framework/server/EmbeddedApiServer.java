@@ -0,0 +1,492 @@
+package com.api.framework.server;
+
+import com.api.framework.utils.AsyncExecutors;
+import com.api.framework.utils.ConfigReader;
+import com.api.framework.utils.Constants;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * EmbeddedApiServer class is an in-process stand-in for the remote mock API.
+ * <p>
+ * It implements the {@code /api/v1/clients} and {@code /api/v1/resources} CRUD contract on the JDK's
+ * built-in HTTP server, backed by one {@link InMemoryStore} per collection:
+ * </p>
+ * <ul>
+ *   <li>{@code GET /api/v1/{collection}} - Lists records in creation order. Supports {@code page}/{@code limit}
+ *   and field filters such as {@code ?name=Laura}; a {@code limit} below 1 is rejected with 400.</li>
+ *   <li>{@code GET /api/v1/{collection}/{id}} - Returns one record, or 404 {@code "Not found"}.</li>
+ *   <li>{@code POST /api/v1/{collection}} - Stores a record under a new ID and returns it with 201.</li>
+ *   <li>{@code PUT /api/v1/{collection}/{id}} - Merges the body into the record and returns it.</li>
+ *   <li>{@code DELETE /api/v1/{collection}/{id}} - Removes the record and returns it.</li>
+ * </ul>
+ * <p>
+ * Reads answer with an {@code ETag} computed from the body and honor {@code If-None-Match} with an empty
+ * {@code 304 Not Modified}, so clients such as {@link com.api.framework.requests.ResponseCache} can revalidate.
+ * </p>
+ * <p>
+ * Bodies of at least {@code api.server.compression.minBytes} bytes (default 1024, -1 never compresses) are
+ * compressed with gzip or deflate when the request's {@code Accept-Encoding} allows it, with an entity tag
+ * specific to the encoding. Request bodies sent with {@code Content-Encoding: gzip} or {@code deflate} are
+ * decoded, so {@link com.api.framework.requests.ContentCompression} can be tested end to end.
+ * </p>
+ * <p>
+ * The suite runs against it when {@code api.server.embedded=true}; see {@link ApiTarget}. Responses are
+ * immediate unless {@code api.server.latencyMillis} is set, which holds every response for that long to
+ * emulate the round trip to a remote API, for example when comparing sequential and parallel runs.
+ * </p>
+ * Example usage:
+ * {@code
+ * EmbeddedApiServer server = EmbeddedApiServer.start(0);
+ * ClientRequest clientRequest = new ClientRequest(server.getBaseUrl());
+ * server.stop();
+ * }
+ */
+public class EmbeddedApiServer {
+    private static final String API_PREFIX = "/api/v1/";
+    private static final String NOT_FOUND = "\"Not found\"";
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String JSON_CONTENT_TYPE = Constants.VALUE_CONTENT_TYPE + "; charset=utf-8";
+    private static final Gson GSON = new Gson();
+    private static EmbeddedApiServer shared;
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY, keep-alive clients
+        // stall on delayed ACKs for every response.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final int compressionMinBytes;
+    private final Map<String, InMemoryStore> collections = Map.of(
+            Constants.CLIENTS_PATH, new InMemoryStore(Set.of()),
+            Constants.RESOURCES_PATH, new InMemoryStore(Set.of("stock", "price")));
+
+    /**
+     * Creates and starts a server on the loopback interface.
+     *
+     * @param port                The port to listen on, or 0 for any free port.
+     * @param threads             The number of worker threads.
+     * @param latencyMillis       The time every response is held before it is sent.
+     * @param compressionMinBytes The smallest body compressed for clients accepting it, or -1 to never compress.
+     * @throws UncheckedIOException if the port cannot be bound.
+     */
+    private EmbeddedApiServer(int port, int threads, long latencyMillis, int compressionMinBytes) {
+        this.latencyMillis = latencyMillis;
+        this.compressionMinBytes = compressionMinBytes;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the embedded API server on port " + port, e);
+        }
+        executor = Executors.newFixedThreadPool(threads, AsyncExecutors.daemonThreadFactory("embedded-api-"));
+        server.setExecutor(executor);
+        server.createContext(API_PREFIX, this::handle);
+        server.start();
+    }
+
+    /**
+     * Starts a new server with the configured number of worker threads ({@code api.server.threads}), response
+     * latency ({@code api.server.latencyMillis}) and compression threshold ({@code api.server.compression.minBytes}).
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @return The running server.
+     */
+    public static EmbeddedApiServer start(int port) {
+        int defaultThreads = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+        return new EmbeddedApiServer(port, ConfigReader.getInt("api.server.threads", defaultThreads),
+                ConfigReader.getLong("api.server.latencyMillis", 0L),
+                ConfigReader.getInt("api.server.compression.minBytes", 1024));
+    }
+
+    /**
+     * Returns the server shared by the whole JVM, starting it on the configured port ({@code api.server.port}) on first use.
+     *
+     * @return The shared running server.
+     */
+    public static synchronized EmbeddedApiServer shared() {
+        if (shared == null) {
+            EmbeddedApiServer server = start(ConfigReader.getInt("api.server.port", 0));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "embedded-api-shutdown"));
+            shared = server;
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the base URL clients should use, for example {@code http://127.0.0.1:8080}.
+     *
+     * @return The base URL of the server.
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Returns the store behind a collection.
+     *
+     * @param collection The collection name, for example {@link Constants#CLIENTS_PATH}.
+     * @return The store, or null if the collection does not exist.
+     */
+    public InMemoryStore getStore(String collection) {
+        return collections.get(collection);
+    }
+
+    /**
+     * Removes every record from every collection.
+     */
+    public void reset() {
+        collections.values().forEach(InMemoryStore::clear);
+    }
+
+    /**
+     * Stops the server and its worker threads.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Routes a request to the matching collection operation.
+     *
+     * @param exchange The HTTP exchange.
+     * @throws IOException if the response cannot be written.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            delay();
+            String[] segments = exchange.getRequestURI().getPath().substring(API_PREFIX.length()).split("/");
+            InMemoryStore store = segments.length <= 2 ? collections.get(segments[0]) : null;
+            if (store == null) {
+                send(exchange, 404, NOT_FOUND);
+                return;
+            }
+            String id = segments.length == 2 ? segments[1] : null;
+            String method = exchange.getRequestMethod();
+            if (id == null) {
+                handleCollection(exchange, store, method);
+            } else {
+                handleRecord(exchange, store, method, id);
+            }
+        } catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+            send(exchange, 400, GSON.toJson("Invalid request: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            send(exchange, 500, GSON.toJson("Internal error: " + e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Holds the current response for the configured latency.
+     */
+    private void delay() {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Handles requests to a collection URL.
+     *
+     * @param exchange The HTTP exchange.
+     * @param store    The collection store.
+     * @param method   The HTTP method.
+     * @throws IOException if the response cannot be written.
+     */
+    private void handleCollection(HttpExchange exchange, InMemoryStore store, String method) throws IOException {
+        switch (method) {
+            case "GET":
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                String page = query.remove(Constants.PAGE_PARAM);
+                String limit = query.remove(Constants.LIMIT_PARAM);
+                long pageSize = limit != null ? Long.parseLong(limit) : Long.MAX_VALUE;
+                if (pageSize < 1) {
+                    send(exchange, 400, GSON.toJson("Invalid request: limit must be at least 1, was " + limit));
+                    return;
+                }
+                long pagesBefore = page != null && limit != null ? Math.max(1, Long.parseLong(page)) - 1 : 0;
+                // A page too far for the offset to fit in a long lies past the end of any collection
+                long offset = pagesBefore > Long.MAX_VALUE / pageSize ? Long.MAX_VALUE : pagesBefore * pageSize;
+                sendCacheable(exchange, toJson(store.list(query, offset, pageSize)));
+                break;
+            case "POST":
+                send(exchange, 201, GSON.toJson(store.create(readObject(exchange))));
+                break;
+            default:
+                send(exchange, 405, GSON.toJson("Method not allowed"));
+        }
+    }
+
+    /**
+     * Handles requests to a record URL.
+     *
+     * @param exchange The HTTP exchange.
+     * @param store    The collection store.
+     * @param method   The HTTP method.
+     * @param id       The record ID.
+     * @throws IOException if the response cannot be written.
+     */
+    private void handleRecord(HttpExchange exchange, InMemoryStore store, String method, String id) throws IOException {
+        JsonObject record;
+        switch (method) {
+            case "GET":
+                record = store.get(id);
+                break;
+            case "PUT":
+                record = store.update(id, readObject(exchange));
+                break;
+            case "DELETE":
+                record = store.delete(id);
+                break;
+            default:
+                send(exchange, 405, GSON.toJson("Method not allowed"));
+                return;
+        }
+        if (record == null) {
+            send(exchange, 404, NOT_FOUND);
+        } else if ("GET".equals(method)) {
+            sendCacheable(exchange, GSON.toJson(record));
+        } else {
+            send(exchange, 200, GSON.toJson(record));
+        }
+    }
+
+    /**
+     * Reads the request body as a JSON object, decoding it according to its {@code Content-Encoding}.
+     *
+     * @param exchange The HTTP exchange.
+     * @return The parsed object.
+     * @throws IOException if the body cannot be read.
+     * @throws IllegalStateException if the body is not a JSON object or its encoding is unsupported or corrupt.
+     */
+    private static JsonObject readObject(HttpExchange exchange) throws IOException {
+        String encoding = exchange.getRequestHeaders().getFirst(CONTENT_ENCODING);
+        byte[] body;
+        try (InputStream input = decoding(exchange.getRequestBody(), encoding)) {
+            body = input.readAllBytes();
+        } catch (ZipException e) {
+            throw new IllegalStateException("Corrupt " + encoding + " body: " + e.getMessage(), e);
+        }
+        JsonElement element = JsonParser.parseString(new String(body, StandardCharsets.UTF_8));
+        return element.getAsJsonObject();
+    }
+
+    /**
+     * Wraps a request body in the decoder of its content encoding.
+     *
+     * @param body     The raw request body.
+     * @param encoding The {@code Content-Encoding} header, possibly null.
+     * @return The decoded body stream.
+     * @throws IOException if a gzip header cannot be read.
+     * @throws IllegalStateException if the encoding is not supported.
+     */
+    private static InputStream decoding(InputStream body, String encoding) throws IOException {
+        String name = encoding == null ? "identity" : encoding.trim().toLowerCase(Locale.ROOT);
+        switch (name) {
+            case "identity":
+                return body;
+            case GZIP:
+                return new GZIPInputStream(body);
+            case DEFLATE:
+                return new InflaterInputStream(body);
+            default:
+                throw new IllegalStateException("Unsupported Content-Encoding " + encoding);
+        }
+    }
+
+    /**
+     * Serializes a list of records to a JSON array.
+     *
+     * @param records The records.
+     * @return The JSON text.
+     */
+    private static String toJson(List<JsonObject> records) {
+        JsonArray array = new JsonArray(records.size());
+        records.forEach(array::add);
+        return GSON.toJson(array);
+    }
+
+    /**
+     * Writes a JSON response.
+     *
+     * @param exchange The HTTP exchange.
+     * @param status   The status code.
+     * @param json     The JSON body.
+     * @throws IOException if the response cannot be written.
+     */
+    private void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        write(exchange, status, body, responseEncoding(exchange, body.length));
+    }
+
+    /**
+     * Writes a 200 response to a read with an {@code ETag} derived from the body, or an empty 304 if the
+     * request's {@code If-None-Match} already names that tag.
+     *
+     * @param exchange The HTTP exchange.
+     * @param json     The JSON body.
+     * @throws IOException if the response cannot be written.
+     */
+    private void sendCacheable(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        String encoding = responseEncoding(exchange, body.length);
+        String etag = etagOf(body, encoding);
+        exchange.getResponseHeaders().set(ETAG, etag);
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst(IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals(etag) || ifNoneMatch.equals("*"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        write(exchange, 200, body, encoding);
+    }
+
+    /**
+     * Writes a JSON body, compressed if an encoding was negotiated.
+     *
+     * @param exchange The HTTP exchange.
+     * @param status   The status code.
+     * @param body     The uncompressed body.
+     * @param encoding The content encoding, {@code gzip} or {@code deflate}, or null to send the body as is.
+     * @throws IOException if the response cannot be written.
+     */
+    private static void write(HttpExchange exchange, int status, byte[] body, String encoding) throws IOException {
+        exchange.getResponseHeaders().set(Constants.CONTENT_TYPE, JSON_CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Vary", ACCEPT_ENCODING);
+        byte[] encoded = body;
+        if (encoding != null) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            try (OutputStream compressor = GZIP.equals(encoding)
+                    ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+                compressor.write(body);
+            }
+            encoded = buffer.toByteArray();
+            exchange.getResponseHeaders().set(CONTENT_ENCODING, encoding);
+        }
+        exchange.sendResponseHeaders(status, encoded.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(encoded);
+        }
+    }
+
+    /**
+     * Chooses the encoding of a response body from the request's {@code Accept-Encoding}, preferring gzip.
+     *
+     * @param exchange The HTTP exchange.
+     * @param length   The uncompressed body length.
+     * @return {@code gzip}, {@code deflate}, or null if the body is sent uncompressed.
+     */
+    private String responseEncoding(HttpExchange exchange, int length) {
+        String accepted = exchange.getRequestHeaders().getFirst(ACCEPT_ENCODING);
+        if (accepted == null || compressionMinBytes < 0 || length < compressionMinBytes) {
+            return null;
+        }
+        String encoding = null;
+        for (String coding : accepted.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            // A quality of zero, e.g. gzip;q=0, explicitly refuses the coding
+            if (parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?")) {
+                continue;
+            }
+            if (name.equals(GZIP) || name.equals("*")) {
+                return GZIP;
+            }
+            if (name.equals(DEFLATE)) {
+                encoding = DEFLATE;
+            }
+        }
+        return encoding;
+    }
+
+    /**
+     * Computes a strong entity tag from the first 128 bits of the SHA-256 digest of a body, suffixed with
+     * the content encoding since each encoding is a different representation.
+     *
+     * @param body     The uncompressed response body.
+     * @param encoding The content encoding, or null if the body is sent uncompressed.
+     * @return The quoted tag.
+     */
+    private static String etagOf(byte[] body, String encoding) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String tag = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+            return '"' + tag + (encoding == null ? "" : "-" + encoding) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Parses a raw query string into a mutable map. Later occurrences of a parameter win.
+     *
+     * @param rawQuery The raw query string, possibly null.
+     * @return The decoded parameters.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
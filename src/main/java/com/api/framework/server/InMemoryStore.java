@@ -0,0 +1,207 @@
+package com.api.framework.server;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InMemoryStore class holds the records of one collection of the embedded API.
+ * <p>
+ * Records are kept in a concurrent skip list keyed by their numeric ID, so listings come out in creation
+ * order without sorting and can be read while other threads write. Stored objects are never mutated:
+ * every write stores a fresh copy, so readers always see a consistent record.
+ * </p>
+ * <p>
+ * Like the remote mock API, which stores fields with the types declared in its schema, numeric fields
+ * sent as strings (for example {@code "stock": "150.5"}) are stored as JSON numbers.
+ * </p>
+ */
+public class InMemoryStore {
+    private static final String ID = "id";
+
+    private final ConcurrentNavigableMap<Long, JsonObject> records = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<String> numericFields;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param numericFields The fields stored as JSON numbers.
+     */
+    public InMemoryStore(Set<String> numericFields) {
+        this.numericFields = Set.copyOf(numericFields);
+    }
+
+    /**
+     * Lists the records matching every filter, in creation order.
+     * <p>
+     * String fields match when they contain the filter value, ignoring case; other fields match when
+     * their JSON text equals the filter value.
+     * </p>
+     *
+     * @param filters The field filters, possibly empty.
+     * @param offset  The number of matching records to skip.
+     * @param limit   The maximum number of records to return.
+     * @return The matching records.
+     */
+    public List<JsonObject> list(Map<String, String> filters, long offset, long limit) {
+        List<JsonObject> page = new ArrayList<>();
+        long skipped = 0;
+        for (JsonObject record : records.values()) {
+            if (!matches(record, filters)) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(record);
+        }
+        return page;
+    }
+
+    /**
+     * Finds a record by its ID.
+     *
+     * @param id The record ID.
+     * @return The record, or null if it does not exist.
+     */
+    public JsonObject get(String id) {
+        Long key = parseId(id);
+        return key == null ? null : records.get(key);
+    }
+
+    /**
+     * Stores a new record under a freshly assigned ID.
+     *
+     * @param body The record fields. Any ID in the body is replaced.
+     * @return The stored record.
+     */
+    public JsonObject create(JsonObject body) {
+        long key = sequence.incrementAndGet();
+        JsonObject record = body.deepCopy();
+        record.addProperty(ID, String.valueOf(key));
+        coerceNumbers(record);
+        records.put(key, record);
+        return record;
+    }
+
+    /**
+     * Merges fields into an existing record. The record keeps its ID.
+     *
+     * @param id   The record ID.
+     * @param body The fields to overwrite.
+     * @return The updated record, or null if it does not exist.
+     */
+    public JsonObject update(String id, JsonObject body) {
+        Long key = parseId(id);
+        if (key == null) {
+            return null;
+        }
+        return records.computeIfPresent(key, (ignored, current) -> {
+            JsonObject updated = current.deepCopy();
+            for (Map.Entry<String, JsonElement> field : body.entrySet()) {
+                updated.add(field.getKey(), field.getValue().deepCopy());
+            }
+            updated.addProperty(ID, String.valueOf(key));
+            coerceNumbers(updated);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes a record.
+     *
+     * @param id The record ID.
+     * @return The removed record, or null if it did not exist.
+     */
+    public JsonObject delete(String id) {
+        Long key = parseId(id);
+        return key == null ? null : records.remove(key);
+    }
+
+    /**
+     * Returns the number of stored records.
+     *
+     * @return The record count.
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Removes every record and restarts ID assignment at 1.
+     */
+    public void clear() {
+        records.clear();
+        sequence.set(0);
+    }
+
+    /**
+     * Converts numeric fields holding numeric strings into JSON numbers.
+     *
+     * @param record The record to convert in place, before it is published.
+     */
+    private void coerceNumbers(JsonObject record) {
+        for (String field : numericFields) {
+            JsonElement value = record.get(field);
+            if (value != null && value.isJsonPrimitive() && ((JsonPrimitive) value).isString()) {
+                try {
+                    record.add(field, new JsonPrimitive(new BigDecimal(value.getAsString().trim())));
+                } catch (NumberFormatException e) {
+                    // Not a number: keep the value as sent.
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a record matches every filter.
+     *
+     * @param record  The record.
+     * @param filters The field filters.
+     * @return True if the record matches, false otherwise.
+     */
+    private static boolean matches(JsonObject record, Map<String, String> filters) {
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            JsonElement value = record.get(filter.getKey());
+            if (value == null || value.isJsonNull()) {
+                return false;
+            }
+            boolean isString = value.isJsonPrimitive() && ((JsonPrimitive) value).isString();
+            boolean match = isString
+                    ? value.getAsString().toLowerCase(Locale.ROOT).contains(filter.getValue().toLowerCase(Locale.ROOT))
+                    : value.toString().equals(filter.getValue());
+            if (!match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a record ID.
+     *
+     * @param id The ID as found in the URL.
+     * @return The numeric ID, or null if it is not a number.
+     */
+    private static Long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.api.framework.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AsyncExecutors class provides the executor used by the asynchronous request methods.
+ * <p>
+ * On JDK 21 or newer the default executor starts one virtual thread per task, so thousands of
+ * concurrent requests can be in flight without sizing a platform thread pool. On older JDKs it
+ * falls back to a cached pool of daemon platform threads.
+ * </p>
+ * Example usage:
+ * {@code
+ * AsyncExecutors.setDefaultExecutor(Executors.newFixedThreadPool(8));
+ * ExecutorService executor = AsyncExecutors.defaultExecutor();
+ * }
+ */
+public final class AsyncExecutors {
+    private static volatile ExecutorService defaultExecutor;
+    private static volatile boolean virtualThreads;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Returns the shared default executor, creating it on first use.
+     *
+     * @return The executor used by asynchronous requests when none is configured explicitly.
+     */
+    public static ExecutorService defaultExecutor() {
+        ExecutorService executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (AsyncExecutors.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = createDefaultExecutor();
+                    defaultExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Replaces the shared default executor.
+     * <p>
+     * The previous executor is not shut down, since it may have been supplied by the caller.
+     * </p>
+     *
+     * @param executor The executor to use for asynchronous requests.
+     */
+    public static synchronized void setDefaultExecutor(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The default executor cannot be null");
+        }
+        defaultExecutor = executor;
+        virtualThreads = false;
+    }
+
+    /**
+     * Indicates whether the default executor runs each task on a virtual thread.
+     *
+     * @return True if the default executor is virtual-thread backed, false otherwise.
+     */
+    public static boolean isVirtualThreadBacked() {
+        defaultExecutor();
+        return virtualThreads;
+    }
+
+    /**
+     * Creates the default executor, preferring virtual threads when the running JDK supports them.
+     * <p>
+     * The lookup is reflective because the project is compiled for Java 17.
+     * </p>
+     *
+     * @return A new executor service.
+     */
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) factory.invoke(null);
+            virtualThreads = true;
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            virtualThreads = false;
+            return Executors.newCachedThreadPool(daemonThreadFactory("api-async-"));
+        }
+    }
+
+    /**
+     * Creates a thread factory producing named daemon threads, so pending requests never keep the JVM alive.
+     *
+     * @param prefix The prefix of the thread names.
+     * @return A thread factory.
+     */
+    public static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
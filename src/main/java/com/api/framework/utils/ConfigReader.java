@@ -0,0 +1,135 @@
+package com.api.framework.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * ConfigReader class provides typed access to the framework configuration.
+ * <p>
+ * Values are looked up first in the JVM system properties (for example {@code -Dapi.pool.maxTotal=200})
+ * and then in the {@code framework.properties} file on the classpath. The caller supplies the default
+ * used when a key is defined in neither place.
+ * </p>
+ * Example usage:
+ * {@code
+ * int maxTotal = ConfigReader.getInt("api.pool.maxTotal", 100);
+ * boolean enabled = ConfigReader.getBoolean("api.cache.enabled", false);
+ * }
+ */
+public final class ConfigReader {
+    private static final String PROPERTIES_FILE = "framework.properties";
+    private static final Properties FILE_PROPERTIES = loadFileProperties();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ConfigReader() {
+    }
+
+    /**
+     * Reads a string value.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The configured value, or the default value.
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = FILE_PROPERTIES.getProperty(key);
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Reads an integer value.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The configured value, or the default value.
+     * @throws IllegalArgumentException if the configured value is not a valid integer.
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for configuration key " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * Reads a long value.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The configured value, or the default value.
+     * @throws IllegalArgumentException if the configured value is not a valid long.
+     */
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid long for configuration key " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * Reads a double value.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The configured value, or the default value.
+     * @throws IllegalArgumentException if the configured value is not a valid double.
+     */
+    public static double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid double for configuration key " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @param key          The configuration key.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The configured value, or the default value.
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Loads the optional properties file from the classpath.
+     *
+     * @return The loaded properties, empty if the file does not exist.
+     * @throws UncheckedIOException if the file exists but cannot be read.
+     */
+    private static Properties loadFileProperties() {
+        Properties properties = new Properties();
+        try (InputStream input = ConfigReader.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + PROPERTIES_FILE, e);
+        }
+        return properties;
+    }
+}
@@ -3,7 +3,7 @@ package com.api.framework.utils;
 /**
  * Constants class provides application-wide constants used in the API framework.
  * <p>
- * This class includes constants for content types, API paths, default file paths, and base URLs.
+ * This class includes constants for content types, API paths, default fixture classpath locations, and base URLs.
  * </p>
  * Example usage:
  * {@code
@@ -16,11 +16,14 @@ public final class Constants {
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String CLIENTS_PATH = "clients";
     public static final String RESOURCES_PATH = "resources";
-    public static final String DEFAULT_CLIENT_FILE_PATH = "src/main/resources/data/defaultClient.json";
-    public static final String DEFAULT_RESOURCE_FILE_PATH = "src/main/resources/data/defaultResource.json";
+    public static final String DEFAULT_CLIENT_FIXTURE = "data/defaultClient.json";
+    public static final String DEFAULT_RESOURCE_FIXTURE = "data/defaultResource.json";
     public static final String BASE_URL = "https://63b6dfe11907f863aa04ff81.mockapi.io";
     public static final String URL = "/api/v1/%s";
     public static final String URL_WITH_PARAM = "/api/v1/%s/%s";
+    public static final String SCHEMAS_DIRECTORY = "schemas";
+    public static final String PAGE_PARAM = "page";
+    public static final String LIMIT_PARAM = "limit";
 
     /**
      * Private constructor to prevent instantiation.
@@ -1,8 +1,8 @@
 package com.api.framework.utils;
 
-import com.google.gson.Gson;
 import com.api.framework.models.Client;
 import com.api.framework.models.Resource;
+import com.api.framework.serialization.JsonMapper;
 
 import java.io.FileReader;
 import java.io.IOException;
@@ -11,7 +11,7 @@ import java.io.Reader;
 /**
  * JsonFileReader class provides methods to read JSON files and deserialize them into Java objects.
  * <p>
- * This utility class uses Gson for JSON parsing.
+ * This utility class uses the shared {@link JsonMapper} for JSON parsing.
  * </p>
  * Example usage:
  * {@code
@@ -30,8 +30,7 @@ public class JsonFileReader {
     public Client getClientByJson(String jsonFileName) {
         Client client = null;
         try (Reader reader = new FileReader(jsonFileName)) {
-            Gson gson = new Gson();
-            client = gson.fromJson(reader, Client.class);
+            client = JsonMapper.fromJson(reader, Client.class);
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -47,8 +46,7 @@ public class JsonFileReader {
     public Resource getResourceByJson(String jsonFileName) {
         Resource resource = null;
         try (Reader reader = new FileReader(jsonFileName)) {
-            Gson gson = new Gson();
-            resource = gson.fromJson(reader, Resource.class);
+            resource = JsonMapper.fromJson(reader, Resource.class);
         } catch (IOException e) {
             e.printStackTrace();
         }
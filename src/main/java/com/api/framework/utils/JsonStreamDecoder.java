@@ -0,0 +1,185 @@
+package com.api.framework.utils;
+
+import com.api.framework.serialization.JsonMapper;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JsonStreamDecoder class decodes top-level JSON arrays straight from a byte stream into model objects.
+ * <p>
+ * Each element is read token by token with Gson's {@link JsonReader} and bound by the type's
+ * {@link TypeAdapter} from the shared {@link JsonMapper}, so no intermediate object tree is built. {@link #iterator(InputStream, Class)} and
+ * {@link #stream(InputStream, Class)} decode one element at a time and never hold the whole array.
+ * </p>
+ * Example usage:
+ * {@code
+ * List<Client> clients = JsonStreamDecoder.readList(response.asInputStream(), Client.class);
+ * try (Stream<Client> stream = JsonStreamDecoder.stream(response.asInputStream(), Client.class)) {
+ *     long count = stream.filter(client -> "Laura".equals(client.getName())).count();
+ * }
+ * }
+ */
+public final class JsonStreamDecoder {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JsonStreamDecoder() {
+    }
+
+    /**
+     * Decodes a JSON array into a list. The stream is closed once the array has been read.
+     *
+     * @param input The stream containing the JSON array.
+     * @param type  The element type.
+     * @param <T>   The element type.
+     * @return A mutable list containing every element of the array.
+     * @throws UncheckedIOException if the stream cannot be read or does not contain a JSON array.
+     */
+    public static <T> List<T> readList(InputStream input, Class<T> type) {
+        List<T> elements = new ArrayList<>();
+        try (ElementIterator<T> iterator = iterator(input, type)) {
+            while (iterator.hasNext()) {
+                elements.add(iterator.next());
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Returns an iterator decoding the elements of a JSON array one at a time.
+     * <p>
+     * The iterator closes the stream once the end of the array is reached; callers stopping early
+     * should close it themselves.
+     * </p>
+     *
+     * @param input The stream containing the JSON array.
+     * @param type  The element type.
+     * @param <T>   The element type.
+     * @return A closeable iterator over the decoded elements.
+     */
+    public static <T> ElementIterator<T> iterator(InputStream input, Class<T> type) {
+        JsonReader reader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return new ElementIterator<>(reader, JsonMapper.gson().getAdapter(type));
+    }
+
+    /**
+     * Returns a sequential stream decoding the elements of a JSON array lazily.
+     * <p>
+     * Closing the stream closes the underlying input, so use it in a try-with-resources block.
+     * </p>
+     *
+     * @param input The stream containing the JSON array.
+     * @param type  The element type.
+     * @param <T>   The element type.
+     * @return A lazily decoded stream of elements, null for each JSON {@code null} in the array.
+     */
+    public static <T> Stream<T> stream(InputStream input, Class<T> type) {
+        ElementIterator<T> iterator = iterator(input, type);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * An iterator reading one array element per call to {@link #next()}.
+     *
+     * @param <T> The element type.
+     */
+    public static final class ElementIterator<T> implements Iterator<T>, Closeable {
+        private final JsonReader reader;
+        private final TypeAdapter<T> adapter;
+        private boolean started;
+        private boolean closed;
+
+        private ElementIterator(JsonReader reader, TypeAdapter<T> adapter) {
+            this.reader = reader;
+            this.adapter = adapter;
+        }
+
+        /**
+         * Checks whether the array has another element, closing the stream at the end of the array.
+         *
+         * @return True if another element can be read, false otherwise.
+         * @throws UncheckedIOException if the stream cannot be read or does not contain a JSON array.
+         */
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!started) {
+                    reader.beginArray();
+                    started = true;
+                }
+                if (reader.peek() != JsonToken.END_ARRAY) {
+                    return true;
+                }
+                reader.endArray();
+                close();
+                return false;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to read the JSON array", e);
+            } catch (IllegalStateException e) {
+                // Gson reports an unexpected token, for example a body that is not an array, this way
+                close();
+                throw new UncheckedIOException("Failed to read the JSON array", new IOException(e.getMessage(), e));
+            }
+        }
+
+        /**
+         * Decodes the next element of the array.
+         *
+         * @return The decoded element.
+         * @throws NoSuchElementException if the end of the array was reached.
+         * @throws UncheckedIOException   if the stream cannot be read or the element does not match the type.
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return adapter.read(reader);
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to decode a JSON array element", e);
+            } catch (IllegalStateException e) {
+                close();
+                throw new UncheckedIOException("Failed to decode a JSON array element", new IOException(e.getMessage(), e));
+            }
+        }
+
+        /**
+         * Closes the underlying stream. Calling this method more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close the JSON stream", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.api.framework.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * RingBuffer class is a bounded, lock-free queue for many producers and a single consumer.
+ * <p>
+ * Producers never block: {@link #offer(Object)} claims a slot with a compare-and-set on the write position
+ * and returns false when the buffer is full, so a slow consumer costs dropped elements rather than stalled
+ * callers. Each slot carries a sequence number telling whether it is free for the current lap of the
+ * producers or holds an element ready for the consumer, which is how producers and the consumer hand slots
+ * over without locks. Only one thread may call {@link #poll()} at a time.
+ * </p>
+ * Example usage:
+ * {@code
+ * RingBuffer<String> buffer = new RingBuffer<>(1024);
+ * boolean accepted = buffer.offer("entry");
+ * String next = buffer.poll();
+ * }
+ *
+ * @param <T> The element type.
+ */
+public final class RingBuffer<T> {
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLong writePosition = new AtomicLong();
+    private volatile long readPosition;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity The minimum number of elements the buffer holds, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not positive or too large.
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid ring buffer capacity: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.elements = new AtomicReferenceArray<>(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element unless the buffer is full. Safe to call from any number of threads.
+     *
+     * @param element The element, not null.
+     * @return True if the element was added, false if the buffer is full.
+     */
+    public boolean offer(T element) {
+        while (true) {
+            long position = writePosition.get();
+            int slot = (int) position & mask;
+            long distance = sequences.get(slot) - position;
+            if (distance == 0) {
+                if (writePosition.compareAndSet(position, position + 1)) {
+                    elements.lazySet(slot, element);
+                    // Publishes the element to the consumer
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (distance < 0) {
+                return false;
+            }
+            // Another producer claimed the slot first; retry with the new position
+        }
+    }
+
+    /**
+     * Removes the oldest element. Must only be called by one thread at a time.
+     *
+     * @return The element, or null if the buffer is empty or the next element is still being written.
+     */
+    public T poll() {
+        long position = readPosition;
+        int slot = (int) position & mask;
+        if (sequences.get(slot) != position + 1) {
+            return null;
+        }
+        T element = elements.get(slot);
+        elements.lazySet(slot, null);
+        readPosition = position + 1;
+        // Frees the slot for the producers' next lap
+        sequences.set(slot, position + mask + 1);
+        return element;
+    }
+
+    /**
+     * Returns the number of elements the buffer holds.
+     *
+     * @return The capacity, a power of two.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns an estimate of the number of elements waiting, exact only when no producer or consumer is active.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity(), writePosition.get() - readPosition));
+    }
+}
@@ -0,0 +1,332 @@
+package com.api.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SchemaFingerprintCache class skips the validation of response bodies whose structure already passed a schema.
+ * <p>
+ * Every validated body is reduced to a structural fingerprint: its keys, JSON types and nesting, with the
+ * elements of arrays folded into the set of their distinct shapes, so a list of 10 or 10,000 clients with the
+ * same fields has the same fingerprint. When a body's fingerprint has already been validated against the
+ * same schema, it is accepted without running the validator; otherwise the body is validated in full and its
+ * fingerprint is remembered if it matched.
+ * </p>
+ * <p>
+ * The fingerprint only stands in for the validation where the schema constrains structure alone. Wherever the
+ * schema constrains values, with keywords such as {@code enum}, {@code pattern}, {@code format},
+ * {@code minimum} or {@code maxLength}, the value itself becomes part of the fingerprint, so a new value is
+ * always validated. Schemas combining subschemas ({@code allOf}, {@code anyOf}, {@code oneOf}, {@code not}),
+ * referencing them ({@code $ref}) or using {@code patternProperties} or {@code dependencies} are always
+ * validated in full. Numbers are told apart as integers, integral decimals and other decimals, so a cached
+ * shape never lets a fraction through an {@code integer} type.
+ * </p>
+ * <p>
+ * The cache is configured through {@link ConfigReader}:
+ * </p>
+ * <ul>
+ *   <li>{@code api.schema.fingerprintCache.enabled} - Validates through the cache (default false).</li>
+ *   <li>{@code api.schema.fingerprintCache.maxEntries} - Fingerprints remembered per schema; further shapes are validated every time (default 1000).</li>
+ * </ul>
+ * Example usage:
+ * {@code
+ * boolean valid = SchemaFingerprintCache.matches(response.asString(), "schemas/clientListSchema.json");
+ * logger.info(SchemaFingerprintCache.summary());
+ * }
+ */
+public final class SchemaFingerprintCache {
+    private static final boolean ENABLED = ConfigReader.getBoolean("api.schema.fingerprintCache.enabled", false);
+    private static final int MAX_ENTRIES = ConfigReader.getInt("api.schema.fingerprintCache.maxEntries", 1000);
+    private static final Set<String> VALUE_KEYWORDS = Set.of("enum", "const", "pattern", "format", "minLength",
+            "maxLength", "minimum", "maximum", "exclusiveMinimum", "exclusiveMaximum", "multipleOf", "minItems",
+            "maxItems", "uniqueItems");
+    private static final Set<String> UNSUPPORTED_KEYWORDS = Set.of("allOf", "anyOf", "oneOf", "not", "$ref",
+            "patternProperties", "dependencies");
+    private static final Map<String, Boolean> CACHEABLE = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> FINGERPRINTS = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder uncached = new LongAdder();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SchemaFingerprintCache() {
+    }
+
+    /**
+     * Indicates whether {@code api.schema.fingerprintCache.enabled} routes schema validation through the cache.
+     *
+     * @return True if the cache is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Checks whether a JSON document matches a schema, skipping the validation if a document of the same
+     * fingerprint already matched it.
+     *
+     * @param json       The JSON document, typically a response body.
+     * @param schemaPath The classpath location of the schema.
+     * @return True if the document matches the schema, false if it does not or is not valid JSON.
+     */
+    public static boolean matches(String json, String schemaPath) {
+        JsonNode document;
+        try {
+            document = JsonLoader.fromString(json);
+        } catch (IOException e) {
+            return false;
+        }
+        if (!CACHEABLE.computeIfAbsent(schemaPath, path -> isCacheable(SchemaRegistry.getSchemaDocument(path)))) {
+            uncached.increment();
+            return SchemaRegistry.matches(document, schemaPath);
+        }
+        Set<String> validated = FINGERPRINTS.computeIfAbsent(schemaPath, path -> ConcurrentHashMap.newKeySet());
+        String fingerprint = fingerprint(document, SchemaRegistry.getSchemaDocument(schemaPath));
+        if (validated.contains(fingerprint)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        boolean valid = SchemaRegistry.matches(document, schemaPath);
+        if (valid && validated.size() < MAX_ENTRIES) {
+            validated.add(fingerprint);
+        }
+        return valid;
+    }
+
+    /**
+     * Computes the fingerprint of a document as seen by a schema.
+     *
+     * @param document The JSON document.
+     * @param schema   The schema document.
+     * @return The fingerprint, a base64 encoded 128-bit hash.
+     */
+    public static String fingerprint(JsonNode document, JsonNode schema) {
+        StringBuilder shape = new StringBuilder();
+        appendShape(shape, document, schema);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(shape.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Returns the number of validations skipped because the fingerprint was known.
+     *
+     * @return The number of hits.
+     */
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of validations run because the fingerprint was new.
+     *
+     * @return The number of misses.
+     */
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of validations run because the schema cannot be fingerprinted.
+     *
+     * @return The number of uncached validations.
+     */
+    public static long getUncached() {
+        return uncached.sum();
+    }
+
+    /**
+     * Returns the share of validations the cache skipped.
+     *
+     * @return The hit rate between 0 and 1, or 0 if nothing was validated.
+     */
+    public static double hitRate() {
+        long total = getHits() + getMisses() + getUncached();
+        return total == 0 ? 0 : (double) getHits() / total;
+    }
+
+    /**
+     * Summarizes the statistics on one line.
+     *
+     * @return The summary, for example {@code Schema fingerprint cache: 57 hits, 6 misses, 0 uncached (90.5% hit rate), 4 fingerprints}.
+     */
+    public static String summary() {
+        int fingerprints = FINGERPRINTS.values().stream().mapToInt(Set::size).sum();
+        return String.format("Schema fingerprint cache: %d hits, %d misses, %d uncached (%.1f%% hit rate), %d fingerprints",
+                getHits(), getMisses(), getUncached(), hitRate() * 100, fingerprints);
+    }
+
+    /**
+     * Forgets every fingerprint and resets the statistics.
+     */
+    public static void clear() {
+        CACHEABLE.clear();
+        FINGERPRINTS.clear();
+        hits.reset();
+        misses.reset();
+        uncached.reset();
+    }
+
+    /**
+     * Checks that no part of a schema uses a keyword the fingerprint cannot account for.
+     *
+     * @param schema The schema document or one of its subschemas.
+     * @return True if validation results can be cached by fingerprint.
+     */
+    private static boolean isCacheable(JsonNode schema) {
+        if (!schema.isObject()) {
+            return true;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = schema.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (UNSUPPORTED_KEYWORDS.contains(field.getKey())) {
+                return false;
+            }
+        }
+        for (String keyword : new String[]{"items", "additionalItems", "additionalProperties"}) {
+            JsonNode subschema = schema.path(keyword);
+            if (subschema.isArray()) {
+                for (JsonNode item : subschema) {
+                    if (!isCacheable(item)) {
+                        return false;
+                    }
+                }
+            } else if (!isCacheable(subschema)) {
+                return false;
+            }
+        }
+        Iterator<JsonNode> properties = schema.path("properties").elements();
+        while (properties.hasNext()) {
+            if (!isCacheable(properties.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the shape of a node to a fingerprint. Values constrained by the schema are appended whole.
+     * Properties are appended in document order: a body with the same properties in another order is
+     * validated again rather than paying for sorting on every body.
+     *
+     * @param shape  The fingerprint being built.
+     * @param node   The node.
+     * @param schema The subschema the node is validated against, or a missing node if it is not constrained.
+     */
+    private static void appendShape(StringBuilder shape, JsonNode node, JsonNode schema) {
+        if (hasValueKeyword(schema)) {
+            shape.append('=').append(node);
+            return;
+        }
+        if (node.isObject()) {
+            shape.append('{');
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                shape.append(field.getKey().length()).append(':').append(field.getKey());
+                appendShape(shape, field.getValue(), propertySchema(schema, field.getKey()));
+            }
+            shape.append('}');
+        } else if (node.isArray()) {
+            appendElements(shape, node, schema);
+        } else {
+            shape.append(typeOf(node));
+        }
+    }
+
+    /**
+     * Appends the elements of an array: positionally for tuple schemas, otherwise as the set of their
+     * distinct shapes, so the fingerprint does not grow with the array.
+     *
+     * @param shape  The fingerprint being built.
+     * @param array  The array node.
+     * @param schema The subschema of the array.
+     */
+    private static void appendElements(StringBuilder shape, JsonNode array, JsonNode schema) {
+        JsonNode items = schema.path("items");
+        shape.append('[');
+        if (items.isArray()) {
+            for (int i = 0; i < array.size(); i++) {
+                appendShape(shape, array.get(i), i < items.size() ? items.get(i) : schema.path("additionalItems"));
+                shape.append(',');
+            }
+        } else {
+            Set<String> distinct = new LinkedHashSet<>();
+            int start = shape.length();
+            for (JsonNode element : array) {
+                appendShape(shape, element, items);
+                distinct.add(shape.substring(start));
+                shape.setLength(start);
+            }
+            distinct.forEach(element -> shape.append(element).append('|'));
+        }
+        shape.append(']');
+    }
+
+    /**
+     * Returns the subschema a property is validated against.
+     *
+     * @param schema The subschema of the object.
+     * @param name   The property name.
+     * @return The property's subschema, {@code additionalProperties} if it is not declared, or a missing node.
+     */
+    private static JsonNode propertySchema(JsonNode schema, String name) {
+        JsonNode property = schema.path("properties").path(name);
+        return property.isMissingNode() ? schema.path("additionalProperties") : property;
+    }
+
+    private static boolean hasValueKeyword(JsonNode schema) {
+        if (!schema.isObject()) {
+            return false;
+        }
+        for (String keyword : VALUE_KEYWORDS) {
+            if (schema.has(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the type of a scalar node. Decimals without a fraction are kept apart from other decimals,
+     * because validators may accept them as integers.
+     *
+     * @param node The scalar node.
+     * @return A one-letter type code.
+     */
+    private static char typeOf(JsonNode node) {
+        if (node.isTextual()) {
+            return 's';
+        }
+        if (node.isIntegralNumber()) {
+            return 'i';
+        }
+        if (node.isNumber()) {
+            return node.decimalValue().stripTrailingZeros().scale() <= 0 ? 'd' : 'n';
+        }
+        if (node.isBoolean()) {
+            return 'b';
+        }
+        return 'z';
+    }
+}
@@ -0,0 +1,268 @@
+package com.api.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SchemaRegistry class loads and compiles JSON schemas from the classpath once and validates JSON against them.
+ * <p>
+ * RestAssured's {@code JsonSchemaValidator.matchesJsonSchemaInClasspath} resolves, parses and compiles the
+ * schema on every assertion. This registry keeps one compiled {@link JsonSchema} per classpath path in a
+ * concurrent map; compiled schemas are immutable and safe to use from several threads at once. Schemas
+ * are compiled with the same draft v4 defaults RestAssured uses, so validation results do not change.
+ * </p>
+ * Example usage:
+ * {@code
+ * SchemaRegistry.preloadDirectory("schemas");
+ * boolean valid = SchemaRegistry.matches(response.asString(), "schemas/clientSchema.json");
+ * }
+ */
+public final class SchemaRegistry {
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonNode> DOCUMENTS = new ConcurrentHashMap<>();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SchemaRegistry() {
+    }
+
+    /**
+     * Returns the compiled schema for a classpath location, loading and compiling it on first use.
+     *
+     * @param schemaPath The classpath location of the schema, for example {@code schemas/clientSchema.json}.
+     * @return The compiled schema.
+     * @throws IllegalArgumentException if the schema does not exist or is not a valid JSON schema.
+     */
+    public static JsonSchema getSchema(String schemaPath) {
+        return SCHEMAS.computeIfAbsent(schemaPath, SchemaRegistry::compile);
+    }
+
+    /**
+     * Returns a compiled subschema, for example the {@code items} schema of a list, loading and compiling it
+     * on first use. References inside the subschema resolve against the whole schema document.
+     *
+     * @param schemaPath The classpath location of the schema.
+     * @param pointer    The JSON pointer of the subschema in the schema document, for example {@code /items}.
+     * @return The compiled subschema.
+     * @throws IllegalArgumentException if the schema does not exist or the subschema is not a valid JSON schema.
+     */
+    public static JsonSchema getSchema(String schemaPath, String pointer) {
+        return SCHEMAS.computeIfAbsent(schemaPath + "#" + pointer, key -> {
+            try {
+                return SCHEMA_FACTORY.getJsonSchema(getSchemaDocument(schemaPath), pointer);
+            } catch (ProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON schema " + schemaPath + "#" + pointer, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the parsed schema document for a classpath location, loading it on first use. The document
+     * must not be modified.
+     *
+     * @param schemaPath The classpath location of the schema, for example {@code schemas/clientSchema.json}.
+     * @return The schema as a JSON tree.
+     * @throws IllegalArgumentException if the schema does not exist.
+     */
+    public static JsonNode getSchemaDocument(String schemaPath) {
+        return DOCUMENTS.computeIfAbsent(schemaPath, SchemaRegistry::load);
+    }
+
+    /**
+     * Validates a JSON document against a schema and returns the full report.
+     *
+     * @param json       The JSON document, typically a response body.
+     * @param schemaPath The classpath location of the schema.
+     * @return The validation report.
+     * @throws IllegalArgumentException if the document is not valid JSON or the schema cannot be loaded.
+     */
+    public static ProcessingReport validate(String json, String schemaPath) {
+        JsonSchema schema = getSchema(schemaPath);
+        try {
+            return schema.validate(JsonLoader.fromString(json));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The document is not valid JSON", e);
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Failed to validate against schema " + schemaPath, e);
+        }
+    }
+
+    /**
+     * Checks whether a JSON document matches a schema.
+     *
+     * @param json       The JSON document, typically a response body.
+     * @param schemaPath The classpath location of the schema.
+     * @return True if the document matches the schema, false if it does not or is not valid JSON.
+     */
+    public static boolean matches(String json, String schemaPath) {
+        JsonSchema schema = getSchema(schemaPath);
+        JsonNode document;
+        try {
+            document = JsonLoader.fromString(json);
+        } catch (IOException e) {
+            return false;
+        }
+        return schema.validInstanceUnchecked(document);
+    }
+
+    /**
+     * Checks whether an already parsed JSON document matches a schema.
+     *
+     * @param document   The JSON document.
+     * @param schemaPath The classpath location of the schema.
+     * @return True if the document matches the schema.
+     */
+    public static boolean matches(JsonNode document, String schemaPath) {
+        return getSchema(schemaPath).validInstanceUnchecked(document);
+    }
+
+    /**
+     * Loads and compiles every {@code .json} schema found under a classpath directory.
+     * <p>
+     * Both exploded directories and directories inside a jar are supported.
+     * </p>
+     *
+     * @param directory The classpath directory, for example {@code schemas}.
+     * @return The number of schemas compiled by this call or already registered.
+     * @throws IllegalArgumentException if the directory does not exist on the classpath.
+     */
+    public static int preloadDirectory(String directory) {
+        List<String> schemaPaths = listSchemas(directory);
+        schemaPaths.forEach(SchemaRegistry::getSchema);
+        return schemaPaths.size();
+    }
+
+    /**
+     * Returns the number of compiled schemas and subschemas currently held by the registry.
+     *
+     * @return The number of registered schemas.
+     */
+    public static int size() {
+        return SCHEMAS.size();
+    }
+
+    /**
+     * Removes every compiled schema from the registry.
+     */
+    public static void clear() {
+        SCHEMAS.clear();
+        DOCUMENTS.clear();
+    }
+
+    /**
+     * Compiles a schema from the classpath.
+     *
+     * @param schemaPath The classpath location of the schema.
+     * @return The compiled schema.
+     */
+    private static JsonSchema compile(String schemaPath) {
+        try {
+            return SCHEMA_FACTORY.getJsonSchema(getSchemaDocument(schemaPath));
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON schema " + schemaPath, e);
+        }
+    }
+
+    /**
+     * Loads a schema document from the classpath.
+     *
+     * @param schemaPath The classpath location of the schema.
+     * @return The schema as a JSON tree.
+     */
+    private static JsonNode load(String schemaPath) {
+        InputStream input = classLoader().getResourceAsStream(schemaPath);
+        if (input == null) {
+            throw new IllegalArgumentException("Schema not found on the classpath: " + schemaPath);
+        }
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return JsonLoader.fromReader(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + schemaPath, e);
+        }
+    }
+
+    /**
+     * Lists the classpath locations of the {@code .json} files directly inside a classpath directory.
+     *
+     * @param directory The classpath directory.
+     * @return The classpath locations of the schemas, sorted by name.
+     */
+    private static List<String> listSchemas(String directory) {
+        URL url = classLoader().getResource(directory);
+        if (url == null) {
+            throw new IllegalArgumentException("Schema directory not found on the classpath: " + directory);
+        }
+        try {
+            URI uri = url.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                try (FileSystem jar = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+                    return listJsonFiles(jar.provider().getPath(uri), directory);
+                } catch (FileSystemAlreadyExistsException e) {
+                    return listJsonFiles(Paths.get(uri), directory);
+                }
+            }
+            return listJsonFiles(Paths.get(uri), directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list schemas in " + directory, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid schema directory location: " + url, e);
+        }
+    }
+
+    /**
+     * Lists the {@code .json} files in a directory as classpath locations.
+     *
+     * @param path      The directory.
+     * @param directory The classpath directory the path corresponds to.
+     * @return The classpath locations, sorted by name.
+     * @throws IOException if the directory cannot be listed.
+     */
+    private static List<String> listJsonFiles(Path path, String directory) throws IOException {
+        String prefix = directory.endsWith("/") ? directory : directory + "/";
+        try (Stream<Path> files = Files.list(path)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".json"))
+                    .sorted()
+                    .map(name -> prefix + name)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the class loader used to resolve schemas.
+     *
+     * @return The context class loader, or this class's loader if none is set.
+     */
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : SchemaRegistry.class.getClassLoader();
+    }
+}
@@ -0,0 +1,103 @@
+package com.api.framework.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SchemaValidationResult class holds the outcome of validating a JSON document with {@link StreamingSchemaValidator}.
+ * <p>
+ * At most the configured number of violations is kept; validation stops at the last one, and
+ * {@link #isTruncated()} tells whether violations were left out or elements were left unchecked.
+ * </p>
+ * Example usage:
+ * {@code
+ * SchemaValidationResult result = StreamingSchemaValidator.validate(response.asInputStream(), "schemas/clientListSchema.json");
+ * Assert.assertTrue(result.toString(), result.isValid());
+ * }
+ */
+public final class SchemaValidationResult {
+    private final List<SchemaViolation> violations;
+    private final long elementCount;
+    private final boolean truncated;
+    private final boolean streamed;
+
+    /**
+     * Creates a validation result.
+     *
+     * @param violations   The violations found, in document order.
+     * @param elementCount The number of list elements read, or -1 if the document was not read as a list.
+     * @param truncated    Whether some violations were not reported or some elements were not checked.
+     * @param streamed     Whether the document was validated element by element.
+     */
+    SchemaValidationResult(List<SchemaViolation> violations, long elementCount, boolean truncated, boolean streamed) {
+        this.violations = Collections.unmodifiableList(violations);
+        this.elementCount = elementCount;
+        this.truncated = truncated;
+        this.streamed = streamed;
+    }
+
+    /**
+     * Indicates whether the document matches the schema.
+     *
+     * @return True if no violation was found.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Returns the violations found.
+     *
+     * @return An unmodifiable list of violations, in document order.
+     */
+    public List<SchemaViolation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Returns the number of list elements read.
+     *
+     * @return The element count, or -1 if the document was validated as a whole.
+     */
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Indicates whether the result is incomplete, because validation stopped at the maximum number of
+     * violations or at malformed JSON.
+     *
+     * @return True if some violations were not reported or some elements were not checked.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Indicates whether the document was validated element by element.
+     *
+     * @return True if the document was streamed, false if its schema required validating it as a whole.
+     */
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * Summarizes the result for assertion messages and logs.
+     *
+     * @return The summary, listing the violations one per line.
+     */
+    @Override
+    public String toString() {
+        String scope = elementCount < 0 ? "the document" : elementCount + " elements";
+        if (isValid()) {
+            return "No schema violations in " + scope;
+        }
+        String header = String.format("%d schema violations in %s%s:", violations.size(), scope,
+                truncated ? ", validation stopped" : "");
+        return violations.stream()
+                .map(SchemaViolation::toString)
+                .collect(Collectors.joining(System.lineSeparator() + "  ", header + System.lineSeparator() + "  ", ""));
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.framework.utils;
+
+/**
+ * SchemaViolation class describes one place where a JSON document does not match its schema.
+ * <p>
+ * The location is a JSON pointer into the validated document, for example {@code /42/price} for the
+ * {@code price} of the 43rd element of a list, or the empty string for the document itself.
+ * </p>
+ * Example usage:
+ * {@code
+ * SchemaViolation violation = new SchemaViolation("/42/price", "type", "instance type (string) does not match");
+ * logger.error(violation);
+ * }
+ */
+public final class SchemaViolation {
+    private final String pointer;
+    private final String keyword;
+    private final String message;
+
+    /**
+     * Creates a violation.
+     *
+     * @param pointer The JSON pointer of the offending value in the document.
+     * @param keyword The schema keyword that failed, for example {@code required}, or null if none applies.
+     * @param message The validator's description of the violation.
+     */
+    public SchemaViolation(String pointer, String keyword, String message) {
+        this.pointer = pointer;
+        this.keyword = keyword;
+        this.message = message;
+    }
+
+    /**
+     * Returns the location of the offending value.
+     *
+     * @return The JSON pointer, empty for the document itself.
+     */
+    public String getPointer() {
+        return pointer;
+    }
+
+    /**
+     * Returns the schema keyword that failed.
+     *
+     * @return The keyword, or null if the document could not be read.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the description of the violation.
+     *
+     * @return The message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Formats the violation for assertion messages and logs.
+     *
+     * @return The pointer followed by the message, for example {@code /42/price: instance type (string) does not match}.
+     */
+    @Override
+    public String toString() {
+        return (pointer.isEmpty() ? "/" : pointer) + ": " + message;
+    }
+}
@@ -0,0 +1,263 @@
+package com.api.framework.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.fge.jackson.JacksonUtils;
+import com.github.fge.jackson.NodeType;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StreamingSchemaValidator class validates large JSON lists against their schema one element at a time.
+ * <p>
+ * Validating a list with {@link SchemaRegistry} first parses the whole body into a tree, several times the
+ * size of the body itself. For list schemas, a {@code type: array} schema with a single {@code items} schema,
+ * this validator reads the body token by token and validates each element against the compiled
+ * {@code items} schema as soon as it has been read, so only one element is held in memory whatever the size of
+ * the list. {@code minItems} and {@code maxItems} are checked against the element count at the end. Schemas
+ * with other keywords at the top level, such as {@code uniqueItems}, which needs every element at once, are
+ * validated on the whole tree instead, with the same result format.
+ * </p>
+ * <p>
+ * Validation stops at the first {@code api.schema.streaming.maxViolations} violations (default 10), each
+ * reported with the JSON pointer of the offending value. {@code validateSchema} switches to this validator for
+ * bodies of at least {@code api.schema.streaming.minBytes} bytes (default 1048576, -1 never streams).
+ * </p>
+ * Example usage:
+ * {@code
+ * SchemaValidationResult result = StreamingSchemaValidator.validate(response.asInputStream(), "schemas/clientListSchema.json");
+ * Assert.assertTrue(result.toString(), result.isValid());
+ * }
+ */
+public final class StreamingSchemaValidator {
+    private static final int MIN_BYTES = ConfigReader.getInt("api.schema.streaming.minBytes", 1024 * 1024);
+    private static final int MAX_VIOLATIONS = ConfigReader.getInt("api.schema.streaming.maxViolations", 10);
+    private static final String ITEMS_POINTER = "/items";
+    private static final Set<String> LIST_KEYWORDS = Set.of("$schema", "id", "title", "description", "default",
+            "definitions", "type", "items", "additionalItems", "minItems", "maxItems");
+    private static final Map<String, Boolean> STREAMABLE = new ConcurrentHashMap<>();
+    private static final ObjectReader READER = JacksonUtils.getReader();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private StreamingSchemaValidator() {
+    }
+
+    /**
+     * Indicates whether {@code validateSchema} should stream a body of the given size through this validator.
+     *
+     * @param bodyBytes  The size of the body.
+     * @param schemaPath The classpath location of the schema.
+     * @return True if streaming is enabled, the body reaches {@code api.schema.streaming.minBytes} and the
+     * schema is a list schema.
+     */
+    public static boolean shouldStream(long bodyBytes, String schemaPath) {
+        return MIN_BYTES >= 0 && bodyBytes >= MIN_BYTES && isStreamable(schemaPath);
+    }
+
+    /**
+     * Indicates whether a schema can be validated element by element.
+     *
+     * @param schemaPath The classpath location of the schema.
+     * @return True if the schema is an array with a single {@code items} schema and no other top-level constraint.
+     */
+    public static boolean isStreamable(String schemaPath) {
+        return STREAMABLE.computeIfAbsent(schemaPath, path -> isListSchema(SchemaRegistry.getSchemaDocument(path)));
+    }
+
+    /**
+     * Validates a JSON document, stopping at {@code api.schema.streaming.maxViolations} violations. The stream is closed.
+     *
+     * @param input      The stream containing the JSON document.
+     * @param schemaPath The classpath location of the schema.
+     * @return The validation result.
+     * @throws UncheckedIOException if the stream cannot be read.
+     */
+    public static SchemaValidationResult validate(InputStream input, String schemaPath) {
+        return validate(input, schemaPath, MAX_VIOLATIONS);
+    }
+
+    /**
+     * Validates a JSON document, stopping at a given number of violations. The stream is closed.
+     *
+     * @param input         The stream containing the JSON document.
+     * @param schemaPath    The classpath location of the schema.
+     * @param maxViolations The number of violations after which validation stops, at least 1.
+     * @return The validation result.
+     * @throws IllegalArgumentException if maxViolations is less than 1.
+     * @throws UncheckedIOException     if the stream cannot be read.
+     */
+    public static SchemaValidationResult validate(InputStream input, String schemaPath, int maxViolations) {
+        if (maxViolations < 1) {
+            throw new IllegalArgumentException("maxViolations must be at least 1, was " + maxViolations);
+        }
+        try (JsonParser parser = READER.getFactory().createParser(input)) {
+            return isStreamable(schemaPath)
+                    ? validateElements(parser, schemaPath, maxViolations)
+                    : validateTree(parser, schemaPath, maxViolations);
+        } catch (JsonProcessingException e) {
+            return malformed(e, -1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the JSON document", e);
+        }
+    }
+
+    /**
+     * Validates the elements of a list as they are read.
+     *
+     * @param parser        The parser, before the first token.
+     * @param schemaPath    The classpath location of the list schema.
+     * @param maxViolations The number of violations after which validation stops.
+     * @return The validation result.
+     * @throws IOException if the document cannot be read.
+     */
+    private static SchemaValidationResult validateElements(JsonParser parser, String schemaPath, int maxViolations) throws IOException {
+        List<SchemaViolation> violations = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_ARRAY) {
+            violations.add(new SchemaViolation("", "type", "instance type (" + typeOf(parser, token) + ") is not an array"));
+            return new SchemaValidationResult(violations, 0, false, true);
+        }
+        JsonSchema itemSchema = SchemaRegistry.getSchema(schemaPath, ITEMS_POINTER);
+        long index = 0;
+        boolean dropped = false;
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode element = READER.<JsonNode>readTree(parser);
+                if (!itemSchema.validInstanceUnchecked(element)) {
+                    dropped = !addViolations(violations, itemSchema.validateUnchecked(element), "/" + index, maxViolations);
+                }
+                index++;
+                if (violations.size() >= maxViolations) {
+                    // Stop here unless this was the last element, whose list constraints may still be reported
+                    if (dropped || parser.nextToken() != JsonToken.END_ARRAY) {
+                        return new SchemaValidationResult(violations, index, true, true);
+                    }
+                    break;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            return malformed(e, index);
+        }
+        JsonNode schema = SchemaRegistry.getSchemaDocument(schemaPath);
+        if (schema.has("minItems") && index < schema.get("minItems").asLong()) {
+            violations.add(new SchemaViolation("", "minItems",
+                    "array is too short: must have at least " + schema.get("minItems").asLong() + " elements but instance has " + index + " elements"));
+        }
+        if (schema.has("maxItems") && index > schema.get("maxItems").asLong()) {
+            violations.add(new SchemaViolation("", "maxItems",
+                    "array is too long: must have at most " + schema.get("maxItems").asLong() + " elements but instance has " + index + " elements"));
+        }
+        return new SchemaValidationResult(violations.subList(0, Math.min(violations.size(), maxViolations)), index,
+                dropped || violations.size() > maxViolations, true);
+    }
+
+    /**
+     * Validates a whole document against a schema that cannot be streamed.
+     *
+     * @param parser        The parser, before the first token.
+     * @param schemaPath    The classpath location of the schema.
+     * @param maxViolations The number of violations to keep.
+     * @return The validation result.
+     * @throws IOException if the document cannot be read.
+     */
+    private static SchemaValidationResult validateTree(JsonParser parser, String schemaPath, int maxViolations) throws IOException {
+        List<SchemaViolation> violations = new ArrayList<>();
+        JsonNode document = READER.<JsonNode>readTree(parser);
+        boolean complete = addViolations(violations, SchemaRegistry.getSchema(schemaPath).validateUnchecked(document), "", maxViolations);
+        return new SchemaValidationResult(violations, -1, !complete, false);
+    }
+
+    /**
+     * Adds the errors of a validation report, with their pointers prefixed by the location of the validated value.
+     *
+     * @param violations    The violations found so far.
+     * @param report        The validation report.
+     * @param prefix        The JSON pointer of the validated value in the document.
+     * @param maxViolations The number of violations after which no more are added.
+     * @return True if every error of the report was added, false if some were left out.
+     */
+    private static boolean addViolations(List<SchemaViolation> violations, ProcessingReport report, String prefix, int maxViolations) {
+        for (ProcessingMessage message : report) {
+            if (message.getLogLevel().compareTo(LogLevel.ERROR) < 0) {
+                continue;
+            }
+            if (violations.size() >= maxViolations) {
+                return false;
+            }
+            JsonNode json = message.asJson();
+            violations.add(new SchemaViolation(prefix + json.path("instance").path("pointer").asText(),
+                    json.path("keyword").asText(null), message.getMessage()));
+        }
+        return true;
+    }
+
+    /**
+     * Names the type of the document's root value without reading objects, which may be large.
+     *
+     * @param parser The parser, on the first token.
+     * @param token  The first token, or null if the document is empty.
+     * @return The JSON schema type name, for example {@code object}.
+     * @throws IOException if the document cannot be read.
+     */
+    private static String typeOf(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null) {
+            return "none";
+        }
+        if (token == JsonToken.START_OBJECT) {
+            return NodeType.OBJECT.toString();
+        }
+        return NodeType.getNodeType(READER.<JsonNode>readTree(parser)).toString();
+    }
+
+    /**
+     * Reports a document that is not valid JSON.
+     *
+     * @param e     The parsing error.
+     * @param index The index of the list element being read, or -1 if the document was not read as a list.
+     * @return A result with a single violation.
+     */
+    private static SchemaValidationResult malformed(JsonProcessingException e, long index) {
+        SchemaViolation violation = new SchemaViolation(index < 0 ? "" : "/" + index, null,
+                "not valid JSON: " + e.getOriginalMessage());
+        return new SchemaValidationResult(List.of(violation), Math.max(index, 0), true, index >= 0);
+    }
+
+    /**
+     * Checks that a schema only constrains the type, the elements and the length of a list.
+     *
+     * @param schema The schema document.
+     * @return True if the schema can be validated element by element.
+     */
+    private static boolean isListSchema(JsonNode schema) {
+        JsonNode type = schema.path("type");
+        boolean array = "array".equals(type.asText())
+                || (type.isArray() && type.size() == 1 && "array".equals(type.get(0).asText()));
+        if (!array || !schema.path("items").isObject()) {
+            return false;
+        }
+        Iterator<String> keywords = schema.fieldNames();
+        while (keywords.hasNext()) {
+            if (!LIST_KEYWORDS.contains(keywords.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
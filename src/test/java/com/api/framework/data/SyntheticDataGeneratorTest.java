@@ -0,0 +1,133 @@
+package com.api.framework.data;
+
+import com.api.framework.models.Client;
+import com.api.framework.models.Resource;
+import com.api.framework.serialization.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SyntheticDataGeneratorTest class checks that a seed fully determines the generated sequence, that emails and
+ * phones stay unique over a large sample, and that the JSON writers agree with the model objects.
+ */
+class SyntheticDataGeneratorTest {
+    private static final Pattern EMAIL = Pattern.compile("[a-z]+\\.[a-z]+\\.[0-9a-z]+@[a-z.]+");
+    private static final Pattern PHONE = Pattern.compile("3[0-9]{9}");
+    private static final int SAMPLE = 200_000;
+
+    @Test
+    void sameSeedGeneratesSameSequence() {
+        SyntheticDataGenerator first = new SyntheticDataGenerator(42);
+        SyntheticDataGenerator second = new SyntheticDataGenerator(42);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextClient(), second.nextClient());
+            assertEquals(first.nextResource(), second.nextResource());
+            assertArrayEquals(first.nextClientJson(), second.nextClientJson());
+            assertArrayEquals(first.nextResourceJson(), second.nextResourceJson());
+        }
+    }
+
+    @Test
+    void generatesAnyIndexDirectly() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7, 500);
+
+        assertEquals(generator.client(500), generator.nextClient());
+        assertEquals(generator.resource(501), generator.nextResource());
+        assertEquals(new SyntheticDataGenerator(7).clients(1000, 50).collect(Collectors.toList()),
+                new SyntheticDataGenerator(7).clients(0, 1050).skip(1000).collect(Collectors.toList()));
+    }
+
+    @Test
+    void differentSeedsGenerateDifferentSequences() {
+        List<Client> first = new SyntheticDataGenerator(1).clients(0, 100).collect(Collectors.toList());
+        List<Client> second = new SyntheticDataGenerator(2).clients(0, 100).collect(Collectors.toList());
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void emailsAndPhonesAreUniqueAndWellFormed() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+
+        generator.clients(0, SAMPLE).forEach(client -> {
+            assertTrue(EMAIL.matcher(client.getEmail()).matches(), client.getEmail());
+            assertTrue(PHONE.matcher(client.getPhone()).matches(), client.getPhone());
+            assertTrue(emails.add(client.getEmail()), "duplicate email " + client.getEmail());
+            assertTrue(phones.add(client.getPhone()), "duplicate phone " + client.getPhone());
+        });
+        assertEquals(SAMPLE, emails.size());
+    }
+
+    @Test
+    void resourceNamesAreUnique() {
+        Set<String> names = new SyntheticDataGenerator(42).resources(0, SAMPLE)
+                .map(Resource::getName)
+                .collect(Collectors.toSet());
+
+        assertEquals(SAMPLE, names.size());
+    }
+
+    @Test
+    void jsonMatchesModelObjects() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+
+        for (long index = 0; index < 1000; index++) {
+            String clientJson = new String(generator.clientJson(index), StandardCharsets.UTF_8);
+            assertEquals(generator.client(index), JsonMapper.gson().fromJson(clientJson, Client.class));
+
+            Resource resource = JsonMapper.gson().fromJson(
+                    new String(generator.resourceJson(index), StandardCharsets.UTF_8), Resource.class);
+            Resource expected = generator.resource(index);
+            assertEquals(expected.getName(), resource.getName());
+            assertEquals(expected.getDescription(), resource.getDescription());
+            assertEquals(Double.parseDouble(expected.getPrice()), Double.parseDouble(resource.getPrice()));
+        }
+    }
+
+    @Test
+    void generatesAsciiEmailsUnderTurkishLocale() throws Exception {
+        Locale defaultLocale = Locale.getDefault();
+        // The pools are lowercased while the class initializes, so it is loaded afresh under the Turkish locale,
+        // where "I" lowercases to a dotless i
+        URL classes = SyntheticDataGenerator.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+            Locale.setDefault(new Locale("tr", "TR"));
+            Class<?> isolated = Class.forName(SyntheticDataGenerator.class.getName(), true, loader);
+            Object generator = isolated.getConstructor(long.class).newInstance(42L);
+            Method clientJson = isolated.getMethod("clientJson", long.class);
+
+            for (long index = 0; index < 5000; index++) {
+                String json = new String((byte[]) clientJson.invoke(generator, index), StandardCharsets.UTF_8);
+                String email = JsonMapper.gson().fromJson(json, Client.class).getEmail();
+                assertTrue(EMAIL.matcher(email).matches(), email);
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void rejectsNegativeIndexes() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(42, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(42).client(-1));
+    }
+}
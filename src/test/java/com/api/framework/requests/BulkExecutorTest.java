@@ -0,0 +1,117 @@
+package com.api.framework.requests;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BulkExecutorTest class runs bulk operations against a stub that counts its requests in flight: the
+ * parallelism cap, per-item results in submission order, and the aggregation of failed items.
+ */
+class BulkExecutorTest {
+    private final ExecutorService api = Executors.newFixedThreadPool(16);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @AfterEach
+    void stopApi() {
+        api.shutdownNow();
+    }
+
+    @Test
+    void neverExceedsParallelismCap() {
+        List<Integer> items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+        BulkResult<Integer> result = BulkExecutor.run(items, 4, item -> send(200, 2));
+
+        assertTrue(result.isSuccessful());
+        assertEquals(200, result.getSuccessCount());
+        assertEquals(4, maxInFlight.get());
+        assertEquals(0, inFlight.get());
+    }
+
+    @Test
+    void listsResultsInSubmissionOrder() {
+        List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        // Later items answer sooner, so completion order is the reverse of submission order
+        BulkResult<Integer> result = BulkExecutor.run(items, 20, item -> send(200 + item, 20 - item));
+
+        assertEquals(items, result.getResults().stream().map(BulkItemResult::getItem).collect(Collectors.toList()));
+        for (BulkItemResult<Integer> itemResult : result.getResults()) {
+            assertEquals(200 + itemResult.getItem(), itemResult.getResponse().getStatusCode());
+            assertNull(itemResult.getError());
+        }
+    }
+
+    @Test
+    void aggregatesFailedItems() {
+        List<String> items = List.of("1", "2", "missing", "4", "reset", "6", "invalid");
+
+        BulkResult<String> result = BulkExecutor.run(items, 3, item -> {
+            switch (item) {
+                case "missing":
+                    return send(404, 1);
+                case "reset":
+                    return CompletableFuture.supplyAsync(() -> {
+                        throw new IllegalStateException("connection reset");
+                    }, api);
+                case "invalid":
+                    throw new IllegalArgumentException("invalid ID");
+                default:
+                    return send(200, 1);
+            }
+        });
+
+        assertFalse(result.isSuccessful());
+        assertEquals(4, result.getSuccessCount());
+        assertEquals(List.of("missing", "reset", "invalid"),
+                result.getFailures().stream().map(BulkItemResult::getItem).collect(Collectors.toList()));
+        assertInstanceOf(IllegalStateException.class, result.getFailures().get(1).getError());
+        assertInstanceOf(IllegalArgumentException.class, result.getFailures().get(2).getError());
+
+        BulkOperationException failure = assertThrows(BulkOperationException.class, result::assertAllSucceeded);
+        assertEquals(3, failure.getFailures().size());
+        assertTrue(failure.getMessage().startsWith("3 of 7 bulk items failed: missing: status code 404; reset: "),
+                failure.getMessage());
+        assertEquals(2, failure.getSuppressed().length);
+    }
+
+    @Test
+    void rejectsNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> BulkExecutor.run(List.of(1), 0, item -> send(200, 0)));
+    }
+
+    /**
+     * Answers a request with a status after a delay, counting it as in flight until then.
+     */
+    private CompletableFuture<Response> send(int status, long delayMillis) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return new ResponseBuilder().setStatusCode(status).setStatusLine("HTTP/1.1 " + status).setBody("").build();
+        }, api);
+    }
+}
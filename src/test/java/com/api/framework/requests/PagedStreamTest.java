@@ -0,0 +1,192 @@
+package com.api.framework.requests;
+
+import com.api.framework.models.Client;
+import com.api.framework.server.EmbeddedApiServer;
+import com.api.framework.utils.Constants;
+import com.google.gson.JsonObject;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PagedStreamTest class streams the clients of an {@link EmbeddedApiServer} page by page and checks which pages
+ * are requested: the prefetch from the middle of a page, the last short or empty page, closing the stream early
+ * and failed page requests.
+ */
+class PagedStreamTest {
+    private static final int PAGE_SIZE = 100;
+
+    private static EmbeddedApiServer server;
+    private static ClientRequest clientRequest;
+
+    private final List<Integer> requestedPages = new ArrayList<>();
+    private final Map<Integer, CompletableFuture<Response>> overrides = new ConcurrentHashMap<>();
+
+    @BeforeAll
+    static void startServer() {
+        server = EmbeddedApiServer.start(0);
+        clientRequest = new ClientRequest(server.getBaseUrl());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop();
+    }
+
+    @BeforeEach
+    void clearServer() {
+        server.reset();
+    }
+
+    @Test
+    void streamsEveryPageEndingAtShortPage() {
+        seed(250);
+
+        try (Stream<Client> clients = stream()) {
+            List<String> ids = clients.map(Client::getId).collect(Collectors.toList());
+
+            assertEquals(250, ids.size());
+            assertEquals("1", ids.get(0));
+            assertEquals("250", ids.get(249));
+        }
+        assertEquals(List.of(1, 2, 3), requestedPages);
+    }
+
+    @Test
+    void requestsEmptyPageAfterFullLastPage() {
+        seed(200);
+
+        try (Stream<Client> clients = stream()) {
+            assertEquals(200, clients.count());
+        }
+        assertEquals(List.of(1, 2, 3), requestedPages);
+    }
+
+    @Test
+    void streamsEmptyCollection() {
+        try (Stream<Client> clients = stream()) {
+            assertEquals(0, clients.count());
+        }
+        assertEquals(List.of(1), requestedPages);
+    }
+
+    @Test
+    void prefetchesNextPageOnlyFromMiddleOfPage() {
+        seed(250);
+
+        try (Stream<Client> clients = stream()) {
+            Iterator<Client> iterator = clients.iterator();
+            for (int i = 0; i < PAGE_SIZE / 2 - 1; i++) {
+                iterator.next();
+            }
+            assertEquals(List.of(1), requestedPages);
+
+            iterator.next();
+            assertEquals(List.of(1, 2), requestedPages);
+        }
+    }
+
+    @Test
+    void findFirstEarlyInPageRequestsOnePage() {
+        seed(250);
+
+        try (Stream<Client> clients = stream()) {
+            assertEquals("1", clients.findFirst().map(Client::getId).orElse(null));
+        }
+        assertEquals(List.of(1), requestedPages);
+    }
+
+    @Test
+    void closeCancelsPendingPrefetch() {
+        seed(250);
+        CompletableFuture<Response> prefetch = new CompletableFuture<>();
+        overrides.put(2, prefetch);
+
+        try (Stream<Client> clients = stream()) {
+            assertEquals(PAGE_SIZE / 2, clients.limit(PAGE_SIZE / 2).count());
+        }
+
+        assertEquals(List.of(1, 2), requestedPages);
+        assertTrue(prefetch.isCancelled());
+    }
+
+    @Test
+    void failsWhenPrefetchedPageFails() {
+        seed(250);
+        overrides.put(2, CompletableFuture.failedFuture(new IllegalStateException("connection reset")));
+
+        try (Stream<Client> clients = stream()) {
+            Iterator<Client> iterator = clients.iterator();
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                iterator.next();
+            }
+
+            RuntimeException failure = assertThrows(RuntimeException.class, iterator::hasNext);
+            assertEquals("Failed to fetch page 2", failure.getMessage());
+            assertEquals("connection reset", failure.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void failsWhenPageHasErrorStatus() {
+        seed(250);
+        // The API rejects a limit below 1 with 400
+        overrides.put(2, CompletableFuture.supplyAsync(() -> clientRequest.getClientsPage(2, 0)));
+
+        try (Stream<Client> clients = stream()) {
+            RuntimeException failure = assertThrows(RuntimeException.class, clients::count);
+            assertEquals("Failed to fetch page 2 with status code: 400", failure.getMessage());
+        }
+    }
+
+    @Test
+    void clientRequestStreamsAllClients() {
+        seed(150);
+
+        try (Stream<Client> clients = clientRequest.getClientsPaged(40)) {
+            List<Client> all = clients.collect(Collectors.toList());
+
+            assertEquals(150, all.size());
+            assertFalse(all.stream().anyMatch(client -> client.getId() == null));
+        }
+    }
+
+    private static void seed(int count) {
+        for (int i = 1; i <= count; i++) {
+            JsonObject client = new JsonObject();
+            client.addProperty("name", "Client " + i);
+            server.getStore(Constants.CLIENTS_PATH).create(client);
+        }
+    }
+
+    /**
+     * Returns a stream of the server's clients recording every page it requests. Pages with an override are
+     * answered by it instead of the server.
+     */
+    private Stream<Client> stream() {
+        IntFunction<CompletableFuture<Response>> loader = page -> {
+            requestedPages.add(page);
+            CompletableFuture<Response> override = overrides.get(page);
+            return override != null ? override
+                    : CompletableFuture.supplyAsync(() -> clientRequest.getClientsPage(page, PAGE_SIZE));
+        };
+        return PagedStream.of(PAGE_SIZE, loader, clientRequest::getClientsEntity);
+    }
+}
@@ -0,0 +1,379 @@
+package com.api.framework.requests;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RequestResilienceTest class sends calls through the resilience layer to stub attempts: retries of idempotent
+ * methods on the configured statuses, {@code Retry-After}, open circuits, hedged GET requests and deadlines.
+ * The deadline is also checked on both transports against a server that trickles its response body.
+ */
+class RequestResilienceTest {
+    private static final AtomicInteger ENTITIES = new AtomicInteger();
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<String> properties = new ArrayList<>();
+
+    @AfterEach
+    void clearSettings() {
+        properties.forEach(System::clearProperty);
+        RequestSpecs.useTransport(null);
+    }
+
+    @Test
+    void retriesIdempotentMethodsOnRetryStatuses() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "3"));
+
+        Response response = resilience.execute("GET", "/api/v1/stub", statuses(503, 429, 200));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(3, attempts.get());
+        assertEquals(2, resilience.getRetries());
+    }
+
+    @Test
+    void retriesTransportErrorsOfIdempotentMethods() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "1"));
+        Deque<Integer> outcomes = new ConcurrentLinkedDeque<>(List.of(-1, 200));
+
+        Response response = resilience.execute("PUT", "/api/v1/stub/1", () -> {
+            attempts.incrementAndGet();
+            if (outcomes.poll() < 0) {
+                throw new UncheckedIOException(new SocketException("Connection reset"));
+            }
+            return response(200);
+        });
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void stopsAfterMaxRetries() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "2"));
+
+        Response response = resilience.execute("GET", "/api/v1/stub", statuses(503, 503, 503, 200));
+
+        assertEquals(503, response.getStatusCode());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void neverRetriesPost() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "3"));
+
+        Response response = resilience.execute("POST", "/api/v1/stub", statuses(503, 200));
+
+        assertEquals(503, response.getStatusCode());
+        assertEquals(1, attempts.get());
+        assertEquals(0, resilience.getRetries());
+    }
+
+    @Test
+    void doesNotRetryOtherStatuses() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "3", "retryStatuses", "503"));
+
+        assertEquals(500, resilience.execute("GET", "/api/v1/stub", statuses(500, 200)).getStatusCode());
+        assertEquals(429, resilience.execute("GET", "/api/v1/stub", statuses(429, 200)).getStatusCode());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void honoursRetryAfter() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "1"));
+        Deque<Integer> statuses = new ConcurrentLinkedDeque<>(List.of(429, 200));
+
+        long start = System.nanoTime();
+        Response response = resilience.execute("GET", "/api/v1/stub", () -> {
+            attempts.incrementAndGet();
+            int status = statuses.poll();
+            return status == 429 ? response(429, new Header("Retry-After", "1")) : response(status);
+        });
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(System.nanoTime() - start >= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void skipsRetryWhenRetryAfterExceedsDeadline() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "1", "deadlineMillis", "500"));
+
+        Response response = resilience.execute("GET", "/api/v1/stub", () -> {
+            attempts.incrementAndGet();
+            return response(503, new Header("Retry-After", "5"));
+        });
+
+        assertEquals(503, response.getStatusCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void openCircuitRejectsCalls() {
+        RequestResilience resilience = resilience(Map.of("maxRetries", "0",
+                "breaker.failureThreshold", "2", "breaker.openMillis", "60000"));
+
+        resilience.execute("GET", "/api/v1/stub/1", statuses(500));
+        resilience.execute("GET", "/api/v1/stub/2", statuses(502));
+
+        CircuitOpenException rejected = assertThrows(CircuitOpenException.class,
+                () -> resilience.execute("GET", "/api/v1/stub/3", statuses(200)));
+        assertEquals("GET stub/{id}", rejected.getEndpoint());
+        assertEquals(2, attempts.get());
+        assertEquals(1, resilience.getRejected());
+        assertEquals(CircuitBreaker.State.OPEN, resilience.getBreaker("GET stub/{id}").getState());
+        assertEquals(200, resilience.execute("GET", "/api/v1/stub", statuses(200)).getStatusCode());
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        RequestResilience resilience = resilience(Map.of("breaker.failureThreshold", "2"));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(404, resilience.execute("GET", "/api/v1/stub/1", statuses(404)).getStatusCode());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.getBreaker("GET stub/{id}").getState());
+    }
+
+    @Test
+    void hedgeAnswersSlowRequest() {
+        String path = "/api/v1/hedged" + ENTITIES.incrementAndGet();
+        RequestResilience resilience = hedgedResilience(path);
+        CountDownLatch slowRequest = new CountDownLatch(1);
+
+        Response response = resilience.execute("GET", path, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(slowRequest);
+                return response(504);
+            }
+            return response(200);
+        });
+        slowRequest.countDown();
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(1, resilience.getHedges());
+        assertEquals(1, resilience.getHedgesWon());
+    }
+
+    @Test
+    void runningHedgeAnswersAfterFirstRequestFails() {
+        String path = "/api/v1/hedged" + ENTITIES.incrementAndGet();
+        RequestResilience resilience = hedgedResilience(path);
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+
+        Response response = resilience.execute("GET", path, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(hedgeStarted);
+                throw new UncheckedIOException(new SocketException("Connection reset"));
+            }
+            hedgeStarted.countDown();
+            sleep(100);
+            return response(200);
+        });
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, attempts.get());
+        assertEquals(1, resilience.getHedgesWon());
+    }
+
+    @Test
+    void abortsAttemptAtDeadline() {
+        RequestResilience resilience = resilience(Map.of("deadlineMillis", "200", "maxRetries", "2"));
+
+        long start = System.nanoTime();
+        DeadlineExceededException exceeded = assertThrows(DeadlineExceededException.class,
+                () -> resilience.execute("GET", "/api/v1/stub", () -> {
+                    attempts.incrementAndGet();
+                    // Behaves like a transport: blocks until its request is aborted
+                    CountDownLatch aborted = new CountDownLatch(1);
+                    RequestResilience.abortOnDeadline(aborted::countDown);
+                    await(aborted);
+                    throw new UncheckedIOException(new SocketException("Socket closed"));
+                }));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals("GET stub did not complete within its 200 ms deadline", exceeded.getMessage());
+        assertEquals(1, attempts.get());
+        assertEquals(1, resilience.getDeadlinesExceeded());
+    }
+
+    @Test
+    void apacheTransportAbortsTricklingBodyAtDeadline() throws IOException {
+        assertTricklingBodyAborted();
+    }
+
+    @Test
+    void jdkTransportAbortsTricklingBodyAtDeadline() throws IOException {
+        RequestSpecs.useTransport(new JdkHttpTransport(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build()));
+
+        assertTricklingBodyAborted();
+    }
+
+    /**
+     * Requests a body sent one byte every 20 ms, so every socket read succeeds long after the deadline has
+     * passed, and checks that the call still fails at its deadline while the body is arriving.
+     */
+    private void assertTricklingBodyAborted() throws IOException {
+        AtomicInteger trickled = new AtomicInteger();
+        try (ServerSocket server = new ServerSocket(0)) {
+            Thread serving = new Thread(() -> serve(server, trickled), "trickling-server");
+            serving.setDaemon(true);
+            serving.start();
+            // The first request of the transport pays its one-off initialization, without a short deadline
+            assertEquals(200, new ClientRequest("http://localhost:" + server.getLocalPort()).getClients().getStatusCode());
+            set("api.resilience.clients.deadlineMillis", "500");
+            set("api.resilience.clients.maxRetries", "0");
+            ClientRequest clientRequest = new ClientRequest("http://127.0.0.1:" + server.getLocalPort());
+
+            long start = System.nanoTime();
+            DeadlineExceededException exceeded = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> assertThrows(DeadlineExceededException.class, () -> clientRequest.getClient("1")));
+
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            assertTrue(trickled.get() > 0);
+            assertInstanceOf(UncheckedIOException.class, exceeded.getCause());
+        }
+    }
+
+    /**
+     * Answers the client list at once with an empty list, and a single client with a body that never ends.
+     */
+    private static void serve(ServerSocket server, AtomicInteger trickled) {
+        while (true) {
+            try (Socket socket = server.accept()) {
+                String requestLine = readRequest(socket.getInputStream());
+                OutputStream out = socket.getOutputStream();
+                if (requestLine.contains("/clients ")) {
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 2\r\n"
+                            + "Connection: close\r\n\r\n[]").getBytes(StandardCharsets.US_ASCII));
+                    continue;
+                }
+                out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 100000\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                while (true) {
+                    out.write(' ');
+                    out.flush();
+                    trickled.incrementAndGet();
+                    sleep(20);
+                }
+            } catch (IOException e) {
+                // The client aborted the request, or the test closed the server
+                if (server.isClosed()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a request up to the blank line ending its headers.
+     *
+     * @return The request line.
+     */
+    private static String readRequest(InputStream in) throws IOException {
+        StringBuilder head = new StringBuilder();
+        while (head.indexOf("\r\n\r\n") < 0) {
+            int next = in.read();
+            if (next < 0) {
+                throw new IOException("Connection closed before the end of the request");
+            }
+            head.append((char) next);
+        }
+        return head.substring(0, head.indexOf("\r\n"));
+    }
+
+    /**
+     * Creates a resilience layer for a fresh entity type, without backoff and with any setting overridden.
+     */
+    private RequestResilience resilience(Map<String, String> settings) {
+        String entityPath = "stub" + ENTITIES.incrementAndGet();
+        set("api.resilience." + entityPath + ".backoffBaseMillis", "0");
+        settings.forEach((name, value) -> set("api.resilience." + entityPath + "." + name, value));
+        return new RequestResilience(entityPath, ResiliencePolicy.forEntity(entityPath));
+    }
+
+    /**
+     * Creates a resilience layer hedging GET requests after 20 ms, with enough recorded latencies of the
+     * endpoint to start hedging.
+     */
+    private RequestResilience hedgedResilience(String path) {
+        String endpoint = RequestMetrics.endpointOf("GET", path);
+        for (int i = 0; i < 20; i++) {
+            RequestMetrics.runStats().record(new RequestTiming(endpoint, 200, 0, 0, 1_000_000, 1_000_000, 0, 0));
+        }
+        return resilience(Map.of("maxRetries", "0", "hedge.enabled", "true", "hedge.minDelayMillis", "20"));
+    }
+
+    private void set(String key, String value) {
+        System.setProperty(key, value);
+        properties.add(key);
+    }
+
+    /**
+     * Returns an attempt answering with the given statuses in turn, counting its calls.
+     */
+    private Supplier<Response> statuses(Integer... statuses) {
+        Deque<Integer> remaining = new ConcurrentLinkedDeque<>(List.of(statuses));
+        return () -> {
+            attempts.incrementAndGet();
+            return response(remaining.size() > 1 ? remaining.poll() : remaining.peek());
+        };
+    }
+
+    private static Response response(int status, Header... headers) {
+        return new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status)
+                .setHeaders(new Headers(headers))
+                .setBody("")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.api.framework.requests;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ResponseCacheTest class runs the cache filter in front of a stub filter standing in for the API: fresh hits,
+ * ETag revalidation, invalidation by writes, and GET requests racing writes to the same entity type.
+ */
+class ResponseCacheTest {
+    private static final String API = "http://127.0.0.1:40001/api/v1/";
+    private static final String CLIENTS = API + "clients";
+    private static final long WAIT_SECONDS = 10;
+
+    private final AtomicReference<String> data = new AtomicReference<>("v1");
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void servesFreshEntryWithoutContactingApi() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+
+        assertEquals("v1", get(cache, CLIENTS).asString());
+        assertEquals("v1", get(cache, CLIENTS).asString());
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void revalidatesStaleEntryWithETag() {
+        ResponseCache cache = new ResponseCache(10, 0);
+        AtomicReference<String> ifNoneMatch = new AtomicReference<>();
+        Filter api = respond(request -> {
+            ifNoneMatch.set(request.getHeaders().getValue("If-None-Match"));
+            String etag = "\"" + data.get() + "\"";
+            return etag.equals(ifNoneMatch.get()) ? response(304, "", etag) : response(200, data.get(), etag);
+        });
+
+        assertEquals("v1", get(cache, CLIENTS, api).asString());
+        assertNull(ifNoneMatch.get());
+
+        Response revalidated = get(cache, CLIENTS, api);
+        assertEquals("\"v1\"", ifNoneMatch.get());
+        assertEquals(200, revalidated.getStatusCode());
+        assertEquals("v1", revalidated.asString());
+        assertEquals(1, cache.getRevalidations());
+
+        data.set("v2");
+        assertEquals("v2", get(cache, CLIENTS, api).asString());
+        assertEquals("v2", get(cache, CLIENTS, api).asString());
+        assertEquals(2, cache.getRevalidations());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void writeInvalidatesEveryUrlOfItsEntityType() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        get(cache, CLIENTS);
+        get(cache, CLIENTS + "/1");
+        get(cache, API + "resources");
+
+        send(cache, "PUT", CLIENTS + "/1", api());
+        get(cache, CLIENTS);
+        get(cache, CLIENTS + "/1");
+        get(cache, API + "resources");
+
+        assertEquals(6, calls.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    void doesNotStoreNoStoreOrErrorResponses() {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        Filter noStore = respond(request -> new ResponseBuilder().clone(response(200, data.get(), null))
+                .setHeader("Cache-Control", "no-store").build());
+        Filter notFound = respond(request -> response(404, "", null));
+
+        get(cache, CLIENTS, noStore);
+        get(cache, CLIENTS, noStore);
+        get(cache, CLIENTS + "/9", notFound);
+        get(cache, CLIENTS + "/9", notFound);
+
+        assertEquals(4, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getRacingWriteDoesNotStoreResponseReadBeforeWrite() throws Exception {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        CountDownLatch readTaken = new CountDownLatch(1);
+        CountDownLatch writeDone = new CountDownLatch(1);
+        // The API reads the old data, then the write lands before the response gets back to the cache
+        Filter slowRead = respond(request -> {
+            Response old = response(200, data.get(), null);
+            readTaken.countDown();
+            await(writeDone);
+            return old;
+        });
+
+        CompletableFuture<Response> read = CompletableFuture.supplyAsync(() -> get(cache, CLIENTS, slowRead));
+        await(readTaken);
+        send(cache, "PUT", CLIENTS + "/1", respond(request -> {
+            data.set("v2");
+            return response(200, "", null);
+        }));
+        writeDone.countDown();
+
+        assertEquals("v1", read.get(WAIT_SECONDS, TimeUnit.SECONDS).asString());
+        assertEquals("v2", get(cache, CLIENTS).asString());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void getDuringWriteDoesNotStoreResponse() throws Exception {
+        ResponseCache cache = new ResponseCache(10, 60_000);
+        CountDownLatch writeSent = new CountDownLatch(1);
+        CountDownLatch readDone = new CountDownLatch(1);
+        // The write is in flight at the API, which has not applied it yet when the read is answered
+        Filter slowWrite = respond(request -> {
+            writeSent.countDown();
+            await(readDone);
+            data.set("v2");
+            return response(200, "", null);
+        });
+
+        CompletableFuture<Response> write = CompletableFuture.supplyAsync(() -> send(cache, "DELETE", CLIENTS + "/1", slowWrite));
+        await(writeSent);
+        assertEquals("v1", get(cache, CLIENTS).asString());
+        readDone.countDown();
+        write.get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals("v2", get(cache, CLIENTS).asString());
+        assertEquals(0, cache.getHits());
+        assertTrue(cache.size() <= 1);
+    }
+
+    private Response get(ResponseCache cache, String url) {
+        return get(cache, url, api());
+    }
+
+    private static Response get(ResponseCache cache, String url, Filter api) {
+        return send(cache, "GET", url, api);
+    }
+
+    private static Response send(ResponseCache cache, String method, String url, Filter api) {
+        return RestAssured.given()
+                .filter(cache.filter())
+                .filter(api)
+                .request(method, url);
+    }
+
+    /**
+     * Returns a stub API answering every request with the current data.
+     */
+    private Filter api() {
+        return respond(request -> response(200, data.get(), null));
+    }
+
+    /**
+     * Returns a stub API answering requests with a function, and counting them.
+     */
+    private Filter respond(Function<FilterableRequestSpecification, Response> handler) {
+        return (requestSpec, responseSpec, context) -> {
+            calls.incrementAndGet();
+            return handler.apply(requestSpec);
+        };
+    }
+
+    private static Response response(int status, String body, String etag) {
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status)
+                .setContentType("text/plain")
+                .setBody(body);
+        if (etag != null) {
+            builder.setHeader("ETag", etag);
+        }
+        return builder.build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(WAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the other request");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
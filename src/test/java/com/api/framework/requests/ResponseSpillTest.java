@@ -0,0 +1,109 @@
+package com.api.framework.requests;
+
+import com.api.framework.models.Client;
+import com.api.framework.utils.JsonStreamDecoder;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ResponseSpillTest class checks which bodies stay on the heap and which are spilled at the edge of
+ * {@code api.spill.thresholdBytes}, answered by a stub filter instead of a server, and decodes spilled lists with
+ * {@link JsonStreamDecoder}.
+ */
+class ResponseSpillTest {
+    private static final String CLIENTS = "http://127.0.0.1:40001/api/v1/clients";
+
+    @Test
+    void keepsBodyAtThresholdOnHeap() {
+        byte[] body = body(ResponseSpill.getThresholdBytes());
+
+        Object content = ResponseSpill.contentOf(new ByteArrayInputStream(body));
+
+        assertInstanceOf(byte[].class, content);
+        assertEquals(body.length, ((byte[]) content).length);
+    }
+
+    @Test
+    void spillsBodyAboveThreshold() throws IOException {
+        byte[] body = body(ResponseSpill.getThresholdBytes() + 1);
+        Object content = ResponseSpill.contentOf(new ByteArrayInputStream(body));
+
+        SpilledBody spilled = assertInstanceOf(SpilledBody.class, content);
+
+        assertEquals(body.length, spilled.size());
+        assertArrayEquals(body, Files.readAllBytes(spilled.getFile()));
+        assertArrayEquals(Arrays.copyOf(body, 8), spilled.head(8));
+    }
+
+    @Test
+    void filterSpillsOnlyOversizedBodies() throws IOException {
+        int threshold = ResponseSpill.getThresholdBytes();
+        Response small = get(body(threshold));
+        Response large = get(body(threshold + 1));
+
+        assertFalse(ResponseSpill.isSpilled(small));
+        assertEquals(threshold, ResponseSpill.sizeOf(small));
+        assertTrue(ResponseSpill.isSpilled(large));
+        assertEquals(threshold + 1, ResponseSpill.sizeOf(large));
+        assertArrayEquals(new byte[]{'a', 'b'}, ResponseSpill.head(large, 2));
+        try (InputStream input = ResponseSpill.open(large)) {
+            assertEquals(threshold + 1, input.transferTo(OutputStream.nullOutputStream()));
+        }
+    }
+
+    @Test
+    void decodesSpilledList() {
+        String json = "[{\"id\":\"1\",\"name\":\"Laura\"},{\"id\":\"2\",\"name\":\"Diego\"}]";
+        SpilledBody spilled = ResponseSpill.spill(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+
+        List<Client> clients = JsonStreamDecoder.readList(spilled.open(), Client.class);
+        List<String> streamed;
+        try (Stream<Client> stream = JsonStreamDecoder.stream(spilled, Client.class)) {
+            streamed = stream.map(Client::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("Laura", "Diego"), clients.stream().map(Client::getName).collect(Collectors.toList()));
+        assertEquals(List.of("1", "2"), streamed);
+        assertEquals(json, new String(spilled.head(json.length()), StandardCharsets.UTF_8));
+    }
+
+    private static Response get(byte[] body) {
+        return RestAssured.given()
+                .filter(ResponseSpill.filter())
+                .filter((requestSpec, responseSpec, context) -> new ResponseBuilder()
+                        .setStatusCode(200)
+                        .setStatusLine("HTTP/1.1 200 OK")
+                        .setContentType("application/octet-stream")
+                        .setBody(body)
+                        .build())
+                .get(CLIENTS);
+    }
+
+    private static byte[] body(int size) {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,104 @@
+package com.api.framework.requests;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SpilledBodyTest class reads bodies mapped from files: the shared stream rewinding when closed, independent
+ * streams from {@code open()}, and reads and skips crossing the boundaries between mapped chunks.
+ */
+class SpilledBodyTest {
+    private static final long GIB = 1L << 30;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void closeRewindsSharedStream() throws IOException {
+        SpilledBody body = new SpilledBody(write("0123456789"));
+
+        assertEquals("0123", read(body, 4));
+        body.close();
+        assertEquals("0123456789", new String(body.readAllBytes(), StandardCharsets.US_ASCII));
+        assertEquals(-1, body.read());
+        body.close();
+        assertEquals('0', body.read());
+    }
+
+    @Test
+    void openedStreamsAreIndependent() throws IOException {
+        SpilledBody body = new SpilledBody(write("0123456789"));
+        assertEquals("01", read(body, 2));
+
+        try (InputStream first = body.open(); InputStream second = body.open()) {
+            assertEquals("012", read(first, 3));
+            assertEquals("0", read(second, 1));
+            first.close();
+            assertEquals("3456789", new String(first.readAllBytes(), StandardCharsets.US_ASCII));
+            assertEquals("123", read(second, 3));
+        }
+        assertEquals("23", read(body, 2));
+        assertEquals(10, body.size());
+    }
+
+    @Test
+    void readsAcrossChunkBoundaries() throws IOException {
+        Path file = write("0123456789");
+
+        try (SpilledBody body = new SpilledBody(file, 4)) {
+            assertEquals("0123456789", new String(body.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+        try (SpilledBody body = new SpilledBody(file, 4)) {
+            byte[] buffer = new byte[10];
+            assertEquals(4, body.read(buffer, 0, 10));
+            assertEquals(4, body.available());
+            assertEquals(3, body.skip(3));
+            assertEquals('7', body.read());
+            assertEquals(2, body.read(buffer, 0, 10));
+            assertEquals(-1, body.read(buffer, 0, 10));
+            assertEquals(0, body.available());
+        }
+        try (SpilledBody body = new SpilledBody(file, 4)) {
+            assertEquals(9, body.skip(9));
+            assertEquals('9', body.read());
+            assertEquals(0, body.skip(1));
+        }
+        assertArrayEquals("012345".getBytes(StandardCharsets.US_ASCII), new SpilledBody(file, 3).head(6));
+    }
+
+    @Test
+    void readsAcrossGibibyteChunks() throws IOException {
+        Path file = directory.resolve("sparse.tmp");
+        try (RandomAccessFile output = new RandomAccessFile(file.toFile(), "rw")) {
+            // Sparse file: only the bytes around the first chunk boundary are written
+            output.setLength(GIB + 2);
+            output.seek(GIB - 2);
+            output.write("abcd".getBytes(StandardCharsets.US_ASCII));
+        }
+
+        try (SpilledBody body = new SpilledBody(file)) {
+            assertEquals(GIB + 2, body.size());
+            assertEquals(GIB - 2, body.skip(GIB - 2));
+            assertEquals("abcd", read(body, 4));
+            assertEquals(-1, body.read());
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(Files.createTempFile(directory, "body-", ".tmp"), content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String read(InputStream input, int count) throws IOException {
+        return new String(input.readNBytes(count), StandardCharsets.US_ASCII);
+    }
+}
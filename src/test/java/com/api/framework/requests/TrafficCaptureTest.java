@@ -0,0 +1,113 @@
+package com.api.framework.requests;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * TrafficCaptureTest class captures exchanges answered by a stub filter instead of a server and reads back the
+ * HAR entries: bodies cut at a character boundary with their full size, failed requests, and the summary.
+ */
+class TrafficCaptureTest {
+    private static final String CLIENTS = "http://127.0.0.1:40001/api/v1/clients";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cutsBodiesAtCharacterBoundary() throws IOException {
+        TrafficCapture capture = new TrafficCapture(directory.resolve("traffic.har.jsonl"), 1, 5, 16);
+
+        // "€" takes three bytes and "é" two, so five bytes end inside the second character of each body
+        RestAssured.given()
+                .filter(capture.filter())
+                .filter((requestSpec, responseSpec, context) -> answer(200, "aaaa€€"))
+                .body("ééé".getBytes(StandardCharsets.UTF_8))
+                .post(CLIENTS);
+        JsonObject entry = readEntries(capture).get(0);
+
+        JsonObject request = entry.getAsJsonObject("request");
+        assertEquals(6, request.get("bodySize").getAsLong());
+        assertEquals("éé... (6 bytes)", request.getAsJsonObject("postData").get("text").getAsString());
+        JsonObject content = entry.getAsJsonObject("response").getAsJsonObject("content");
+        assertEquals(10, content.get("size").getAsLong());
+        assertEquals("aaaa... (10 bytes)", content.get("text").getAsString());
+    }
+
+    @Test
+    void keepsBodiesWithinLimitWhole() throws IOException {
+        TrafficCapture capture = new TrafficCapture(directory.resolve("traffic.har.jsonl"), 1, 7, 16);
+
+        RestAssured.given()
+                .filter(capture.filter())
+                .filter((requestSpec, responseSpec, context) -> answer(404, "aaaa€"))
+                .get(CLIENTS + "/1");
+        JsonObject response = readEntries(capture).get(0).getAsJsonObject("response");
+
+        assertEquals(404, response.get("status").getAsInt());
+        assertEquals("Not Found", response.get("statusText").getAsString());
+        assertEquals("aaaa€", response.getAsJsonObject("content").get("text").getAsString());
+    }
+
+    @Test
+    void capturesFailedRequests() throws IOException {
+        TrafficCapture capture = new TrafficCapture(directory.resolve("traffic.har.jsonl"), 0, 16, 16);
+
+        try {
+            RestAssured.given()
+                    .filter(capture.filter())
+                    .filter((requestSpec, responseSpec, context) -> {
+                        throw new IllegalStateException("connection reset");
+                    })
+                    .get(CLIENTS);
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        JsonObject response = readEntries(capture).get(0).getAsJsonObject("response");
+
+        assertEquals(0, response.get("status").getAsInt());
+        assertEquals("java.lang.IllegalStateException: connection reset", response.get("_error").getAsString());
+        assertEquals("Traffic capture: 1 written, 0 dropped, 0 failed, 0 sampled out to "
+                + capture.getFile(), capture.summary());
+    }
+
+    @Test
+    void previewCutsAtCharacterBoundary() {
+        String body = "a".repeat(4095) + "€";
+
+        String preview = TrafficCapture.preview(answer(200, body));
+
+        assertEquals("a".repeat(4095) + "... (4098 bytes)", preview);
+        assertFalse(preview.contains("\uFFFD"));
+    }
+
+    private static List<JsonObject> readEntries(TrafficCapture capture) throws IOException {
+        capture.close();
+        return Files.readAllLines(capture.getFile(), StandardCharsets.UTF_8).stream()
+                .map(line -> JsonParser.parseString(line).getAsJsonObject())
+                .collect(Collectors.toList());
+    }
+
+    private static Response answer(int status, String body) {
+        return new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status + (status == 404 ? " Not Found" : " OK"))
+                .setContentType("application/json")
+                .setBody(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+}
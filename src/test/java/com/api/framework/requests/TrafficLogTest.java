@@ -0,0 +1,152 @@
+package com.api.framework.requests;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * TrafficLogTest class records exchanges through the recording filter, without any network access, and
+ * replays them from the file: round-trip of status, headers and body, repeated keys in order, request bodies
+ * in the key and recordings cut short by a crash.
+ */
+class TrafficLogTest {
+    private static final String CLIENTS = "http://127.0.0.1:40001/api/v1/clients";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordedExchange() {
+        Path file = directory.resolve("traffic.log");
+        TrafficLog recording = TrafficLog.create(file);
+        send(recording, "GET", CLIENTS + "?page=1&limit=2", null, answer(200, "[{\"id\":\"1\"}]"));
+
+        TrafficLog replay = TrafficLog.open(file);
+        Response response = next(replay, "GET", "http://other-host:8080/api/v1/clients?page=1&limit=2", null);
+
+        assertNotNull(response);
+        assertEquals(200, response.getStatusCode());
+        assertEquals("HTTP/1.1 200", response.getStatusLine());
+        assertEquals("abc", response.getHeader("ETag"));
+        assertEquals("[{\"id\":\"1\"}]", response.asString());
+        assertEquals("1", response.jsonPath().getString("[0].id"));
+        assertEquals(1, replay.getKeyCount());
+    }
+
+    @Test
+    void servesRepeatedKeyInRecordedOrderThenLast() {
+        Path file = directory.resolve("traffic.log");
+        TrafficLog recording = TrafficLog.create(file);
+        send(recording, "GET", CLIENTS, null, answer(200, "[]"), answer(200, "[1]"), answer(200, "[1,2]"));
+
+        TrafficLog replay = TrafficLog.open(file);
+
+        assertEquals("[]", next(replay, "GET", CLIENTS, null).asString());
+        assertEquals("[1]", next(replay, "GET", CLIENTS, null).asString());
+        assertEquals("[1,2]", next(replay, "GET", CLIENTS, null).asString());
+        assertEquals("[1,2]", next(replay, "GET", CLIENTS, null).asString());
+    }
+
+    @Test
+    void keysRequestsByBody() {
+        Path file = directory.resolve("traffic.log");
+        TrafficLog recording = TrafficLog.create(file);
+        send(recording, "POST", CLIENTS, "{\"name\":\"a\"}", answer(201, "{\"id\":\"1\"}"));
+        send(recording, "POST", CLIENTS, "{\"name\":\"b\"}", answer(201, "{\"id\":\"2\"}"));
+
+        TrafficLog replay = TrafficLog.open(file);
+
+        assertEquals("{\"id\":\"2\"}", next(replay, "POST", CLIENTS, "{\"name\":\"b\"}").asString());
+        assertEquals("{\"id\":\"1\"}", next(replay, "POST", CLIENTS, "{\"name\":\"a\"}").asString());
+        assertNull(next(replay, "POST", CLIENTS, "{\"name\":\"c\"}"));
+        assertNull(next(replay, "DELETE", CLIENTS + "/1", null));
+    }
+
+    @Test
+    void ignoresTruncatedTrailingRecord() throws IOException {
+        Path file = directory.resolve("traffic.log");
+        TrafficLog recording = TrafficLog.create(file);
+        send(recording, "GET", CLIENTS + "/1", null, answer(200, "{\"id\":\"1\"}"));
+        long complete = Files.size(file);
+        send(recording, "GET", CLIENTS + "/2", null, answer(200, "{\"id\":\"2\"}"));
+
+        for (long cut : new long[]{Files.size(file) - 1, complete + 2}) {
+            Path truncated = directory.resolve("truncated-" + cut + ".log");
+            Files.copy(file, truncated);
+            try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+                channel.truncate(cut);
+            }
+
+            TrafficLog replay = TrafficLog.open(truncated);
+
+            assertEquals(1, replay.getKeyCount());
+            assertEquals("{\"id\":\"1\"}", next(replay, "GET", CLIENTS + "/1", null).asString());
+            assertNull(next(replay, "GET", CLIENTS + "/2", null));
+        }
+    }
+
+    @Test
+    void rejectsFileWithoutMagicHeader() throws IOException {
+        Path file = directory.resolve("not-a-log.txt");
+        Files.write(file, "GET /api/v1/clients".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> TrafficLog.open(file));
+    }
+
+    @Test
+    void separatesRecordingAndReplay() {
+        Path file = directory.resolve("traffic.log");
+        TrafficLog recording = TrafficLog.create(file);
+
+        assertThrows(IllegalStateException.class, () -> next(recording, "GET", CLIENTS, null));
+        assertThrows(IllegalStateException.class, () -> TrafficLog.open(file).recordingFilter());
+    }
+
+    /**
+     * Sends requests through the recording filter, answered in turn by the given responses instead of a server.
+     */
+    private static void send(TrafficLog recording, String method, String url, String body, Response... answers) {
+        Deque<Response> pending = new ArrayDeque<>(List.of(answers));
+        Filter server = (requestSpec, responseSpec, context) -> pending.removeFirst();
+        while (!pending.isEmpty()) {
+            RestAssured.given()
+                    .filter(recording.recordingFilter())
+                    .filter(server)
+                    .body(body == null ? "" : body)
+                    .request(method, url);
+        }
+    }
+
+    private static Response next(TrafficLog replay, String method, String url, String body) {
+        return replay.next(method, url, body, RestAssuredConfig.config());
+    }
+
+    private static Response answer(int status, String body) {
+        return new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status)
+                .setHeader("ETag", "abc")
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
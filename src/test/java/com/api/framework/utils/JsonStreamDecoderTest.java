@@ -0,0 +1,98 @@
+package com.api.framework.utils;
+
+import com.api.framework.models.Client;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JsonStreamDecoderTest class checks that list bodies decode element by element, and that bodies which are not
+ * JSON arrays fail with the documented exception and release their stream.
+ */
+class JsonStreamDecoderTest {
+
+    @Test
+    void decodesEveryElement() {
+        List<Client> clients = JsonStreamDecoder.readList(
+                input("[{\"id\":\"1\",\"name\":\"Laura\"},{\"id\":\"2\",\"name\":\"Diego\"}]"), Client.class);
+
+        assertEquals(List.of("Laura", "Diego"), clients.stream().map(Client::getName).collect(Collectors.toList()));
+        assertTrue(JsonStreamDecoder.readList(input("[]"), Client.class).isEmpty());
+    }
+
+    @Test
+    void rejectsBodyThatIsNotAnArray() {
+        for (String body : new String[]{"\"Not found\"", "{\"id\":\"1\"}"}) {
+            TrackedInput input = new TrackedInput(body);
+
+            assertThrows(UncheckedIOException.class, () -> JsonStreamDecoder.readList(input, Client.class));
+            assertTrue(input.closed, body);
+        }
+    }
+
+    @Test
+    void rejectsElementOfWrongShape() {
+        TrackedInput input = new TrackedInput("[{\"id\":\"1\"},[1,2]]");
+        JsonStreamDecoder.ElementIterator<Client> iterator = JsonStreamDecoder.iterator(input, Client.class);
+
+        assertEquals("1", iterator.next().getId());
+        assertThrows(UncheckedIOException.class, iterator::next);
+        assertTrue(input.closed);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void streamsNullElements() {
+        try (Stream<Client> clients = JsonStreamDecoder.stream(input("[null,{\"id\":\"2\"}]"), Client.class)) {
+            List<Client> decoded = clients.collect(Collectors.toList());
+
+            assertEquals(2, decoded.size());
+            assertNull(decoded.get(0));
+            assertEquals(1, decoded.stream().filter(Objects::nonNull).count());
+        }
+    }
+
+    @Test
+    void closingStreamClosesInput() {
+        TrackedInput input = new TrackedInput("[{\"id\":\"1\"},{\"id\":\"2\"}]");
+        try (Stream<Client> clients = JsonStreamDecoder.stream(input, Client.class)) {
+            assertEquals("1", clients.findFirst().map(Client::getId).orElse(null));
+            assertFalse(input.closed);
+        }
+
+        assertTrue(input.closed);
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * An in-memory stream remembering whether it was closed.
+     */
+    private static final class TrackedInput extends ByteArrayInputStream {
+        private boolean closed;
+
+        private TrackedInput(String json) {
+            super(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.api.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SchemaFingerprintCacheTest class checks that documents only share a fingerprint when the schema cannot
+ * tell them apart, and that a cached shape never lets an invalid value through.
+ */
+class SchemaFingerprintCacheTest {
+    private static final String ORDER = "schemas/unit/orderSchema.json";
+    private static final String VALID_ORDER = "{\"note\":\"first\",\"status\":\"open\",\"code\":\"ABC\",\"lines\":[1,2]}";
+
+    @BeforeEach
+    void clearCache() {
+        SchemaFingerprintCache.clear();
+    }
+
+    @Test
+    void unconstrainedValuesShareFingerprint() throws IOException {
+        String schema = "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}";
+
+        assertEquals(fingerprint("{\"name\":\"a\"}", schema), fingerprint("{\"name\":\"b\"}", schema));
+    }
+
+    @Test
+    void listsOfSameShapeShareFingerprintWhateverTheirLength() throws IOException {
+        String schema = "{\"type\":\"array\",\"items\":{\"type\":\"integer\"}}";
+
+        assertEquals(fingerprint("[1]", schema), fingerprint("[1,2,3,4]", schema));
+    }
+
+    @Test
+    void enumValuesDoNotShareFingerprint() throws IOException {
+        String schema = "{\"type\":\"object\",\"properties\":{\"status\":{\"type\":\"string\",\"enum\":[\"open\",\"closed\"]}}}";
+
+        assertNotEquals(fingerprint("{\"status\":\"open\"}", schema), fingerprint("{\"status\":\"pending\"}", schema));
+    }
+
+    @Test
+    void patternValuesDoNotShareFingerprint() throws IOException {
+        String schema = "{\"type\":\"object\",\"properties\":{\"code\":{\"type\":\"string\",\"pattern\":\"^[A-Z]{3}$\"}}}";
+
+        assertNotEquals(fingerprint("{\"code\":\"ABC\"}", schema), fingerprint("{\"code\":\"abc\"}", schema));
+    }
+
+    @Test
+    void listLengthsDoNotShareFingerprintUnderMinItems() throws IOException {
+        String schema = "{\"type\":\"array\",\"minItems\":2,\"items\":{\"type\":\"integer\"}}";
+
+        assertNotEquals(fingerprint("[1,2]", schema), fingerprint("[1]", schema));
+    }
+
+    @Test
+    void integersAndFractionsDoNotShareFingerprint() throws IOException {
+        String schema = "{\"type\":\"object\",\"properties\":{\"count\":{\"type\":\"integer\"}}}";
+
+        assertNotEquals(fingerprint("{\"count\":1}", schema), fingerprint("{\"count\":1.5}", schema));
+    }
+
+    @Test
+    void skipsValidationOfKnownShape() {
+        assertTrue(SchemaFingerprintCache.matches(VALID_ORDER, ORDER));
+        assertTrue(SchemaFingerprintCache.matches(VALID_ORDER.replace("first", "second"), ORDER));
+
+        assertEquals(1, SchemaFingerprintCache.getMisses());
+        assertEquals(1, SchemaFingerprintCache.getHits());
+    }
+
+    @Test
+    void rejectsInvalidValuesAfterValidShapeWasCached() {
+        assertTrue(SchemaFingerprintCache.matches(VALID_ORDER, ORDER));
+
+        assertFalse(SchemaFingerprintCache.matches(VALID_ORDER.replace("open", "pending"), ORDER));
+        assertFalse(SchemaFingerprintCache.matches(VALID_ORDER.replace("ABC", "abc"), ORDER));
+        assertFalse(SchemaFingerprintCache.matches(VALID_ORDER.replace("[1,2]", "[1]"), ORDER));
+        assertEquals(0, SchemaFingerprintCache.getHits());
+    }
+
+    @Test
+    void doesNotCacheInvalidShape() {
+        String invalid = VALID_ORDER.replace("\"ABC\"", "7");
+
+        assertFalse(SchemaFingerprintCache.matches(invalid, ORDER));
+        assertFalse(SchemaFingerprintCache.matches(invalid, ORDER));
+        assertEquals(2, SchemaFingerprintCache.getMisses());
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertFalse(SchemaFingerprintCache.matches("{\"status\":", ORDER));
+    }
+
+    private static String fingerprint(String json, String schema) throws IOException {
+        JsonNode document = JsonLoader.fromString(json);
+        return SchemaFingerprintCache.fingerprint(document, JsonLoader.fromString(schema));
+    }
+}
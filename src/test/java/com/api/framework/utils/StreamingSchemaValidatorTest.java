@@ -0,0 +1,150 @@
+package com.api.framework.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * StreamingSchemaValidatorTest class checks element-wise validation of list bodies: list constraints,
+ * violation pointers, the violation cap and malformed input.
+ */
+class StreamingSchemaValidatorTest {
+    private static final String ITEM_LIST = "schemas/unit/itemListSchema.json";
+    private static final String BOUNDED_LIST = "schemas/unit/boundedListSchema.json";
+    private static final String UNIQUE_LIST = "schemas/unit/uniqueListSchema.json";
+
+    @Test
+    void acceptsValidList() {
+        SchemaValidationResult result = validate("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]", ITEM_LIST, 10);
+
+        assertTrue(result.isValid(), result.toString());
+        assertTrue(result.isStreamed());
+        assertFalse(result.isTruncated());
+        assertEquals(2, result.getElementCount());
+    }
+
+    @Test
+    void reportsPointersIntoElements() {
+        SchemaValidationResult result = validate("[{\"id\":1,\"name\":\"a\"},{\"name\":\"b\"},{\"id\":3,\"name\":7}]", ITEM_LIST, 10);
+
+        assertEquals(List.of("/1", "/2/name"), pointers(result));
+        assertEquals(List.of("required", "type"),
+                result.getViolations().stream().map(SchemaViolation::getKeyword).collect(Collectors.toList()));
+        assertEquals(3, result.getElementCount());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void checksMinItems() {
+        SchemaValidationResult result = validate("[{\"id\":1}]", BOUNDED_LIST, 10);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("minItems", result.getViolations().get(0).getKeyword());
+        assertEquals("", result.getViolations().get(0).getPointer());
+    }
+
+    @Test
+    void checksMaxItems() {
+        SchemaValidationResult result = validate("[{\"id\":1},{\"id\":2},{\"id\":3},{\"id\":4}]", BOUNDED_LIST, 10);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("maxItems", result.getViolations().get(0).getKeyword());
+        assertEquals(4, result.getElementCount());
+    }
+
+    @Test
+    void acceptsListWithinBounds() {
+        assertTrue(validate("[{\"id\":1},{\"id\":2},{\"id\":3}]", BOUNDED_LIST, 10).isValid());
+    }
+
+    @Test
+    void stopsAtViolationCap() {
+        SchemaValidationResult result = validate("[{\"id\":\"a\"},{\"id\":\"b\"},{\"id\":\"c\"},{\"id\":\"d\"}]", BOUNDED_LIST, 2);
+
+        assertEquals(List.of("/0/id", "/1/id"), pointers(result));
+        assertTrue(result.isTruncated());
+        assertEquals(2, result.getElementCount());
+    }
+
+    @Test
+    void isNotTruncatedWhenCapIsReachedAtLastElement() {
+        SchemaValidationResult result = validate("[{\"id\":\"a\"},{\"id\":\"b\"}]", BOUNDED_LIST, 2);
+
+        assertEquals(2, result.getViolations().size());
+        assertFalse(result.isTruncated());
+        assertEquals(2, result.getElementCount());
+    }
+
+    @Test
+    void isTruncatedWhenListConstraintExceedsCap() {
+        SchemaValidationResult result = validate("[{\"id\":\"a\"}]", BOUNDED_LIST, 1);
+
+        assertEquals(List.of("/0/id"), pointers(result));
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void isTruncatedWhenElementHasMoreViolationsThanCap() {
+        SchemaValidationResult result = validate("[{\"id\":1,\"name\":\"a\"},{\"id\":\"x\",\"name\":5}]", ITEM_LIST, 1);
+
+        assertEquals(1, result.getViolations().size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void reportsMalformedElement() {
+        SchemaValidationResult result = validate("[{\"id\":1,\"name\":\"a\"},{\"id\":", ITEM_LIST, 10);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("/1", result.getViolations().get(0).getPointer());
+        assertTrue(result.getViolations().get(0).getMessage().startsWith("not valid JSON"), result.toString());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void reportsNonArrayRoot() {
+        SchemaValidationResult result = validate("{\"id\":1}", ITEM_LIST, 10);
+
+        assertEquals(1, result.getViolations().size());
+        assertEquals("type", result.getViolations().get(0).getKeyword());
+        assertEquals("instance type (object) is not an array", result.getViolations().get(0).getMessage());
+    }
+
+    @Test
+    void validatesWholeTreeForNonListSchema() {
+        assertFalse(StreamingSchemaValidator.isStreamable(UNIQUE_LIST));
+        assertFalse(StreamingSchemaValidator.shouldStream(Long.MAX_VALUE, UNIQUE_LIST));
+
+        SchemaValidationResult duplicates = validate("[1,1]", UNIQUE_LIST, 10);
+        assertFalse(duplicates.isValid());
+        assertFalse(duplicates.isStreamed());
+        assertEquals(-1, duplicates.getElementCount());
+    }
+
+    @Test
+    void treeValidationWithExactlyCapViolationsIsNotTruncated() {
+        SchemaValidationResult complete = validate("[\"a\",\"b\"]", UNIQUE_LIST, 2);
+        assertEquals(List.of("/0", "/1"), pointers(complete));
+        assertFalse(complete.isTruncated());
+
+        SchemaValidationResult capped = validate("[\"a\",\"b\"]", UNIQUE_LIST, 1);
+        assertEquals(List.of("/0"), pointers(capped));
+        assertTrue(capped.isTruncated());
+    }
+
+    private static SchemaValidationResult validate(String json, String schemaPath, int maxViolations) {
+        return StreamingSchemaValidator.validate(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                schemaPath, maxViolations);
+    }
+
+    private static List<String> pointers(SchemaValidationResult result) {
+        return result.getViolations().stream().map(SchemaViolation::getPointer).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.testing.framework.context;
+
+import com.api.framework.data.DataNamespace;
+import com.api.framework.requests.ClientRequest;
+import com.api.framework.requests.ResourceRequest;
+import com.api.framework.server.ApiTarget;
+
+/**
+ * ScenarioContext class holds the configuration and test data of one Cucumber scenario.
+ * <p>
+ * Cucumber's PicoContainer integration creates one instance per scenario and injects it into every step
+ * definition and hook class that takes it as a constructor argument. The request helpers target the API
+ * selected by {@link ApiTarget} without touching the RestAssured statics, and the {@link DataNamespace}
+ * is isolated when {@code api.data.isolation=true}, so scenarios can run in parallel.
+ * </p>
+ * Example usage:
+ * {@code
+ * public ClientSteps(ScenarioContext context) {
+ *     this.clientRequest = context.getClientRequest();
+ * }
+ * }
+ */
+public class ScenarioContext {
+    private final String baseUrl = ApiTarget.baseUrl();
+    private final ClientRequest clientRequest = new ClientRequest(baseUrl);
+    private final ResourceRequest resourceRequest = new ResourceRequest(baseUrl);
+    private final DataNamespace namespace = DataNamespace.fromConfig();
+
+    /**
+     * Returns the base URL of the API the scenario runs against.
+     *
+     * @return The base URL.
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Returns the client request helper of the scenario.
+     *
+     * @return The client request helper.
+     */
+    public ClientRequest getClientRequest() {
+        return clientRequest;
+    }
+
+    /**
+     * Returns the resource request helper of the scenario.
+     *
+     * @return The resource request helper.
+     */
+    public ResourceRequest getResourceRequest() {
+        return resourceRequest;
+    }
+
+    /**
+     * Returns the namespace of the entities the scenario creates.
+     *
+     * @return The data namespace.
+     */
+    public DataNamespace getNamespace() {
+        return namespace;
+    }
+}
@@ -0,0 +1,31 @@
+package com.testing.framework.runners;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+import static io.cucumber.junit.platform.engine.Constants.FILTER_TAGS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.SNIPPET_TYPE_PROPERTY_NAME;
+
+/**
+ * ParallelTestRunner class runs the same features as {@link TestRunner} on the Cucumber JUnit Platform engine,
+ * which can run individual scenarios concurrently.
+ * <p>
+ * The {@code parallel} profile runs this suite instead of {@link TestRunner}. It enables
+ * {@code cucumber.execution.parallel.enabled} with {@code parallel.threadsPerCore} threads per core and
+ * sets {@code api.data.isolation=true}, so every scenario works on its own data.
+ * </p>
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.testing.framework.stepDefinitions")
+@ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "@active and @smoke")
+@ConfigurationParameter(key = SNIPPET_TYPE_PROPERTY_NAME, value = "camelcase")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty, pretty:target/cucumber/cucumber.txt, "
+        + "html:target/cucumber/cucumber-reports.html, json:target/cucumber/cucumber.json")
+public class ParallelTestRunner {
+}
@@ -1,7 +1,16 @@
 package com.testing.framework.stepDefinitions;
 
+import com.api.framework.data.DataNamespace;
+import com.api.framework.data.DataSeeder;
+import com.api.framework.data.SeedResult;
 import com.api.framework.models.Client;
+import com.api.framework.requests.BulkItemResult;
+import com.api.framework.requests.BulkResult;
+import com.api.framework.requests.ClientQuery;
 import com.api.framework.requests.ClientRequest;
+import com.api.framework.requests.TrafficCapture;
+import com.api.framework.utils.Constants;
+import com.testing.framework.context.ScenarioContext;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -13,83 +22,81 @@ import org.junit.Assert;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * ClientSteps class contains step definitions for Cucumber scenarios related to Client operations.
  * <p>
- * This class uses {@link ClientRequest} to perform API requests and validate responses.
+ * This class uses {@link ClientRequest} to perform API requests and validate responses. Client IDs written in
+ * the feature files are resolved through the scenario's {@link DataNamespace}, and only clients the namespace
+ * owns are looked up or deleted.
  * </p>
  */
 public class ClientSteps {
     private static final Logger logger = LogManager.getLogger(ClientSteps.class);
 
-    private final ClientRequest clientRequest = new ClientRequest();
+    private final ClientRequest clientRequest;
+    private final DataNamespace namespace;
 
     private Response response;
     private Client client;
 
+    /**
+     * Creates the client steps of a scenario.
+     *
+     * @param context The scenario context, injected by Cucumber.
+     */
+    public ClientSteps(ScenarioContext context) {
+        this.clientRequest = context.getClientRequest();
+        this.namespace = context.getNamespace();
+    }
+
     @Given("there are at least 10 registered clients in the system")
     public void thereAreAtLeast10RegisteredClientsInTheSystem() {
-        response = clientRequest.getClients();
-        logger.info(response.jsonPath().prettify());
-        Assert.assertEquals(200, response.statusCode());
-
-        List<Client> clientList = clientRequest.getClientsEntity(response);
-        while (clientList.size() < 10) {
-            response = clientRequest.createDefaultClient();
-            logger.info(response.statusCode());
-            Assert.assertEquals(201, response.statusCode());
-            clientList = clientRequest.getClientsEntity(clientRequest.getClients());
-        }
+        SeedResult result = DataSeeder.ensureClients(clientRequest, 10, namespace);
+        logger.info(result);
+    }
+
+    @Given("there are at least 10 registered clients in the system with the following details:")
+    public void thereAreAtLeast10RegisteredClientsWithTheFollowingDetails(DataTable clientData) {
+        Client template = toClient(clientData);
+        SeedResult result = DataSeeder.ensureClients(clientRequest, 10, namespace, template);
+        logger.info(result);
     }
 
     @Given("I have a client with the following details:")
     public void iHaveAClientWithTheFollowingDetails(DataTable clientData) {
-        Map<String, String> clientDataMap = clientData.asMaps().get(0);
-        client = Client.builder()
-                .name(clientDataMap.get("Name"))
-                .lastName(clientDataMap.get("LastName"))
-                .country(clientDataMap.get("Country"))
-                .city(clientDataMap.get("City"))
-                .id(clientDataMap.get("Id"))
-                .phone(clientDataMap.get("Phone"))
-                .email(clientDataMap.get("Email"))
-                .build();
-        logger.info("Client mapped: " + client);
+        client = toClient(clientData);
+        logger.info("Client mapped: {}", client);
     }
 
     @When("I retrieve the details of the client with id {string}")
     public void sendGETRequestId(String clientId) {
-        response = clientRequest.getClient(clientId);
-        logger.info(response.jsonPath().prettify());
-        logger.info("The status code is: " + response.statusCode());
+        response = clientRequest.getClient(namespace.resolve(Constants.CLIENTS_PATH, clientId));
+        logger.debug("Response body: {}", () -> TrafficCapture.preview(response));
+        logger.info("The status code is: {}", response.statusCode());
     }
 
     @When("I retrieve the details of the client with name {string}")
     public void sendGETRequest(String clientName) {
-        Response clientsResponse = clientRequest.getClients();
-
-        if (clientsResponse.getStatusCode() != 200) {
-            logger.error("Failed to fetch clients list");
-            Assert.fail("Failed to fetch clients list with status code: " + clientsResponse.getStatusCode());
-            return;
+        Client matchedClient;
+        try (Stream<Client> clients = clientRequest.findClients(new ClientQuery().name(clientName))) {
+            matchedClient = clients
+                    .filter(client -> namespace.owns(Constants.CLIENTS_PATH, client.getId()))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Client with name " + clientName + " not found"));
         }
 
-        List<Client> clients = clientsResponse.jsonPath().getList("", Client.class);
-        Client matchedClient = clients.stream()
-                .filter(client -> clientName.equalsIgnoreCase(client.getName()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Client with name " + clientName + " not found"));
-
         String clientId = matchedClient.getId();
         response = clientRequest.getClient(clientId);
 
-        logger.info("Response Body: " + response.jsonPath().prettify());
-        logger.info("The status code is: " + response.statusCode());
+        logger.debug("Response body: {}", () -> TrafficCapture.preview(response));
+        logger.info("The status code is: {}", response.statusCode());
 
         if (response.getStatusCode() == 200) {
             this.client = response.as(Client.class);
-            logger.info("Client details retrieved: " + this.client);
+            logger.info("Client details retrieved: {}", this.client);
         } else {
             logger.error("Failed to fetch details for client with ID: " + clientId);
         }
@@ -103,7 +110,7 @@ public class ClientSteps {
     @When("I send a PUT request to update the client with ID {string}")
     public void iSendAPUTRequestToUpdateTheClientWithID(String clientId, String requestBody) {
         client = clientRequest.getClientEntity(requestBody);
-        response = clientRequest.updateClient(client, clientId);
+        response = clientRequest.updateClient(client, namespace.resolve(Constants.CLIENTS_PATH, clientId));
     }
 
     @Then("the client should have a status code of {int}")
@@ -120,7 +127,7 @@ public class ClientSteps {
         Assert.assertEquals(expectedDataMap.get("LastName"), client.getLastName());
         Assert.assertEquals(expectedDataMap.get("Country"), client.getCountry());
         Assert.assertEquals(expectedDataMap.get("City"), client.getCity());
-        Assert.assertEquals(expectedDataMap.get("Id"), client.getId());
+        Assert.assertEquals(namespace.resolve(Constants.CLIENTS_PATH, expectedDataMap.get("Id")), client.getId());
         Assert.assertEquals(expectedDataMap.get("Phone"), client.getPhone());
         Assert.assertEquals(expectedDataMap.get("Email"), client.getEmail());
     }
@@ -135,12 +142,16 @@ public class ClientSteps {
     @Then("I delete all the registered clients")
     public void iDeleteAllTheRegisteredClients() {
         response = clientRequest.getClients();
-        List<Client> clients = clientRequest.getClientsEntity(response);
-
-        for (Client cli : clients) {
-            response = clientRequest.deleteClient(cli.getId());
-            Assert.assertEquals(200, response.statusCode());
-            logger.info("Deleted client with ID: " + cli.getId());
+        List<String> clientIds = clientRequest.getClientsEntity(response).stream()
+                .map(Client::getId)
+                .filter(clientId -> namespace.owns(Constants.CLIENTS_PATH, clientId))
+                .collect(Collectors.toList());
+
+        BulkResult<String> result = clientRequest.deleteClients(clientIds);
+        result.assertAllSucceeded();
+        for (BulkItemResult<String> deleted : result.getResults()) {
+            response = deleted.getResponse();
+            logger.info("Deleted client with ID: " + deleted.getItem());
         }
     }
 
@@ -153,11 +164,14 @@ public class ClientSteps {
     @When("I send a POST request to create a client")
     public void iSendAPOSTRequestToCreateAClient() {
         response = clientRequest.createClient(client);
+        if (response.statusCode() == 201) {
+            namespace.register(Constants.CLIENTS_PATH, clientRequest.getClientEntity(response).getId());
+        }
     }
 
     @When("I send a DELETE request to delete the client with ID {string}")
     public void iSendADELETERequestToDeleteTheClientWithID(String clientId) {
-        response = clientRequest.deleteClient(clientId);
+        response = clientRequest.deleteClient(namespace.resolve(Constants.CLIENTS_PATH, clientId));
     }
 
     @Then("the response should include the details of the created client")
@@ -173,4 +187,23 @@ public class ClientSteps {
         Assert.assertTrue(clientRequest.validateSchema(response, path));
         logger.info("Successfully validated schema for Client List object");
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps the first row of a client table to a Client object.
+     *
+     * @param clientData The table, with the column names of the feature files.
+     * @return A new Client object.
+     */
+    private static Client toClient(DataTable clientData) {
+        Map<String, String> clientDataMap = clientData.asMaps().get(0);
+        return Client.builder()
+                .name(clientDataMap.get("Name"))
+                .lastName(clientDataMap.get("LastName"))
+                .country(clientDataMap.get("Country"))
+                .city(clientDataMap.get("City"))
+                .id(clientDataMap.get("Id"))
+                .phone(clientDataMap.get("Phone"))
+                .email(clientDataMap.get("Email"))
+                .build();
+    }
+}
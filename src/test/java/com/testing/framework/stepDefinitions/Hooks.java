@@ -1,26 +1,75 @@
 package com.testing.framework.stepDefinitions;
 
+import com.api.framework.data.DataNamespace;
+import com.api.framework.requests.BulkResult;
+import com.api.framework.requests.EndpointLatencyStats;
+import com.api.framework.requests.RequestMetrics;
+import com.api.framework.requests.RequestResilience;
+import com.api.framework.requests.ResponseCache;
+import com.api.framework.requests.ResponseSpill;
+import com.api.framework.requests.TrafficCapture;
+import com.api.framework.requests.TrafficLog;
+import com.api.framework.utils.ConfigReader;
 import com.api.framework.utils.Constants;
+import com.api.framework.utils.SchemaFingerprintCache;
+import com.api.framework.utils.SchemaRegistry;
+import com.testing.framework.context.ScenarioContext;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
-import io.restassured.RestAssured;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  * Hooks class contains setup and teardown methods for Cucumber scenarios.
  * <p>
- * This class is used to configure the test environment before and after each scenario.
+ * This class is used to configure the test environment before and after each scenario. Per-scenario
+ * state lives in the injected {@link ScenarioContext} rather than in static fields, so scenarios can run
+ * in parallel.
  * </p>
  */
 public class Hooks {
     private static final Logger logger = LogManager.getLogger(Hooks.class);
+    private static final Path LATENCY_REPORT_DIRECTORY = Path.of("target", "cucumber");
+    private final ScenarioContext context;
+    private EndpointLatencyStats scenarioLatency;
+
+    /**
+     * Creates the hooks of a scenario.
+     *
+     * @param context The scenario context, injected by Cucumber.
+     */
+    public Hooks(ScenarioContext context) {
+        this.context = context;
+    }
+
+    /**
+     * This method is executed once before any scenario.
+     * <p>
+     * It compiles every JSON schema under {@link Constants#SCHEMAS_DIRECTORY}, so no scenario pays
+     * the schema loading cost. Set {@code api.schema.preload=false} to compile schemas on first use instead.
+     * </p>
+     */
+    @BeforeAll
+    public static void preloadSchemas() {
+        if (ConfigReader.getBoolean("api.schema.preload", true)) {
+            int count = SchemaRegistry.preloadDirectory(Constants.SCHEMAS_DIRECTORY);
+            logger.info("Preloaded " + count + " JSON schemas");
+        }
+    }
 
     /**
      * This method is executed before each scenario.
      * <p>
-     * It sets up the base URI for RestAssured and logs the start of the scenario.
+     * It logs the start of the scenario with the API and data namespace it runs against, and starts collecting
+     * the scenario's request timings on the current thread.
      * </p>
      *
      * @param scenario The current Cucumber scenario.
@@ -29,22 +78,98 @@ public class Hooks {
     public void testStart(Scenario scenario) {
         logger.info("*****************************************************************************************");
         logger.info("    Scenario: " + scenario.getName());
+        logger.info("    API: " + context.getBaseUrl() + ", data namespace: " + context.getNamespace());
         logger.info("*****************************************************************************************");
-        RestAssured.baseURI = Constants.BASE_URL;
+        scenarioLatency = RequestMetrics.openScope();
     }
 
     /**
      * This method is executed after each scenario.
      * <p>
-     * It logs the completion of the scenario.
+     * It attaches the per-endpoint latency summary of the scenario to the Cucumber reports, deletes the
+     * entities an isolated data namespace still owns and logs the completion of the scenario.
      * </p>
      *
      * @param scenario The current Cucumber scenario.
      */
     @After
     public void cleanUp(Scenario scenario) {
+        RequestMetrics.closeScope(scenarioLatency);
+        if (!scenarioLatency.isEmpty()) {
+            scenario.attach(scenarioLatency.summary(), "text/plain", "Endpoint latency (ms)");
+        }
+        deleteNamespaceData(context.getNamespace());
         logger.info("*****************************************************************************************");
         logger.info("    Scenario finished: " + scenario.getName());
         logger.info("*****************************************************************************************");
     }
-}
\ No newline at end of file
+
+    /**
+     * Deletes the entities an isolated namespace created. Entities the scenario already deleted answer 404,
+     * which is expected and not reported.
+     *
+     * @param namespace The data namespace of the scenario.
+     */
+    private void deleteNamespaceData(DataNamespace namespace) {
+        if (!namespace.isIsolated()) {
+            return;
+        }
+        BulkResult<String> clients = context.getClientRequest().deleteClients(namespace.ids(Constants.CLIENTS_PATH));
+        BulkResult<String> resources = context.getResourceRequest().deleteResources(namespace.ids(Constants.RESOURCES_PATH));
+        namespace.clear();
+        logger.info("Deleted " + clients.getSuccessCount() + " clients and " + resources.getSuccessCount()
+                + " resources of data namespace " + namespace);
+    }
+
+    /**
+     * This method is executed once after all scenarios.
+     * <p>
+     * It logs one summary line per component that was active during the run:
+     * </p>
+     * <ul>
+     *   <li>Traffic capture, once the sampled traffic is written to the capture file.</li>
+     *   <li>Traffic log recording or replay.</li>
+     *   <li>Response cache and schema fingerprint cache.</li>
+     *   <li>Response bodies spilled to disk.</li>
+     *   <li>Retries, hedges, rejected calls and missed deadlines of the resilience layer.</li>
+     * </ul>
+     * <p>
+     * It then logs the per-endpoint latency summary of the whole run. The summary is also written next to the
+     * Cucumber reports, as {@code endpoint-latency.txt} and {@code endpoint-latency.json}, so runs can be compared.
+     * </p>
+     *
+     * @throws IOException if the summary files cannot be written.
+     */
+    @AfterAll
+    public static void writeRunLatency() throws IOException {
+        if (TrafficCapture.isEnabled()) {
+            TrafficCapture.shared().flush();
+            logger.info(TrafficCapture.shared().summary());
+        }
+        if (TrafficLog.isRecording() || TrafficLog.isReplaying()) {
+            logger.info(TrafficLog.shared().summary());
+        }
+        if (ResponseCache.isEnabled()) {
+            logger.info(ResponseCache.shared().summary());
+        }
+        if (SchemaFingerprintCache.isEnabled()) {
+            logger.info(SchemaFingerprintCache.summary());
+        }
+        if (ResponseSpill.getSpilledBodies() > 0) {
+            logger.info(ResponseSpill.summary());
+        }
+        String resilience = RequestResilience.runSummary();
+        if (!resilience.isEmpty()) {
+            logger.info(resilience);
+        }
+        EndpointLatencyStats runLatency = RequestMetrics.runStats();
+        if (runLatency.isEmpty()) {
+            return;
+        }
+        String summary = runLatency.summary();
+        logger.info("Endpoint latency for the run (ms):" + System.lineSeparator() + summary);
+        Files.createDirectories(LATENCY_REPORT_DIRECTORY);
+        Files.writeString(LATENCY_REPORT_DIRECTORY.resolve("endpoint-latency.txt"), summary, StandardCharsets.UTF_8);
+        Files.writeString(LATENCY_REPORT_DIRECTORY.resolve("endpoint-latency.json"), runLatency.toJson(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,15 @@
 package com.testing.framework.stepDefinitions;
 
+import com.api.framework.data.DataNamespace;
+import com.api.framework.data.DataSeeder;
+import com.api.framework.data.SeedResult;
 import com.api.framework.models.Resource;
+import com.api.framework.requests.BulkItemResult;
+import com.api.framework.requests.BulkResult;
 import com.api.framework.requests.ResourceRequest;
+import com.api.framework.requests.TrafficCapture;
+import com.api.framework.utils.Constants;
+import com.testing.framework.context.ScenarioContext;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -15,51 +23,55 @@ import java.util.List;
 /**
  * ManageResourceSteps class contains step definitions for Cucumber scenarios related to Resource operations.
  * <p>
- * This class uses {@link ResourceRequest} to perform API requests and validate responses.
+ * This class uses {@link ResourceRequest} to perform API requests and validate responses. Only resources owned
+ * by the scenario's {@link DataNamespace} are changed.
  * </p>
  */
 public class ManageResourceSteps {
     private static final Logger logger = LogManager.getLogger(ManageResourceSteps.class);
 
-    private final ResourceRequest resourceRequest = new ResourceRequest();
+    private final ResourceRequest resourceRequest;
+    private final DataNamespace namespace;
     private Response response;
     private List<Resource> resourceList;
 
+    /**
+     * Creates the resource management steps of a scenario.
+     *
+     * @param context The scenario context, injected by Cucumber.
+     */
+    public ManageResourceSteps(ScenarioContext context) {
+        this.resourceRequest = context.getResourceRequest();
+        this.namespace = context.getNamespace();
+    }
+
     @Given("there are at least 5 active resources in the system")
     public void thereAreAtLeast5ActiveResourcesInTheSystem() {
-        response = resourceRequest.getResources();
-        logger.info(response.jsonPath().prettify());
-        Assert.assertEquals(200, response.statusCode());
-
-        resourceList = resourceRequest.getResourcesEntity(response);
-        long activeCount = resourceList.stream().filter(Resource::getActive).count();
-
-        while (activeCount < 5) {
-            response = resourceRequest.createDefaultResource();
-            logger.info(response.statusCode());
-            Assert.assertEquals(201, response.statusCode());
-            resourceList = resourceRequest.getResourcesEntity(resourceRequest.getResources());
-            activeCount = resourceList.stream().filter(Resource::getActive).count();
-        }
+        SeedResult result = DataSeeder.ensureActiveResources(resourceRequest, 5, namespace);
+        logger.info(result);
     }
 
     @When("I retrieve the list of all active resources")
     public void iRetrieveTheListOfAllActiveResources() {
         response = resourceRequest.getResources();
         Assert.assertEquals(200, response.statusCode());
-        logger.info(response.jsonPath().prettify());
+        logger.debug("Response body: {}", () -> TrafficCapture.preview(response));
 
         resourceList = resourceRequest.getResourcesEntity(response);
-        resourceList.removeIf(resource -> !resource.getActive());
+        resourceList.removeIf(resource -> !resource.getActive()
+                || !namespace.owns(Constants.RESOURCES_PATH, resource.getId()));
     }
 
     @Then("I update all the active resources as inactive")
     public void iUpdateAllTheActiveResourcesAsInactive() {
-        for (Resource resource : resourceList) {
-            resource.setActive(false);
-            response = resourceRequest.updateResource(resource, resource.getId());
+        resourceList.forEach(resource -> resource.setActive(false));
+
+        BulkResult<Resource> result = resourceRequest.updateResources(resourceList);
+        result.assertAllSucceeded();
+        for (BulkItemResult<Resource> updated : result.getResults()) {
+            response = updated.getResponse();
             Assert.assertEquals(200, response.statusCode());
-            logger.info("Updated resource with ID: " + resource.getId());
+            logger.info("Updated resource with ID: " + updated.getItem().getId());
         }
     }
 
@@ -1,7 +1,14 @@
 package com.testing.framework.stepDefinitions;
 
+import com.api.framework.data.DataNamespace;
+import com.api.framework.data.DataSeeder;
+import com.api.framework.data.SeedResult;
 import com.api.framework.models.Resource;
 import com.api.framework.requests.ResourceRequest;
+import com.api.framework.requests.TrafficCapture;
+import com.api.framework.utils.Constants;
+import com.testing.framework.context.ScenarioContext;
+import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -11,52 +18,66 @@ import org.apache.logging.log4j.Logger;
 import org.junit.Assert;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * UpdateResourceSteps class contains step definitions for Cucumber scenarios related to updating Resource entities.
  * <p>
- * This class uses {@link ResourceRequest} to perform API requests and validate responses.
+ * This class uses {@link ResourceRequest} to perform API requests and validate responses. The last created
+ * resource is the last one owned by the scenario's {@link DataNamespace}.
  * </p>
  */
 public class UpdateResourceSteps {
     private static final Logger logger = LogManager.getLogger(UpdateResourceSteps.class);
 
-    private final ResourceRequest resourceRequest = new ResourceRequest();
+    private final ResourceRequest resourceRequest;
+    private final DataNamespace namespace;
     private Response response;
     private Resource lastCreatedResource;
 
+    /**
+     * Creates the resource update steps of a scenario.
+     *
+     * @param context The scenario context, injected by Cucumber.
+     */
+    public UpdateResourceSteps(ScenarioContext context) {
+        this.resourceRequest = context.getResourceRequest();
+        this.namespace = context.getNamespace();
+    }
+
     @Given("there are at least 15 resources in the system")
     public void thereAreAtLeast15ResourcesInTheSystem() {
-        response = resourceRequest.getResources();
-        logger.info(response.jsonPath().prettify());
-        Assert.assertEquals(200, response.statusCode());
-
-        List<Resource> resourceList = resourceRequest.getResourcesEntity(response);
-        while (resourceList.size() < 15) {
-            response = resourceRequest.createDefaultResource();
-            logger.info(response.statusCode());
-            Assert.assertEquals(201, response.statusCode());
-            resourceList = resourceRequest.getResourcesEntity(resourceRequest.getResources());
-        }
+        SeedResult result = DataSeeder.ensureResources(resourceRequest, 15, namespace);
+        logger.info(result);
     }
 
     @When("I retrieve the last created resource")
     public void iRetrieveTheLastCreatedResource() {
         response = resourceRequest.getResources();
-        logger.info(response.jsonPath().prettify());
+        logger.debug("Response body: {}", () -> TrafficCapture.preview(response));
         Assert.assertEquals(200, response.statusCode());
 
         List<Resource> resourceList = resourceRequest.getResourcesEntity(response);
+        resourceList.removeIf(resource -> !namespace.owns(Constants.RESOURCES_PATH, resource.getId()));
         lastCreatedResource = resourceList.get(resourceList.size() - 1);
-        logger.info("Last created resource: " + lastCreatedResource);
+        logger.info("Last created resource: {}", lastCreatedResource);
     }
 
     @When("I update all the parameters of the last created resource with the following details")
-    public void iUpdateAllTheParametersOfTheLastCreatedResource(String requestBody) {
-        Resource updatedResource = resourceRequest.getResourceEntity(requestBody);
-        updatedResource.setId(lastCreatedResource.getId());
+    public void iUpdateAllTheParametersOfTheLastCreatedResource(DataTable resourceData) {
+        Map<String, String> resourceDataMap = resourceData.asMaps().get(0);
+        Resource updatedResource = Resource.builder()
+                .name(resourceDataMap.get("name"))
+                .trademark(resourceDataMap.get("trademark"))
+                .stock(resourceDataMap.get("stock"))
+                .price(resourceDataMap.get("price"))
+                .description(resourceDataMap.get("description"))
+                .tags(resourceDataMap.get("tags"))
+                .active(Boolean.parseBoolean(resourceDataMap.get("active")))
+                .id(lastCreatedResource.getId())
+                .build();
         response = resourceRequest.updateResource(updatedResource, lastCreatedResource.getId());
-        logger.info(response.jsonPath().prettify());
+        logger.debug("Response body: {}", () -> TrafficCapture.preview(response));
     }
 
     @Then("the response body should match the resource JSON schema")
@@ -73,8 +94,8 @@ public class UpdateResourceSteps {
         Assert.assertNotEquals(lastCreatedResource, updatedResource);
     }
 
-    @Then("the response should have a status code of {int}")
-    public void theResponseShouldHaveAStatusCodeOf(int statusCode) {
+    @Then("the updated resource should have a status code of {int}")
+    public void theUpdatedResourceShouldHaveAStatusCodeOf(int statusCode) {
         Assert.assertEquals(statusCode, response.statusCode());
     }
 }
\ No newline at end of file
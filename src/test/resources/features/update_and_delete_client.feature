@@ -13,7 +13,9 @@ Feature: Verify Clients endpoints
 
   @smoke
   Scenario: Read details of an existing client
-    Given there are at least 10 registered clients in the system
+    Given there are at least 10 registered clients in the system with the following details:
+      | Name  | LastName | Country  | City     | Phone      | Email                 |
+      | Diego | Navarro  | Colombia | Medellin | 3003391905 | diegonava@example.com |
     When I retrieve the details of the client with id "1"
     Then the client should have a status code of 200
     And the client should have the following details:
@@ -23,7 +25,9 @@ Feature: Verify Clients endpoints
 
   @smoke
   Scenario: Update client details
-    Given there are at least 10 registered clients in the system
+    Given there are at least 10 registered clients in the system with the following details:
+      | Name  | LastName | Country  | City     | Phone      | Email                 |
+      | Diego | Navarro  | Colombia | Medellin | 3003391905 | diegonava@example.com |
     And I retrieve the details of the client with name "Diego"
     When I send a PUT request to update the client with ID "1"
     """
@@ -44,7 +48,9 @@ Feature: Verify Clients endpoints
 
   @smoke @regression
   Scenario: Delete an existing client
-    Given there are at least 10 registered clients in the system
+    Given there are at least 10 registered clients in the system with the following details:
+      | Name  | LastName | Country  | City   | Phone   | Email                  |
+      | Diego | Navarro  | Colombia | Bogota | 3132131 | diegonava1@example.com |
     When I send a DELETE request to delete the client with ID "1"
     Then the client should have a status code of 200
     And the client should have the following details: